@@ -16,24 +16,22 @@ package com.yf.afreesvg;
 import android.graphics.Paint;
 
 import androidx.annotation.ColorInt;
-import androidx.annotation.StringDef;
+import androidx.annotation.ColorLong;
 
 import com.yf.afreesvg.filter.SVGFilter;
 import com.yf.afreesvg.font.SVGFont;
 import com.yf.afreesvg.gradient.SVGGradient;
 
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-
 /**
  * The SVGPaint
  * Use it to set draw style,it inherit {@link Paint}
+ * and implements {@link SVGPaintAttrs} so {@link SVGBaseCanvas} can read it
  * if you want to learn about the format and attrs of svg,plz refer to http://www.verydoc.net/svg/
  *
  * @author iffly
  * @since 0.0.1
  */
-public class SVGPaint extends Paint {
+public class SVGPaint extends Paint implements SVGPaintAttrs {
     /**
      * The stroke dash
      */
@@ -62,7 +60,7 @@ public class SVGPaint extends Paint {
     protected boolean useGradientStroke = false;
     /**
      * The text font
-     * use it to {@link SVGCanvas#drawText(String, float, float, SVGPaint)}
+     * use it to {@link SVGBaseCanvas#drawText(String, float, float, SVGPaintAttrs)}
      *
      * @see SVGFont
      */
@@ -90,34 +88,15 @@ public class SVGPaint extends Paint {
      * @since 0.0.2
      */
     protected SVGFilter filter;
+    /**
+     * It is increased when the style attrs change
+     *
+     * @see #getGenerationId()
+     * @since 0.0.7
+     */
+    private int generationId = 0;
 
 
-    @StringDef({LengthAdjust.LENGTH_ADJUST_SPACING, LengthAdjust.LENGTH_ADJUST_SPACINGANDGLYPHS})
-    @Retention(RetentionPolicy.SOURCE)
-    public @interface LengthAdjust {
-        String LENGTH_ADJUST_SPACING = "spacing";
-        String LENGTH_ADJUST_SPACINGANDGLYPHS = "spacingAndGlyphs";
-    }
-
-    @StringDef({FillRule.FILL_RULE_DEFAULT, FillRule.FILL_RULE_EVENODD})
-    @Retention(RetentionPolicy.SOURCE)
-    public @interface FillRule {
-        String FILL_RULE_DEFAULT = "nonzero";
-        String FILL_RULE_EVENODD = "evenodd";
-    }
-
-    @StringDef({TextDecoration.TEXT_DECORATION_NONE, TextDecoration.TEXT_DECORATION_UNDERLINE,
-            TextDecoration.TEXT_DECORATION_OVERLINE, TextDecoration.TEXT_DECORATION_LINETHROUGH, TextDecoration.TEXT_DECORATION_BLINK})
-    @Retention(RetentionPolicy.SOURCE)
-    public @interface TextDecoration {
-
-        String TEXT_DECORATION_NONE = "none";
-        String TEXT_DECORATION_UNDERLINE = "underline";
-        String TEXT_DECORATION_OVERLINE = "overline";
-        String TEXT_DECORATION_LINETHROUGH = "line-through";
-        String TEXT_DECORATION_BLINK = "blink";
-    }
-
     /**
      * Construct
      * refer to {@link Paint#Paint()}
@@ -156,6 +135,7 @@ public class SVGPaint extends Paint {
      * @since 0.0.1
      */
     public void setDashArray(float[] dashArray) {
+        ++generationId;
         this.dashArray = dashArray;
     }
 
@@ -177,6 +157,7 @@ public class SVGPaint extends Paint {
      */
 
     public void setGradient(SVGGradient gradient) {
+        ++generationId;
         this.gradient = gradient;
     }
 
@@ -210,6 +191,7 @@ public class SVGPaint extends Paint {
      * @param fillRule The fill rule,{@link FillRule}
      */
     public void setFillRule(String fillRule) {
+        ++generationId;
         this.fillRule = fillRule;
     }
 
@@ -230,6 +212,7 @@ public class SVGPaint extends Paint {
      * @since 0.0.1
      */
     public void setFillColor(@ColorInt int fillColor) {
+        ++generationId;
         this.fillColor = fillColor;
     }
 
@@ -262,6 +245,7 @@ public class SVGPaint extends Paint {
      * @since 0.0.1
      */
     public void setUseGradientStroke(boolean useGradientStroke) {
+        ++generationId;
         this.useGradientStroke = useGradientStroke;
     }
 
@@ -269,7 +253,7 @@ public class SVGPaint extends Paint {
      * Get text font
      *
      * @return font {@link SVGFont}
-     * @see SVGCanvas#drawText(String, float, float, SVGPaint)
+     * @see SVGBaseCanvas#drawText(String, float, float, SVGPaintAttrs)
      * @since 0.0.1
      */
     public SVGFont getFont() {
@@ -283,6 +267,7 @@ public class SVGPaint extends Paint {
      * @since 0.0.1
      */
     public void setFont(SVGFont font) {
+        ++generationId;
         this.font = font;
     }
 
@@ -304,6 +289,7 @@ public class SVGPaint extends Paint {
      * @since 0.0.1
      */
     public void setLengthAdjust(@LengthAdjust String lengthAdjust) {
+        ++generationId;
         this.lengthAdjust = lengthAdjust;
     }
 
@@ -326,6 +312,7 @@ public class SVGPaint extends Paint {
      * @since 0.0.1
      */
     public void setTextDecoration(@TextDecoration String textDecoration) {
+        ++generationId;
         this.textDecoration = textDecoration;
     }
 
@@ -348,6 +335,7 @@ public class SVGPaint extends Paint {
      */
     @Override
     public void setWordSpacing(float wordSpacing) {
+        ++generationId;
         this.wordSpacing = wordSpacing;
     }
 
@@ -368,6 +356,189 @@ public class SVGPaint extends Paint {
      * @since 0.0.2
      */
     public void setFilter(SVGFilter filter) {
+        ++generationId;
         this.filter = filter;
     }
+
+    @Override
+    public void set(Paint src) {
+        super.set(src);
+        ++generationId;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        ++generationId;
+    }
+
+    @Override
+    public void setColor(@ColorInt int color) {
+        super.setColor(color);
+        ++generationId;
+    }
+
+    @Override
+    public void setColor(@ColorLong long color) {
+        super.setColor(color);
+        ++generationId;
+    }
+
+    @Override
+    public void setARGB(int a, int r, int g, int b) {
+        super.setARGB(a, r, g, b);
+        ++generationId;
+    }
+
+    @Override
+    public void setAlpha(int a) {
+        super.setAlpha(a);
+        ++generationId;
+    }
+
+    @Override
+    public void setStyle(Style style) {
+        super.setStyle(style);
+        ++generationId;
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        super.setStrokeWidth(width);
+        ++generationId;
+    }
+
+    @Override
+    public void setStrokeCap(Cap cap) {
+        super.setStrokeCap(cap);
+        ++generationId;
+    }
+
+    @Override
+    public void setStrokeJoin(Join join) {
+        super.setStrokeJoin(join);
+        ++generationId;
+    }
+
+    @Override
+    public void setStrokeMiter(float miter) {
+        super.setStrokeMiter(miter);
+        ++generationId;
+    }
+
+    /**
+     * Get the generation id,it is increased by the setters of style attrs,
+     * include the overridden setters of {@link Paint}
+     *
+     * @return The generation id
+     * @since 0.0.7
+     */
+    @Override
+    public int getGenerationId() {
+        return generationId;
+    }
+
+    /**
+     * Convert the current attrs into the immutable {@link SVGStyle}
+     * <p>
+     * The style does not hold the paint,so it can be cached and shared by the canvas,
+     * the later changes of the paint do not change the style.
+     * </p>
+     *
+     * @return The style
+     * @since 0.0.7
+     */
+    public SVGStyle toSVGStyle() {
+        return new SVGStyle.Builder(this).build();
+    }
+
+    /**
+     * Whether draw the stroke,it is false when style is {@link Paint.Style#FILL}
+     *
+     * @return true if stroke
+     * @since 0.0.7
+     */
+    @Override
+    public boolean hasStroke() {
+        return getStyle() != Style.FILL;
+    }
+
+    /**
+     * Whether fill the shape,it is false when style is {@link Paint.Style#STROKE}
+     *
+     * @return true if fill
+     * @since 0.0.7
+     */
+    @Override
+    public boolean hasFill() {
+        return getStyle() != Style.STROKE;
+    }
+
+    /**
+     * Get stroke line cap of {@link #getStrokeCap()}
+     *
+     * @return The line cap,{@link LineCap}
+     * @since 0.0.7
+     */
+    @Override
+    public @LineCap
+    String getStrokeLineCap() {
+        Cap cap = getStrokeCap();
+        if (cap == null)
+            return null;
+        switch (cap) {
+            case ROUND:
+                return LineCap.LINE_CAP_ROUND;
+            case SQUARE:
+                return LineCap.LINE_CAP_SQUARE;
+            case BUTT:
+            default:
+                return LineCap.LINE_CAP_BUTT;
+        }
+    }
+
+    /**
+     * Get stroke line join of {@link #getStrokeJoin()}
+     *
+     * @return The line join,{@link LineJoin}
+     * @since 0.0.7
+     */
+    @Override
+    public @LineJoin
+    String getStrokeLineJoin() {
+        Join join = getStrokeJoin();
+        if (join == null)
+            return null;
+        switch (join) {
+            case BEVEL:
+                return LineJoin.LINE_JOIN_BEVEL;
+            case ROUND:
+                return LineJoin.LINE_JOIN_ROUND;
+            case MITER:
+            default:
+                return LineJoin.LINE_JOIN_MITER;
+        }
+    }
+
+    /**
+     * Get text anchor of {@link #getTextAlign()}
+     *
+     * @return The text anchor,{@link TextAnchor}
+     * @since 0.0.7
+     */
+    @Override
+    public @TextAnchor
+    String getTextAnchor() {
+        Align align = getTextAlign();
+        if (align == null)
+            return TextAnchor.TEXT_ANCHOR_START;
+        switch (align) {
+            case CENTER:
+                return TextAnchor.TEXT_ANCHOR_MIDDLE;
+            case RIGHT:
+                return TextAnchor.TEXT_ANCHOR_END;
+            default:
+                return TextAnchor.TEXT_ANCHOR_START;
+        }
+    }
 }
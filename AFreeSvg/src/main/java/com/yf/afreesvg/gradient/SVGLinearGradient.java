@@ -15,22 +15,16 @@ package com.yf.afreesvg.gradient;
 
 import android.graphics.PointF;
 
-import com.yf.afreesvg.SVGCanvas;
 import com.yf.afreesvg.PosMode;
-import com.yf.afreesvg.util.DoubleFunction;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-
-import java.util.Objects;
 
 /**
  * LinearGradient
+ * It keeps the start and end PointF,the coordinates are read from them when generating svg
  *
  * @author iffly
  * @since 0.0.1
  */
-public class SVGLinearGradient extends SVGBaseGradient {
+public class SVGLinearGradient extends SVGBaseLinearGradient {
 
     /**
      * start point
@@ -46,7 +40,7 @@ public class SVGLinearGradient extends SVGBaseGradient {
     }
 
     public SVGLinearGradient(PointF startPoint, PointF endPoint, @PosMode String mode) {
-        super(mode);
+        super(0, 0, 0, 0, mode);
         this.startPoint = startPoint;
         this.endPoint = endPoint;
 
@@ -97,29 +91,42 @@ public class SVGLinearGradient extends SVGBaseGradient {
     }
 
     @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        SVGLinearGradient that = (SVGLinearGradient) o;
-        return super.equals(that) &&
-                Objects.equals(startPoint, that.startPoint) &&
-                Objects.equals(endPoint, that.endPoint);
+    public float getX1() {
+        return startPoint.x;
+    }
+
+    @Override
+    public void setX1(float x1) {
+        startPoint.x = x1;
+    }
+
+    @Override
+    public float getY1() {
+        return startPoint.y;
+    }
+
+    @Override
+    public void setY1(float y1) {
+        startPoint.y = y1;
+    }
+
+    @Override
+    public float getX2() {
+        return endPoint.x;
+    }
+
+    @Override
+    public void setX2(float x2) {
+        endPoint.x = x2;
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), startPoint, endPoint);
+    public float getY2() {
+        return endPoint.y;
     }
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
-        Element element = document.createElement("linearGradient");
-
-        element.setAttribute("x1", convert.apply(startPoint.x));
-        element.setAttribute("y1", convert.apply(startPoint.y));
-        element.setAttribute("x2", convert.apply(endPoint.x));
-        element.setAttribute("y2", convert.apply(endPoint.y));
-        initBaseGradientAttr(element, document, convert);
-        return element;
+    public void setY2(float y2) {
+        endPoint.y = y2;
     }
 }
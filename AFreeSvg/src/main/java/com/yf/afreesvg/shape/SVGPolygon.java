@@ -17,27 +17,32 @@ import android.graphics.PointF;
 
 import androidx.annotation.NonNull;
 
-import com.yf.afreesvg.SVGCanvas;
-import com.yf.afreesvg.util.DoubleFunction;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-
-import java.util.Arrays;
-
 /**
  * Polygon shape
+ * It reads the points from PointF[],the pure java canvas use {@link SVGPointsShape}
  *
  * @author iffly
  * @since 0.0.1
  */
-public class SVGPolygon extends SVGBaseShape {
+public class SVGPolygon extends SVGPointsShape {
     /**
      * points
      */
     protected PointF[] points;
 
     public SVGPolygon(PointF[] points) {
+        this(points, true);
+    }
+
+    /**
+     * Create polygon or polyline of PointF[]
+     *
+     * @param points The points
+     * @param closed true means polygon
+     * @since 0.0.7
+     */
+    protected SVGPolygon(PointF[] points, boolean closed) {
+        super(null, closed);
         this.points = points;
     }
 
@@ -51,39 +56,38 @@ public class SVGPolygon extends SVGBaseShape {
         return points;
     }
 
-    @NonNull
     @Override
-    public Object clone() {
-        return new SVGPolygon(points);
+    public int getPointCount() {
+        return points.length;
     }
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
-        Element element = document.createElement("polygon");
-        element.setAttribute("points", getPointsStr(points, convert));
-        addBaseAttr(element);
-        return element;
+    public float getPointX(int index) {
+        return points[index].x;
     }
 
-    protected String getPointsStr(PointF[] points, DoubleFunction<String> convert) {
-        StringBuilder sb = new StringBuilder();
-        if (points.length > 0) {
-            for (PointF point : points)
-                sb.append(" ").append(convert.apply(point.x)).append(",").append(convert.apply(point.y));
-        }
-        return sb.toString();
+    @Override
+    public float getPointY(int index) {
+        return points[index].y;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        SVGPolygon polygon = (SVGPolygon) o;
-        return Arrays.equals(points, polygon.points);
+    /**
+     * Copy the points,so the clone does not change with the points of this polygon
+     *
+     * @return The copy of points
+     * @since 0.0.7
+     */
+    protected PointF[] copyPoints() {
+        PointF[] copy = new PointF[points.length];
+        for (int i = 0; i < points.length; i++) {
+            copy[i] = new PointF(points[i].x, points[i].y);
+        }
+        return copy;
     }
 
+    @NonNull
     @Override
-    public int hashCode() {
-        return Arrays.hashCode(points);
+    public Object clone() {
+        return copyBaseAttr(new SVGPolygon(copyPoints()));
     }
 }
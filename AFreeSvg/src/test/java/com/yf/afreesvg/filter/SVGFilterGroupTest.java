@@ -20,6 +20,7 @@ import org.junit.runner.RunWith;
 import org.w3c.dom.Element;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 
 @RunWith(RobolectricTestRunner.class)
@@ -101,4 +102,23 @@ public class SVGFilterGroupTest extends SVGFilterBaseTest {
 
 
     }
+
+    @Test
+    public void mergeAndCompositeEquals() {
+        SVGFilterGroup.SVGMergeFilterEffect merge1 = new SVGFilterGroup.SVGMergeFilterEffect().addMergeNode("in1");
+        SVGFilterGroup.SVGMergeFilterEffect merge2 = new SVGFilterGroup.SVGMergeFilterEffect().addMergeNode("in1");
+        assertEquals(merge1, merge2);
+        assertEquals(merge1.hashCode(), merge2.hashCode());
+        merge2.addMergeNode("in2");
+        assertNotEquals(merge1, merge2);
+
+        SVGFilterGroup.SVGCompositeFilterEffect composite1 = new SVGFilterGroup.SVGCompositeFilterEffect();
+        composite1.setIn2("in2");
+        SVGFilterGroup.SVGCompositeFilterEffect composite2 = new SVGFilterGroup.SVGCompositeFilterEffect();
+        composite2.setIn2("in2");
+        assertEquals(composite1, composite2);
+        assertEquals(composite1.hashCode(), composite2.hashCode());
+        composite2.setK1(1);
+        assertNotEquals(composite1, composite2);
+    }
 }
\ No newline at end of file
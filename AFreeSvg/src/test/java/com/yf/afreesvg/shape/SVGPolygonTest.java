@@ -15,6 +15,7 @@ package com.yf.afreesvg.shape;
 
 import android.graphics.PointF;
 
+import com.yf.afreesvg.SVGPaintAttrs;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.junit.Assert;
@@ -65,4 +66,16 @@ public class SVGPolygonTest extends SVGShapeBaseTest {
         Assert.assertEquals(getPointStr(canvas.getGeomDoubleConverter()), str);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void cloneCopiesPoints() {
+        SVGPolygon polygon = new SVGPolygon(points);
+        polygon.setClipRule(SVGPaintAttrs.FillRule.FILL_RULE_EVENODD);
+        SVGPolygon clone = (SVGPolygon) polygon.clone();
+        Assert.assertEquals(SVGPaintAttrs.FillRule.FILL_RULE_EVENODD, clone.getClipRule());
+        float x = points[0].x;
+        points[0].x = 77;
+        Assert.assertEquals(x, clone.getPointX(0), 0);
+        points[0].x = x;
+    }
+}
@@ -28,11 +28,11 @@ public interface ConvertToSVGElement {
     /**
      * Convert class to dom element
      *
-     * @param canvas   The svg canvas,{@link SVGCanvas}
+     * @param canvas   The svg canvas,{@link SVGBaseCanvas}
      * @param document The dom document,use it to create dom element {@link Document}
      * @param convert  The double convert,convert double to string
      * @return The dom element
      * @since 0.0.1
      */
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert);
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert);
 }
@@ -0,0 +1,3055 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+
+import com.yf.afreesvg.filter.SVGFilter;
+import com.yf.afreesvg.gradient.SVGGradient;
+import com.yf.afreesvg.shape.SVGCircle;
+import com.yf.afreesvg.shape.SVGClipShape;
+import com.yf.afreesvg.shape.SVGLine;
+import com.yf.afreesvg.shape.SVGOval;
+import com.yf.afreesvg.shape.SVGPath;
+import com.yf.afreesvg.shape.SVGPointsShape;
+import com.yf.afreesvg.shape.SVGRect;
+import com.yf.afreesvg.shape.SVGShape;
+import com.yf.afreesvg.shape.SVGShapeGroup;
+import com.yf.afreesvg.shape.SVGTextPath;
+import com.yf.afreesvg.util.Args;
+import com.yf.afreesvg.util.DoubleFunction;
+import com.yf.afreesvg.util.RyuDoubleConverter;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+
+
+/**
+ * The pure java svg canvas.
+ * You can use it to generate svg file without android,the api refer to android.graphics.Canvas
+ * When draw shape,use {@link SVGPaintAttrs} to set style,such as {@link SVGBasePaint}
+ * <p>
+ * The android SVGCanvas extends it and adds the android.graphics overloads
+ * if you want to learn about the format and attrs of svg,plz refer to http://www.verydoc.net/svg/
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public class SVGBaseCanvas {
+    /**
+     * The prefix for keys used to identify clip paths.
+     */
+    private static final String CLIP_KEY_PREFIX = "clip-";
+    /**
+     * The prefix for keys used to identify symbols of repeated shapes.
+     */
+    private static final String SYMBOL_KEY_PREFIX = "symbol-";
+    /**
+     * The prefix for keys used to identify  paths.
+     */
+    private static final String TEXT_PATH_KEY_PREFIX = "Path-";
+    /**
+     * The prefix for keys used to identify filters.
+     */
+    private static final String FILTER_KEY_PREFIX = "filter-";
+
+    private static final String SVG_NAME = "svg";
+    private static final String DEFS_NAME = "defs";
+    private static final String STYLE_NAME = "style";
+    /**
+     * The prefix of the class name of interned style
+     */
+    private static final String STYLE_CLASS_PREFIX = "s";
+    private static final String G_NAME = "g";
+
+    /**
+     * The default number converter,it has no state so all canvases share it
+     */
+    private static final DoubleFunction<String> DEFAULT_DOUBLE_CONVERTER = new RyuDoubleConverter();
+    /**
+     * The factory looks up the implementation by service loader,so it is created once.
+     * It is not thread safe,the builders are created from it with lock.
+     */
+    private static DocumentBuilderFactory documentBuilderFactory;
+    /**
+     * The document builder of each thread,it is not thread safe and is reused by the canvases of the thread
+     *
+     * @see #getDocumentBuilder()
+     */
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<>();
+
+    /**
+     * The svg doctype public id and system id
+     */
+    static final String DOCTYPE_PUBLIC_ID = "-//W3C//DTD SVG 1.0//EN";
+    static final String DOCTYPE_SYSTEM_ID = "http://www.w3.org/TR/2001/REC-SVG-20010904/DTD/svg10.dtd";
+
+    /**
+     * A prefix for the keys used in the DEFS element.  This can be used to
+     * ensure that the keys are unique when creating more than one SVG element
+     * for a single HTML page.
+     * The default prefix uses the time,set a seed for the same output of the same drawing.
+     *
+     * @see #setDefsKeySeed(long)
+     */
+    private String defsKeyPrefix = "def_" + System.nanoTime() + "_";
+
+    /**
+     * The default stroke style
+     */
+    private static final String DEFAULT_STROKE_CAP = "butt";
+    private static final String DEFAULT_STROKE_JOIN = "miter";
+    private static final float DEFAULT_MITER_LIMIT = 4.0f;
+    /**
+     * The tolerance to check that the matrix keeps the stroke width,the float sin and cos of rotation are not exact
+     */
+    private static final float BAKE_TOLERANCE = 1e-6f;
+    private static final float SQRT_2 = (float) Math.sqrt(2);
+
+    /**
+     * The width of the SVG.
+     */
+    private double width;
+
+    /**
+     * The height of the SVG.
+     */
+    private double height;
+
+    /**
+     * The clip shape (can be null).
+     * When use clip,it will only draw into the clip shape.
+     *
+     * @see #clip(SVGClipShape)
+     * @see #addClipToElement(Element)
+     */
+    private SVGClipShape clip;
+
+    /**
+     * The reference for the current clip.
+     *
+     * @see #registerClip(SVGClipShape)
+     */
+    private String clipRef;
+
+    /**
+     * The draw count to promote a shape into symbol,0 means not use symbol
+     *
+     * @see #setSymbolThreshold(int)
+     */
+    private int symbolThreshold = 0;
+    /**
+     * The max count of the shapes which are counted but not promoted into symbol
+     *
+     * @see #symbolCandidates
+     */
+    private static final int MAX_SYMBOL_CANDIDATES = 1024;
+    /**
+     * A map of the content digest of drawn shapes and their draw count,in the least recently drawn order.
+     * Only the digest is kept,so the shapes are not cloned before they are promoted,
+     * and the least recently drawn one is dropped when it has more than {@link #MAX_SYMBOL_CANDIDATES} shapes.
+     *
+     * @see #getSymbolRef(SVGShape)
+     */
+    private final Map<Long, ShapeInstance> symbolCandidates = new LinkedHashMap<Long, ShapeInstance>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ShapeInstance> eldest) {
+            return size() > MAX_SYMBOL_CANDIDATES;
+        }
+    };
+    /**
+     * A map of the content digest of promoted shapes and their symbol.
+     * The shapes are cloned when they are promoted,so the shapes can be changed after draw.
+     *
+     * @see #getSymbolRef(SVGShape)
+     */
+    private final Map<Long, ShapeInstance> shapeInstances = new HashMap<>();
+    /**
+     * The symbolCount to generate symbol id
+     *
+     * @see #getSymbolRef(SVGShape)
+     */
+    private int symbolCount = 0;
+
+    /**
+     * The function used to convert double values to strings for the geometry
+     * coordinates in the SVG output.
+     */
+    private DoubleFunction<String> geomDoubleConverter;
+
+    /**
+     * The function used to convert double values to strings when writing
+     * matrix values for transforms in the SVG output.
+     */
+    private DoubleFunction<String> transformDoubleConverter;
+
+    /**
+     * The registry of all the gradients,filters,clip paths and text paths used,and the corresponding id.
+     * When generating the SVG file,all of them must be defined in the defs element,
+     * the same content is defined once.
+     *
+     * @see #registerDef(Object, Element, String)
+     */
+    private final SVGDefsRegistry defsRegistry = new SVGDefsRegistry();
+    /**
+     * Whether write the repeated element styles as css classes
+     *
+     * @see #setUseStyleClass(boolean)
+     */
+    private boolean useStyleClass = false;
+    /**
+     * A map of the interned style strings,and the corresponding class name.
+     * The rules of them are written in the style element of defs.
+     *
+     * @see #internStyleClasses()
+     */
+    private final Map<String, String> styleClasses = new LinkedHashMap<>();
+    private Element styleElement;
+    private long styleClassSavedSize;
+    /**
+     * The rolling hash of the drawn content
+     *
+     * @see #getContentHash()
+     */
+    private long contentHash;
+    /**
+     * Whether remove the defs which are not referenced by the svg elements
+     *
+     * @see #setPruneUnusedDefs(boolean)
+     */
+    private boolean pruneUnusedDefs = false;
+    /**
+     * Whether write the transform into the shape coordinates
+     *
+     * @see #setBakeTransform(boolean)
+     */
+    private boolean bakeTransform = false;
+    /**
+     * Whether skip the shapes which are out of the canvas or the clip
+     *
+     * @see #setCulling(boolean)
+     */
+    private boolean culling = false;
+    /**
+     * The device pixel size of level of detail,0 means draw all details
+     *
+     * @see #setLevelOfDetail(float)
+     */
+    private float lodPixelSize = 0;
+    /**
+     * The pixels which have a small shape of the style,the key is the style string
+     *
+     * @see #isMergedIntoPixel(float[], SVGPaintAttrs)
+     */
+    private final Map<String, Set<Long>> lodPixels = new HashMap<>();
+    /**
+     * The shape bounds and the draw bounds of culling and level of detail
+     */
+    private final float[] geomBounds = new float[4];
+    private final float[] drawBounds = new float[4];
+    /**
+     * The clip bounds of culling,it is computed once for a clip because the clip is frozen
+     */
+    private final float[] clipBounds = new float[4];
+    private SVGClipShape clipBoundsShape;
+    private boolean hasClipBounds;
+    /**
+     * The count of saved layers,the layer has its own viewport so it is not culled
+     */
+    private int layerCount;
+
+    /**
+     * Units for the width and height of the SVG, if null then no
+     * unit information is written in the SVG output.  This is set via
+     * the class constructors.
+     */
+    private final SVGUnits units;
+
+    private SVGUnits fontSizeUnit = SVGUnits.PX;
+
+    /**
+     * A set of element IDs.
+     * It use to ensure id uniqueness
+     *
+     * @see #setElementId(Element, String)
+     */
+    private final Set<String> elementIDs;
+
+    /**
+     * The current layer svg element,the drawop will add to the element
+     * if have not created new layer, it is {@link #rootSvgElement}
+     * if create a new layer, it will create a new element
+     * if restore,it will add now layer to the prev layer element and restore it to the prev layer
+     */
+    private Element layerElement;
+
+    /**
+     * The def element,when generate svg xml string,it will append to svgElement
+     */
+    private Element defElement;
+
+    /**
+     * The root svg element,use dom to generate svg xml string
+     *
+     * @since 0.0.4
+     */
+    private Element rootSvgElement;
+
+
+    /**
+     * The dom document,use it to generate element
+     */
+    private final Document document;
+    /**
+     * The transform of canvas.
+     * It is used for canvas coordinate transformation.
+     * <p>You can use {@link #translate(float, float)},{@link #rotate(float, float, float)},
+     * {@link #skew(float, float, float, float)},{@link #scale(float, float)} to transform canvas
+     * coordinate.
+     * </p>
+     * it will be save when use {@link #save()}
+     */
+    private final SVGMatrix transform = new SVGMatrix();
+
+    /**
+     * The style string of last draw,it is reused when the paint,its generation id,
+     * dash array and gradient id are same
+     *
+     * @see #style(SVGPaintAttrs)
+     */
+    private String lastStyle;
+    private SVGPaintAttrs lastStylePaint;
+    private int lastStyleGenerationId;
+    /**
+     * The copy of the dash array of last style,the array of paint can be changed in place
+     */
+    private float[] lastStyleDash;
+    /**
+     * The def id of the gradient of last style,the ids are keyed by the gradient content
+     */
+    private String lastStyleGradientId;
+    /**
+     * The style strings of {@link SVGStyle},the equal styles share one string
+     *
+     * @see #style(SVGPaintAttrs)
+     */
+    private final Map<SVGStyle, String> styleStrings = new HashMap<>();
+    /**
+     * The transform string of last draw,it is reused when the matrix and its generation id are same
+     *
+     * @see #addTransformToElement(Element)
+     */
+    private String lastTransform;
+    private SVGMatrix lastTransformMatrix;
+    private int lastTransformGenerationId;
+    /**
+     * The clip url of last draw,it is reused when the clip id is same
+     *
+     * @see #getClipRef()
+     */
+    private String lastClipUrl;
+    private String lastClipRef;
+
+    /**
+     * The clip save flags.
+     *
+     * @see Saveflags
+     * @see #save(int)
+     */
+    public static final int SAVE_FLAG_CLIP = 0x01;
+    /**
+     * The matrix save flags.
+     *
+     * @see Saveflags
+     * @see #save(int)
+     */
+    public static final int SAVE_FLAG_MATRIX = 1 << 1;
+
+    /**
+     * The layer save flags.
+     *
+     * @see #saveLayer(float, float, float, float)
+     */
+    public static final int SAVE_FLAG_LAYER = 0x04;
+
+    @IntDef(flag = true,
+            value = {
+                    SAVE_FLAG_CLIP,
+                    SAVE_FLAG_MATRIX,
+                    SAVE_FLAG_CLIP | SAVE_FLAG_MATRIX
+            })
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Saveflags {
+    }
+
+    /**
+     * The all save flags.
+     *
+     * @see #save(int)
+     */
+    public static final int SAVE_FLAG_ALL = 0xffff;
+    /**
+     * The save stack,it keeps the flags,transform,clip and layer of every save.
+     * Pop the entry when restore,and do some action to restore canvas
+     *
+     * @see #SAVE_FLAG_ALL {@link #SAVE_FLAG_CLIP} {@link #SAVE_FLAG_MATRIX}
+     * @see #save()  {@link #restore()}
+     */
+    private final SVGSaveStack saveStack = new SVGSaveStack();
+
+    /**
+     * enable it to compatible with android
+     * because of android vector cannot support all svg format,
+     * you can set it true to compatible with android
+     * when it is true, when {@link #saveLayer(float, float, float, float)} }, it will use "<g></g>" replace "<svg></svg>"
+     */
+    private final boolean compatibleWithAndroid;
+
+
+    /**
+     * Construct
+     *
+     * @param width  svg width
+     * @param height svg height
+     * @throws ParserConfigurationException
+     */
+
+    public SVGBaseCanvas(double width, double height) throws ParserConfigurationException {
+        this(width, height, null, true);
+    }
+
+    /**
+     * Construct
+     *
+     * @param width                 svg width
+     * @param height                svg height
+     * @param units                 svg size units
+     * @param compatibleWithAndroid {@link #compatibleWithAndroid}
+     * @throws ParserConfigurationException
+     */
+    public SVGBaseCanvas(double width, double height, SVGUnits units, boolean compatibleWithAndroid) throws ParserConfigurationException {
+        this(width, height, units, compatibleWithAndroid, null);
+    }
+
+    public SVGBaseCanvas(double width, double height, SVGUnits units, boolean compatibleWithAndroid, InputStream inputStream) throws ParserConfigurationException {
+        this.width = width;
+        this.height = height;
+        this.compatibleWithAndroid = compatibleWithAndroid;
+
+        this.units = units;
+        elementIDs = new TreeSet<>();
+
+        DocumentBuilder documentBuilder = getDocumentBuilder();
+        Document tempDocument = null;
+        try {
+            if (inputStream != null) {
+                Document inputDocument = documentBuilder.parse(inputStream);
+                Element root = inputDocument.getDocumentElement();
+                if (root.getNodeName().equals(SVG_NAME)) {
+                    tempDocument = inputDocument;
+                    rootSvgElement = root;
+                    layerElement = rootSvgElement;
+                    initDefFromRootElement();
+                }
+
+            }
+        } catch (IOException | SAXException ignored) {
+
+        }
+
+        if (tempDocument != null) {
+            document = tempDocument;
+        } else {
+            document = documentBuilder.newDocument();
+            initRootSvgElement();
+        }
+
+        initXmlVersion();
+
+        geomDoubleConverter = DEFAULT_DOUBLE_CONVERTER;
+        transformDoubleConverter = geomDoubleConverter;
+        resetContentHash();
+    }
+
+    /**
+     * Get the document builder of current thread,it is reset to the initial config
+     */
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = DOCUMENT_BUILDER.get();
+        if (builder == null) {
+            synchronized (SVGBaseCanvas.class) {
+                if (documentBuilderFactory == null) {
+                    documentBuilderFactory = DocumentBuilderFactory.newInstance();
+                }
+                builder = documentBuilderFactory.newDocumentBuilder();
+            }
+            DOCUMENT_BUILDER.set(builder);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
+
+    private void initDefFromRootElement() {
+        NodeList nodeList = rootSvgElement.getChildNodes();
+        for (int i = 0; i < nodeList.getLength(); ++i) {
+            Node n = nodeList.item(i);
+            if (n instanceof Element && n.getNodeName().equals(DEFS_NAME)) {
+                defElement = (Element) n;
+                break;
+            }
+        }
+        if (defElement != null) {
+            rootSvgElement.removeChild(defElement);
+            rootSvgElement.insertBefore(defElement, rootSvgElement.getFirstChild());
+        }
+    }
+
+    private void initRootSvgElement() {
+        rootSvgElement = document.createElement(SVG_NAME);
+        document.appendChild(rootSvgElement);
+
+        layerElement = rootSvgElement;
+    }
+
+    /**
+     * Return the svg font size unit
+     *
+     * @return the svg font size unit
+     * @since 0.0.1
+     */
+
+    public SVGUnits getFontSizeUnit() {
+        return fontSizeUnit;
+    }
+
+    /**
+     * Set font size unit.
+     *
+     * @param fontSizeUnit it will be used when drawText
+     * @see #drawTextOnPath(String, float, float, float, int, SVGPath, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void setFontSizeUnit(SVGUnits fontSizeUnit) {
+        this.fontSizeUnit = fontSizeUnit;
+    }
+
+    /**
+     * Return the prefix of defs element id
+     *
+     * @return
+     * @since 0.0.1
+     */
+    public String getDefsKeyPrefix() {
+        return defsKeyPrefix;
+    }
+
+    /**
+     * Set the prefix of defs element
+     *
+     * @param defsKeyPrefix the prefix string
+     * @since 0.0.1
+     */
+    public void setDefsKeyPrefix(@NonNull String defsKeyPrefix) {
+        this.defsKeyPrefix = defsKeyPrefix;
+        invalidateAttrCache();
+    }
+
+    /**
+     * Set the prefix of defs element that is derived from the seed
+     * <p>
+     * The default prefix uses the time,so the same drawing generates different ids each time.
+     * The ids of gradient,filter,clip,text path and symbol are numbered in draw order after the prefix,
+     * so the same drawing with the same seed generates the byte-identical svg,
+     * which can be cached and diffed by its hash.
+     * The seed can be the hash of the drawing data,the different seeds keep the ids unique
+     * when more than one svg is in a single HTML page.
+     * It should be set before draw.
+     * </p>
+     *
+     * @param seed The seed
+     * @see #setDefsKeyPrefix(String)
+     * @since 0.0.7
+     */
+    public void setDefsKeySeed(long seed) {
+        setDefsKeyPrefix("def_" + Long.toHexString(seed) + "_");
+    }
+
+    /**
+     * Return the draw count to promote a shape into symbol
+     *
+     * @return The threshold,0 means not use symbol
+     * @see #setSymbolThreshold(int)
+     * @since 0.0.7
+     */
+    public int getSymbolThreshold() {
+        return symbolThreshold;
+    }
+
+    /**
+     * Set the draw count to promote a shape into symbol
+     * <p>
+     * When it is more than 0,the canvas counts the equal {@link SVGPath} and {@link SVGShapeGroup}
+     * drawn by {@link #drawShape(SVGShape, SVGPaintAttrs, String)}.
+     * When a shape is drawn the threshold times,its geometry is added to defs as "symbol" once,
+     * and this draw and the later draws of it are "use" elements which reference the symbol,
+     * the style,transform and clip are set on the "use" element.
+     * The draws before the promotion keep their geometry.
+     * The draws are counted by the content digest,only the recently drawn shapes are counted,
+     * so a shape which is drawn rarely among many other shapes may not be promoted.
+     * </p>
+     *
+     * @param symbolThreshold The threshold,0 means not use symbol
+     * @since 0.0.7
+     */
+    public void setSymbolThreshold(int symbolThreshold) {
+        if (symbolThreshold < 0) {
+            throw new IllegalArgumentException("symbolThreshold < 0");
+        }
+        this.symbolThreshold = symbolThreshold;
+    }
+
+    /**
+     * Return whether remove the unused defs
+     *
+     * @return true if remove the unused defs
+     * @see #setPruneUnusedDefs(boolean)
+     * @since 0.0.7
+     */
+    public boolean isPruneUnusedDefs() {
+        return pruneUnusedDefs;
+    }
+
+    /**
+     * Set whether remove the unused defs
+     * <p>
+     * When it is true,{@link #getSVGElement()} and the xml writing remove the defs elements which are not referenced
+     * by url(#id) or href of the svg elements and the referenced defs,such as the defs of the cleared elements
+     * and the unused defs of the input svg.The defs without id and the referenced defs of style element are kept.
+     * The removed defs are added again when they are used by the later draws.
+     * </p>
+     *
+     * @param pruneUnusedDefs true to remove the unused defs
+     * @since 0.0.7
+     */
+    public void setPruneUnusedDefs(boolean pruneUnusedDefs) {
+        this.pruneUnusedDefs = pruneUnusedDefs;
+    }
+
+    /**
+     * Return whether write the transform into the shape coordinates
+     *
+     * @return true if bake the transform
+     * @see #setBakeTransform(boolean)
+     * @since 0.0.7
+     */
+    public boolean isBakeTransform() {
+        return bakeTransform;
+    }
+
+    /**
+     * Set whether write the transform into the shape coordinates
+     * <p>
+     * When it is true,{@link #drawShape(SVGShape, SVGPaintAttrs, String)} maps the coordinates of
+     * {@link SVGRect},{@link SVGCircle},{@link SVGOval},{@link SVGLine},{@link SVGPointsShape} and {@link SVGPath}
+     * by the current matrix and writes no transform attribute,so the output is smaller.
+     * It is only done when the result is exact:the rect and oval need the matrix only scales,translates or
+     * rotates by 90 degrees,the circle also needs uniform scale,the arc of path needs its ellipse keeps the shape.
+     * The transform also changes the stroke width,clip,gradient and filter,so the shape is not baked
+     * when there is a clip,the paint has gradient or filter,or it strokes and the matrix is not a
+     * rotation or translation.The text,group,symbol and batch draws always use the transform attribute.
+     * </p>
+     *
+     * @param bakeTransform true to bake the transform
+     * @since 0.0.7
+     */
+    public void setBakeTransform(boolean bakeTransform) {
+        this.bakeTransform = bakeTransform;
+    }
+
+    /**
+     * Return whether skip the invisible shapes
+     *
+     * @return true if cull the shapes
+     * @see #setCulling(boolean)
+     * @since 0.0.7
+     */
+    public boolean isCulling() {
+        return culling;
+    }
+
+    /**
+     * Set whether skip the shapes which are out of the canvas or the clip
+     * <p>
+     * When it is true,{@link #drawShape(SVGShape, SVGPaintAttrs, String)} computes the bounds of shape by
+     * {@link SVGShape#computeBounds(float[])},adds the stroke,and drops the shape when the bounds is out of the clip bounds
+     * or the mapped bounds is out of 0,0,width,height,so panning or zooming over large data only writes the visible shapes.
+     * The shape of unknown bounds such as text,the shape with id,the paint with filter and the draws in a layer
+     * are never dropped.
+     * The visible area is the canvas size,do not use it with a view box out of the canvas size.
+     * </p>
+     *
+     * @param culling true to cull the shapes
+     * @since 0.0.7
+     */
+    public void setCulling(boolean culling) {
+        this.culling = culling;
+    }
+
+    /**
+     * Get the device pixel size of level of detail
+     *
+     * @return The pixel size,0 means draw all details
+     * @see #setLevelOfDetail(float)
+     * @since 0.0.7
+     */
+    public float getLevelOfDetail() {
+        return lodPixelSize;
+    }
+
+    /**
+     * Set the device pixel size of level of detail,it skips the details smaller than a pixel
+     * <p>
+     * The pixel size is in the canvas coordinates,for example it is width/1000 when the svg is shown in 1000 pixels wide.
+     * When it is more than 0,{@link #drawShape(SVGShape, SVGPaintAttrs, String)} maps the shape bounds with the half stroke,
+     * the shape not larger than a pixel is only drawn when no shape of same style has been drawn into its pixel,
+     * so a dense overview keeps one mark every pixel and style.The shape with id,clip,filter,unknown bounds
+     * or in a layer is always drawn.The path segments shorter than a pixel are collapsed when the path is written,
+     * {@link SVGPath#convertToSVGElement(SVGBaseCanvas, Document, DoubleFunction, float)}.
+     * The pixels of drawn shapes are kept until {@link #clear()}.
+     * </p>
+     *
+     * @param pixelSize The pixel size,0 to draw all details
+     * @since 0.0.7
+     */
+    public void setLevelOfDetail(float pixelSize) {
+        if (!(pixelSize >= 0)) {
+            throw new IllegalArgumentException("pixelSize " + pixelSize + " < 0");
+        }
+        this.lodPixelSize = pixelSize;
+    }
+
+    /**
+     * Return whether write the repeated styles as css classes
+     *
+     * @return true if use style class
+     * @see #setUseStyleClass(boolean)
+     * @since 0.0.7
+     */
+    public boolean isUseStyleClass() {
+        return useStyleClass;
+    }
+
+    /**
+     * Set whether write the repeated styles as css classes
+     * <p>
+     * When it is true,the style strings used by more than one element are interned into the classes
+     * of a style element in defs,and the inline style attr of the elements is replaced with class attr.
+     * It is applied when write xml,{@link #getSVGXmlString()} and {@link #writeSVGXMLToStream(OutputStream)},
+     * the class names start with {@link #getDefsKeyPrefix()}.
+     * </p>
+     *
+     * @param useStyleClass true to use style class
+     * @see #getStyleClassSavedSize()
+     * @since 0.0.7
+     */
+    public void setUseStyleClass(boolean useStyleClass) {
+        this.useStyleClass = useStyleClass;
+    }
+
+    /**
+     * Return the size of chars saved by style classes
+     * <p>
+     * It is the size of removed inline styles minus the size of class attrs and css rules,the indent is not counted,
+     * it is updated when write xml.
+     * </p>
+     *
+     * @return The saved chars
+     * @see #setUseStyleClass(boolean)
+     * @since 0.0.7
+     */
+    public long getStyleClassSavedSize() {
+        return styleClassSavedSize;
+    }
+
+    /**
+     * The method to draw line
+     *
+     * @param x1    The line start x
+     * @param y1    The line start y
+     * @param x2    The line end x
+     * @param y2    The line end y
+     * @param paint The line style paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGLine
+     * @since 0.0.1
+     */
+
+    public void drawLine(float x1, float y1, float x2, float y2, SVGPaintAttrs paint) {
+        drawLine(x1, y1, x2, y2, paint, null);
+    }
+
+    /**
+     * The method to draw line
+     *
+     * @param x1    The line start x
+     * @param y1    The line start y
+     * @param x2    The line end x
+     * @param y2    The line end y
+     * @param paint The line style paint {@link SVGPaintAttrs}
+     * @param id    The line id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGLine
+     * @since 0.0.1
+     */
+
+    public void drawLine(float x1, float y1, float x2, float y2, SVGPaintAttrs paint, String id) {
+        SVGLine svgLine = new SVGLine(x1, y1, x2, y2);
+        drawShape(svgLine, paint, id);
+
+    }
+
+    /**
+     * The method to drawRect
+     *
+     * @param left   The left of rect
+     * @param top    The top of rect
+     * @param right  The right of rect
+     * @param bottom The bottom of rect
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGRect
+     * @since 0.0.7
+     */
+    public void drawRect(float left, float top, float right, float bottom, SVGPaintAttrs paint) {
+        drawRect(left, top, right, bottom, paint, null);
+    }
+
+    /**
+     * The method to drawRect
+     *
+     * @param left   The left of rect
+     * @param top    The top of rect
+     * @param right  The right of rect
+     * @param bottom The bottom of rect
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGRect
+     * @since 0.0.7
+     */
+    public void drawRect(float left, float top, float right, float bottom, SVGPaintAttrs paint, String id) {
+        SVGRect rect = new SVGRect(left, top, right - left, bottom - top);
+        drawShape(rect, paint, id);
+    }
+
+    /**
+     * The method to draw circle
+     *
+     * @param cx    The centerX of circle
+     * @param cy    The centerY of circle
+     * @param r     The radius of circle
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGCircle
+     * @since 0.0.1
+     */
+    public void drawCircle(float cx, float cy, float r, SVGPaintAttrs paint) {
+        drawCircle(cx, cy, r, paint, null);
+    }
+
+    /**
+     * The method to draw circle
+     *
+     * @param cx    The centerX of circle
+     * @param cy    The centerY of circle
+     * @param r     The radius of circle
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @param id    The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGCircle
+     * @since 0.0.1
+     */
+
+    public void drawCircle(float cx, float cy, float r, SVGPaintAttrs paint, String id) {
+        SVGCircle circle = new SVGCircle(cx, cy, r);
+        drawShape(circle, paint, id);
+    }
+
+    /**
+     * The method to draw oval
+     *
+     * @param left   The left of circumscribed rectangle
+     * @param top    The top of circumscribed rectangle
+     * @param right  The right of circumscribed rectangle
+     * @param bottom The bottom of circumscribed rectangle
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGOval
+     * @since 0.0.7
+     */
+    public void drawOval(float left, float top, float right, float bottom, SVGPaintAttrs paint) {
+        drawOval(left, top, right, bottom, paint, null);
+    }
+
+    /**
+     * The method to draw oval
+     *
+     * @param left   The left of circumscribed rectangle
+     * @param top    The top of circumscribed rectangle
+     * @param right  The right of circumscribed rectangle
+     * @param bottom The bottom of circumscribed rectangle
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGOval
+     * @since 0.0.7
+     */
+    public void drawOval(float left, float top, float right, float bottom, SVGPaintAttrs paint, String id) {
+        SVGOval oval = new SVGOval((left + right) * 0.5f, (top + bottom) * 0.5f, (right - left) / 2, (bottom - top) / 2);
+        drawShape(oval, paint, id);
+    }
+
+    /**
+     * The method to draw Polygon
+     *
+     * @param points The points of Polygon,Arrange according to x1, y1, x2, y2...
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @see #drawPolygon(float[], SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawPolygon(float[] points, SVGPaintAttrs paint) {
+        drawPolygon(points, paint, null);
+
+    }
+
+    /**
+     * The method to draw Polygon
+     *
+     * @param points The points of Polygon,Arrange according to x1, y1, x2, y2...
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGPointsShape
+     * @since 0.0.1
+     */
+    public void drawPolygon(float[] points, SVGPaintAttrs paint, String id) {
+        if (points == null || points.length < 6) {
+            throw new IllegalArgumentException("points is null or points length < 6");
+        }
+        drawShape(new SVGPointsShape(points, true), paint, id);
+    }
+
+    /**
+     * The method to draw Polyline
+     *
+     * @param points The points of Polyline,Arrange according to x1, y1, x2, y2...
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @see #drawPolyline(float[], SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawPolyline(float[] points, SVGPaintAttrs paint) {
+        drawPolyline(points, paint, null);
+    }
+
+    /**
+     * The method to draw Polyline
+     *
+     * @param points The points of Polyline,Arrange according to x1, y1, x2, y2...
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGPointsShape
+     * @since 0.0.1
+     */
+    public void drawPolyline(float[] points, SVGPaintAttrs paint, String id) {
+        if (points == null || points.length < 4) {
+            throw new IllegalArgumentException("points is null or points length < 4");
+        }
+        drawShape(new SVGPointsShape(points, false), paint, id);
+    }
+
+    /**
+     * The method to draw a batch of lines
+     *
+     * @param pts   The lines,every line is 4 values x0, y0, x1, y1
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawLines(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawLines(float[] pts, SVGPaintAttrs paint) {
+        drawLines(pts, 0, pts == null ? 0 : pts.length, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of lines
+     *
+     * @param pts    The lines,every line is 4 values x0, y0, x1, y1
+     * @param offset The number of values to skip
+     * @param count  The number of values to draw,it draws count/4 lines
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @see #drawLines(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawLines(float[] pts, int offset, int count, SVGPaintAttrs paint) {
+        drawLines(pts, offset, count, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of lines
+     * <p>
+     * Same as android.graphics.Canvas#drawLines,the lines are always stroked whatever the paint fills.
+     * All lines are written in one path element,the style,transform and clip are computed once,
+     * so the overlapped parts are not blended twice when the paint is translucent.
+     * Nothing is drawn when there is no line.
+     * </p>
+     *
+     * @param pts    The lines,every line is 4 values x0, y0, x1, y1
+     * @param offset The number of values to skip
+     * @param count  The number of values to draw,it draws count/4 lines
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The element id
+     * @since 0.0.7
+     */
+    public void drawLines(float[] pts, int offset, int count, SVGPaintAttrs paint, String id) {
+        checkBatch(pts, offset, count);
+        int end = offset + (count & ~3);
+        if (end == offset) return;
+        StringBuilder d = new StringBuilder((end - offset) * 10);
+        for (int i = offset; i < end; i += 4) {
+            appendPoint(d.append("M "), pts[i], pts[i + 1]);
+            appendPoint(d.append(" L "), pts[i + 2], pts[i + 3]).append(' ');
+        }
+        drawBatchPath(d, strokeStyle(paint, true), paint, id);
+    }
+
+    /**
+     * The method to draw a batch of points
+     *
+     * @param pts   The points,every point is 2 values x, y
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawPoints(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawPoints(float[] pts, SVGPaintAttrs paint) {
+        drawPoints(pts, 0, pts == null ? 0 : pts.length, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of points
+     *
+     * @param pts    The points,every point is 2 values x, y
+     * @param offset The number of values to skip
+     * @param count  The number of values to draw,it draws count/2 points
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @see #drawPoints(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawPoints(float[] pts, int offset, int count, SVGPaintAttrs paint) {
+        drawPoints(pts, offset, count, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of points
+     * <p>
+     * Same as android.graphics.Canvas#drawPoints,every point is a dot of the stroke width,
+     * it is round when the line cap is round,else it is square.
+     * All points are written in one path element of zero length segments,
+     * the style,transform and clip are computed once.
+     * Nothing is drawn when there is no point.
+     * </p>
+     *
+     * @param pts    The points,every point is 2 values x, y
+     * @param offset The number of values to skip
+     * @param count  The number of values to draw,it draws count/2 points
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The element id
+     * @since 0.0.7
+     */
+    public void drawPoints(float[] pts, int offset, int count, SVGPaintAttrs paint, String id) {
+        checkBatch(pts, offset, count);
+        int end = offset + (count & ~1);
+        if (end == offset) return;
+        StringBuilder d = new StringBuilder((end - offset) * 10);
+        for (int i = offset; i < end; i += 2) {
+            appendPoint(d.append("M "), pts[i], pts[i + 1]).append(" h 0 ");
+        }
+        String style = strokeStyle(paint, true);
+        if (paint == null || paint.getStrokeLineCap() == null
+                || DEFAULT_STROKE_CAP.equals(paint.getStrokeLineCap())) {
+            // a zero length segment is not drawn with butt cap
+            style += "stroke-linecap:square;";
+        }
+        drawBatchPath(d, style, paint, id);
+    }
+
+    /**
+     * The method to draw a batch of rects
+     *
+     * @param rects The rects,every rect is 4 values left, top, right, bottom
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawRects(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawRects(float[] rects, SVGPaintAttrs paint) {
+        drawRects(rects, 0, rects == null ? 0 : rects.length, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of rects
+     *
+     * @param rects  The rects,every rect is 4 values left, top, right, bottom
+     * @param offset The number of values to skip
+     * @param count  The number of values to draw,it draws count/4 rects
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @see #drawRects(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawRects(float[] rects, int offset, int count, SVGPaintAttrs paint) {
+        drawRects(rects, offset, count, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of rects
+     * <p>
+     * The rects are written as the children of one "g" element which has the style,transform and clip,
+     * so they are computed once and no {@link SVGRect} is created.
+     * Every rect is still an element,the translucent overlapped parts are same as {@link #drawRect(float, float, float, float, SVGPaintAttrs)}.
+     * Nothing is drawn when there is no rect.
+     * </p>
+     *
+     * @param rects  The rects,every rect is 4 values left, top, right, bottom
+     * @param offset The number of values to skip
+     * @param count  The number of values to draw,it draws count/4 rects
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The group element id
+     * @since 0.0.7
+     */
+    public void drawRects(float[] rects, int offset, int count, SVGPaintAttrs paint, String id) {
+        checkBatch(rects, offset, count);
+        int end = offset + (count & ~3);
+        if (end == offset) return;
+        Element group = document.createElement("g");
+        for (int i = offset; i < end; i += 4) {
+            Element rect = document.createElement("rect");
+            rect.setAttribute("x", geomDoubleConverter.apply(rects[i]));
+            rect.setAttribute("y", geomDoubleConverter.apply(rects[i + 1]));
+            rect.setAttribute("width", geomDoubleConverter.apply(rects[i + 2] - rects[i]));
+            rect.setAttribute("height", geomDoubleConverter.apply(rects[i + 3] - rects[i + 1]));
+            group.appendChild(rect);
+        }
+        addBaseAttrToDrawElement(group, paint, id);
+        appendDrawElement(group);
+    }
+
+    /**
+     * The method to draw a batch of circles
+     *
+     * @param circles The circles,every circle is 3 values cx, cy, r
+     * @param paint   The paint {@link SVGPaintAttrs}
+     * @see #drawCircles(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawCircles(float[] circles, SVGPaintAttrs paint) {
+        drawCircles(circles, 0, circles == null ? 0 : circles.length, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of circles
+     *
+     * @param circles The circles,every circle is 3 values cx, cy, r
+     * @param offset  The number of values to skip
+     * @param count   The number of values to draw,it draws count/3 circles
+     * @param paint   The paint {@link SVGPaintAttrs}
+     * @see #drawCircles(float[], int, int, SVGPaintAttrs, String)
+     * @since 0.0.7
+     */
+    public void drawCircles(float[] circles, int offset, int count, SVGPaintAttrs paint) {
+        drawCircles(circles, offset, count, paint, null);
+    }
+
+    /**
+     * The method to draw a batch of circles
+     * <p>
+     * The circles are written as the children of one "g" element which has the style,transform and clip,
+     * so they are computed once and no {@link SVGCircle} is created.
+     * Nothing is drawn when there is no circle.
+     * </p>
+     *
+     * @param circles The circles,every circle is 3 values cx, cy, r
+     * @param offset  The number of values to skip
+     * @param count   The number of values to draw,it draws count/3 circles
+     * @param paint   The paint {@link SVGPaintAttrs}
+     * @param id      The group element id
+     * @since 0.0.7
+     */
+    public void drawCircles(float[] circles, int offset, int count, SVGPaintAttrs paint, String id) {
+        checkBatch(circles, offset, count);
+        int end = offset + count - count % 3;
+        if (end == offset) return;
+        Element group = document.createElement("g");
+        for (int i = offset; i < end; i += 3) {
+            Element circle = document.createElement("circle");
+            circle.setAttribute("cx", geomDoubleConverter.apply(circles[i]));
+            circle.setAttribute("cy", geomDoubleConverter.apply(circles[i + 1]));
+            circle.setAttribute("r", geomDoubleConverter.apply(circles[i + 2]));
+            group.appendChild(circle);
+        }
+        addBaseAttrToDrawElement(group, paint, id);
+        appendDrawElement(group);
+    }
+
+    /**
+     * Check the values range of batch draw
+     */
+    private static void checkBatch(float[] values, int offset, int count) {
+        Args.nullNotPermitted(values, "values");
+        if (offset < 0 || count < 0 || offset > values.length - count) {
+            throw new IllegalArgumentException("offset " + offset + " count " + count
+                    + " out of values length " + values.length);
+        }
+    }
+
+    private StringBuilder appendPoint(StringBuilder sb, float x, float y) {
+        SVGUtils.appendDouble(sb, x, geomDoubleConverter).append(' ');
+        return SVGUtils.appendDouble(sb, y, geomDoubleConverter);
+    }
+
+    /**
+     * Draw the path data of batch with the style
+     */
+    private void drawBatchPath(StringBuilder d, String style, SVGPaintAttrs paint, String id) {
+        d.setLength(d.length() - 1);
+        Element element = document.createElement("path");
+        element.setAttribute("d", d.toString());
+        addBaseAttrToDrawElement(element, paint, style, id);
+        appendDrawElement(element);
+    }
+
+    /**
+     * The method to draw Arc
+     *
+     * @param x          The centerX of Arc
+     * @param y          The centerY of Arc
+     * @param width      The width radius of Arc
+     * @param height     The height radius of Arc
+     * @param startAngle The start angle of Arc
+     * @param arcAngle   The start angle of Arc
+     * @param paint      The paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGPath
+     * @since 0.0.1
+     */
+    public void drawArc(float x, float y, float width, float height, float startAngle,
+                        float arcAngle, SVGPaintAttrs paint) {
+        drawArc(x, y, width, height, startAngle, arcAngle, paint, null);
+    }
+
+    /**
+     * The method to draw Arc
+     *
+     * @param x          The centerX of Arc
+     * @param y          The centerY of Arc
+     * @param width      The width radius of Arc
+     * @param height     The height radius of Arc
+     * @param startAngle The start angle of Arc
+     * @param arcAngle   The start angle of Arc
+     * @param paint      The paint {@link SVGPaintAttrs}
+     * @param id         The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGPath
+     * @since 0.0.1
+     */
+    public void drawArc(float x, float y, float width, float height, float startAngle,
+                        float arcAngle, SVGPaintAttrs paint, String id) {
+        SVGPath path = new SVGPath();
+        double sr = Math.toRadians(startAngle);
+        float sx = (float) (x + width * Math.cos(sr));
+        float sy = (float) (y + height * Math.sin(sr));
+        path.moveTo(sx, sy);
+        double er = Math.toRadians(startAngle + arcAngle);
+        float ex = (float) (x + width * Math.cos(er));
+        float ey = (float) (y + height * Math.sin(er));
+        path.ellipticalArc(width, height, 0, arcAngle > 180 ? 1 : 0, 1, ex, ey);
+        drawPath(path, paint, id);
+
+    }
+
+    /**
+     * The method to draw Curve
+     *
+     * @param sx    The startX of Curve
+     * @param sy    The startY of Curve
+     * @param ex    The endX of Curve
+     * @param ey    The endY of Curve
+     * @param x     The centerX of Curve
+     * @param y     The centerX of Curve
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGPath
+     * @since 0.0.1
+     */
+
+    public void drawCurve(float sx, float sy, float ex, float ey, float x, float y, SVGPaintAttrs paint) {
+        drawCurve(sx, sy, ex, ey, x, y, paint, null);
+    }
+
+    /**
+     * The method to draw Curve
+     *
+     * @param sx    The startX of Curve
+     * @param sy    The startY of Curve
+     * @param ex    The endX of Curve
+     * @param ey    The endY of Curve
+     * @param x     The centerX of Curve
+     * @param y     The centerX of Curve
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @param id    The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGPath
+     * @since 0.0.1
+     */
+    public void drawCurve(float sx, float sy, float ex, float ey, float x, float y, SVGPaintAttrs paint, String id) {
+        SVGPath path = new SVGPath();
+        path.moveTo(sx, sy);
+        path.quadraticBelzierCurve(x, y, ex, ey);
+        drawPath(path, paint, id);
+    }
+
+    /**
+     * The method to draw Path
+     *
+     * @param path  The path to draw {@link SVGPath}
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawPath(SVGPath path, SVGPaintAttrs paint) {
+        drawPath(path, paint, null);
+    }
+
+    /**
+     * The method to draw Path
+     *
+     * @param path  The path to draw {@link SVGPath}
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @param id    The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawPath(SVGPath path, SVGPaintAttrs paint, String id) {
+        drawShape(path, paint, id);
+    }
+
+    /**
+     * The method to draw Text
+     *
+     * @param text  The text to draw
+     * @param x     The x of text pos
+     * @param y     The Y of text pos
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawTextOnPath(String, float, float, float, int, SVGPath, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawText(String text, float x, float y, SVGPaintAttrs paint) {
+        drawText(text, x, y, 0, paint, null);
+    }
+
+    /**
+     * The method to draw Text
+     *
+     * @param text       The text to draw
+     * @param x          The x of text pos
+     * @param y          The Y of text pos
+     * @param textLength The draw length,it used to {@link SVGPaintAttrs#getLengthAdjust()}
+     * @param paint      The paint {@link SVGPaintAttrs}
+     * @see #drawTextOnPath(String, float, float, float, int, SVGPath, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+
+    public void drawText(String text, float x, float y, int textLength, SVGPaintAttrs paint) {
+        drawText(text, x, y, textLength, paint, null);
+    }
+
+    /**
+     * The method to draw Text
+     *
+     * @param text  The text to draw
+     * @param x     The x of text pos
+     * @param y     The Y of text pos
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @param id    The element id
+     * @see #drawTextOnPath(String, float, float, float, int, SVGPath, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawText(String text, float x, float y, SVGPaintAttrs paint, String id) {
+        drawText(text, x, y, 0, paint, id);
+    }
+
+    /**
+     * The method to draw Text
+     *
+     * @param text       The text to draw
+     * @param x          The x of text pos
+     * @param y          The Y of text pos
+     * @param textLength The draw length,it used to {@link SVGPaintAttrs#getLengthAdjust()}
+     * @param paint      The paint {@link SVGPaintAttrs}
+     * @param id         The element id
+     * @see #drawTextOnPath(String, float, float, float, int, SVGPath, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawText(String text, float x, float y, int textLength, SVGPaintAttrs paint, String id) {
+        drawTextOnPath(text, x, y, 0, textLength, null, paint, id);
+    }
+
+    /**
+     * The method to draw Text on path
+     *
+     * @param text  The text to draw
+     * @param x     The x of text pos
+     * @param y     The Y of text pos
+     * @param path  The path of text attach,it can be null,{@link SVGPath}
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGTextPath
+     * @since 0.0.1
+     */
+    public void drawTextOnPath(String text, float x, float y, SVGPath path, SVGPaintAttrs paint) {
+        drawTextOnPath(text, x, y, 0, 0, path, paint, null);
+
+    }
+
+    /**
+     * The method to draw Text on path
+     *
+     * @param text        The text to draw
+     * @param x           The x of text pos
+     * @param y           The Y of text pos
+     * @param startOffset The offset size of start
+     * @param path        The path of text attach,it can be null,{@link SVGPath}
+     * @param paint       The paint {@link SVGPaintAttrs}
+     * @param id          The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGTextPath
+     * @since 0.0.1
+     */
+    public void drawTextOnPath(String text, float x, float y, float startOffset, SVGPath path, SVGPaintAttrs paint, String id) {
+        drawTextOnPath(text, x, y, startOffset, 0, path, paint, id);
+    }
+
+    /**
+     * The method to draw Text on path
+     *
+     * @param text        The text to draw
+     * @param x           The x of text pos
+     * @param y           The Y of text pos
+     * @param startOffset The offset size of start
+     * @param textLength  The draw length,it used to {@link SVGPaintAttrs#getLengthAdjust()}
+     * @param path        The path of text attach,it can be null,{@link SVGPath}
+     * @param paint       The paint {@link SVGPaintAttrs}
+     * @param id          The element id
+     * @see #drawShape(SVGShape, SVGPaintAttrs, String)
+     * @see SVGTextPath
+     * @since 0.0.1
+     */
+    public void drawTextOnPath(String text, float x, float y, float startOffset, int textLength, SVGPath path, SVGPaintAttrs paint, String id) {
+        SVGTextPath textPath = new SVGTextPath.Builder()
+                .setText(text)
+                .setX(x)
+                .setY(y)
+                .setStartOffset(startOffset)
+                .setTextLength(textLength)
+                .setFontSizeUnit(fontSizeUnit)
+                .setPaint(paint)
+                .setPath(path)
+                .build();
+        drawShape(textPath, paint, id);
+    }
+
+    /**
+     * The method to draw Shape
+     *
+     * @param shape The shape to draw {@link SVGShape}
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @since 0.0.1
+     */
+    public void drawShape(SVGShape shape, SVGPaintAttrs paint) {
+        drawShape(shape, paint, null);
+    }
+
+    /**
+     * The method to draw Shape
+     *
+     * @param shape The shape to draw {@link SVGShape}
+     * @param paint The paint {@link SVGPaintAttrs}
+     * @param id    The element id
+     * @see #addBaseAttrToDrawElement(Element, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawShape(SVGShape shape, SVGPaintAttrs paint, String id) {
+        if ((culling || lodPixelSize > 0) && skipDraw(shape, paint, id))
+            return;
+        String symbolRef = symbolThreshold > 0 ? getSymbolRef(shape) : null;
+        Element element;
+        SVGShape baked = null;
+        if (symbolRef != null) {
+            element = document.createElement("use");
+            element.setAttribute("xlink:href", "#" + symbolRef);
+        } else {
+            if (canBakeTransform(paint))
+                baked = SVGTransformBaker.bake(shape, transform);
+            SVGShape drawn = baked != null ? baked : shape;
+            if (lodPixelSize > 0 && drawn instanceof SVGPath) {
+                // the baked path is in the canvas coordinates
+                float scale = baked != null ? 1 : transform.getMaxScale();
+                element = ((SVGPath) drawn).convertToSVGElement(this, document, geomDoubleConverter,
+                        scale > 0 ? lodPixelSize / scale : 0);
+            } else {
+                element = drawn.convertToSVGElement(this, document, geomDoubleConverter);
+            }
+        }
+        addBaseAttrToDrawElement(element, paint, paint != null ? style(paint) : null, id, baked == null);
+        appendDrawElement(element);
+    }
+
+    /**
+     * Whether the shape is not drawn,it is out of the clip or the canvas,or merged into a drawn shape of the pixel
+     *
+     * @param shape The shape to draw
+     * @param paint The paint
+     * @param id    The element id,the element with id is always drawn so it can be referenced
+     * @return true if the shape is skipped
+     * @see #setCulling(boolean)
+     * @see #setLevelOfDetail(float)
+     */
+    private boolean skipDraw(SVGShape shape, SVGPaintAttrs paint, String id) {
+        if (id != null || layerCount > 0 || (paint != null && paint.getFilter() != null))
+            return false;
+        float[] geomBounds = this.geomBounds;
+        if (!shape.computeBounds(geomBounds))
+            return false;
+        float halfStroke = 0, strokeOutset = 0;
+        if (paint != null && paint.hasStroke()) {
+            halfStroke = (paint.getStrokeWidth() > 0 ? paint.getStrokeWidth() : 1) / 2;
+            // the miter join and square cap are out of the half stroke width
+            strokeOutset = halfStroke * Math.max(paint.getStrokeMiter(), SQRT_2);
+        }
+        float[] b = drawBounds;
+        if (culling) {
+            outsetBounds(geomBounds, strokeOutset, b);
+            if (clip != null) {
+                // the clip is in the user space of element,so it is compared before mapped
+                if (clip != clipBoundsShape) {
+                    clipBoundsShape = clip;
+                    hasClipBounds = clip.computeBounds(clipBounds);
+                }
+                if (hasClipBounds && (b[2] < clipBounds[0] || b[0] > clipBounds[2]
+                        || b[3] < clipBounds[1] || b[1] > clipBounds[3]))
+                    return true;
+            }
+            mapBounds(b);
+            if (b[2] < 0 || b[3] < 0 || b[0] > width || b[1] > height)
+                return true;
+        }
+        if (lodPixelSize > 0 && clip == null) {
+            outsetBounds(geomBounds, halfStroke, b);
+            mapBounds(b);
+            return isMergedIntoPixel(b, paint);
+        }
+        return false;
+    }
+
+    private static void outsetBounds(float[] src, float outset, float[] dst) {
+        dst[0] = src[0] - outset;
+        dst[1] = src[1] - outset;
+        dst[2] = src[2] + outset;
+        dst[3] = src[3] + outset;
+    }
+
+    /**
+     * Map the bounds by the current transform in place
+     */
+    private void mapBounds(float[] b) {
+        if (transform.isIdentity())
+            return;
+        float a = transform.getValue(SVGMatrix.MSCALE_X), kx = transform.getValue(SVGMatrix.MSKEW_X);
+        float ky = transform.getValue(SVGMatrix.MSKEW_Y), e = transform.getValue(SVGMatrix.MSCALE_Y);
+        // the mapped bounds is the center mapped and the half size mapped by the abs matrix
+        float cx = (b[0] + b[2]) / 2, cy = (b[1] + b[3]) / 2;
+        float hw = (b[2] - b[0]) / 2, hh = (b[3] - b[1]) / 2;
+        float mx = a * cx + kx * cy + transform.getValue(SVGMatrix.MTRANS_X);
+        float my = ky * cx + e * cy + transform.getValue(SVGMatrix.MTRANS_Y);
+        float mw = Math.abs(a) * hw + Math.abs(kx) * hh, mh = Math.abs(ky) * hw + Math.abs(e) * hh;
+        b[0] = mx - mw;
+        b[1] = my - mh;
+        b[2] = mx + mw;
+        b[3] = my + mh;
+    }
+
+    /**
+     * Whether the shape is smaller than a pixel and a shape of same style has been drawn in its pixel
+     *
+     * @param b     The mapped bounds of shape
+     * @param paint The paint
+     * @return true if the shape is merged
+     */
+    private boolean isMergedIntoPixel(float[] b, SVGPaintAttrs paint) {
+        if (b[2] - b[0] > lodPixelSize || b[3] - b[1] > lodPixelSize)
+            return false;
+        int column = (int) Math.floor((b[0] + b[2]) / 2 / lodPixelSize);
+        int row = (int) Math.floor((b[1] + b[3]) / 2 / lodPixelSize);
+        String style = paint != null ? style(paint) : "";
+        Set<Long> cells = lodPixels.get(style);
+        if (cells == null) {
+            cells = new HashSet<>();
+            lodPixels.put(style, cells);
+        }
+        return !cells.add(((long) column << 32) | (row & 0xffffffffL));
+    }
+
+    /**
+     * Whether the transform can be written into the coordinates without change the clip,paint and stroke width
+     *
+     * @param paint The paint
+     * @return true if the shape can be baked
+     * @see #setBakeTransform(boolean)
+     */
+    private boolean canBakeTransform(SVGPaintAttrs paint) {
+        if (!bakeTransform || transform.isIdentity() || clip != null)
+            return false;
+        if (paint == null)
+            return true;
+        if (paint.getGradient() != null || paint.getFilter() != null)
+            return false;
+        if (!paint.hasStroke())
+            return true;
+        // the stroke width is kept only when the matrix keeps the length
+        float a = transform.getValue(SVGMatrix.MSCALE_X), b = transform.getValue(SVGMatrix.MSKEW_X);
+        float d = transform.getValue(SVGMatrix.MSKEW_Y), e = transform.getValue(SVGMatrix.MSCALE_Y);
+        return Math.abs(a * a + d * d - 1) <= BAKE_TOLERANCE && Math.abs(b * b + e * e - 1) <= BAKE_TOLERANCE
+                && Math.abs(a * b + d * e) <= BAKE_TOLERANCE;
+    }
+
+    /**
+     * Count the draw of shape and get its symbol id
+     * <p>
+     * When the shape is drawn {@link #symbolThreshold} times,it adds the symbol to defs.
+     * The symbol overflow is visible,so the geometry out of the viewport of "use" is not clipped.
+     * </p>
+     *
+     * @param shape The drawn shape
+     * @return The symbol id,null means that draw the shape geometry
+     * @see #setSymbolThreshold(int)
+     */
+    private String getSymbolRef(SVGShape shape) {
+        long digest;
+        if (shape instanceof SVGPath) {
+            digest = ((SVGPath) shape).contentDigest();
+        } else if (shape instanceof SVGShapeGroup) {
+            // a group and its only path have different keys
+            digest = ~((SVGShapeGroup) shape).contentDigest();
+        } else {
+            return null;
+        }
+        ShapeInstance instance = shapeInstances.get(digest);
+        if (instance == null) {
+            instance = symbolCandidates.get(digest);
+            if (instance == null) {
+                instance = new ShapeInstance();
+                symbolCandidates.put(digest, instance);
+            }
+            if (++instance.count < symbolThreshold)
+                return null;
+            symbolCandidates.remove(digest);
+            instance.shape = (SVGShape) shape.clone();
+            instance.checkedShape = shape;
+            shapeInstances.put(digest, instance);
+        } else if (instance.checkedShape != shape) {
+            // the same digest of other content,draw it as geometry
+            if (!instance.shape.equals(shape))
+                return null;
+            instance.checkedShape = shape;
+        }
+        if (instance.symbolId == null) {
+            String id = this.defsKeyPrefix + SYMBOL_KEY_PREFIX + symbolCount;
+            ++symbolCount;
+            Element symbol = document.createElement("symbol");
+            symbol.setAttribute("id", id);
+            symbol.setAttribute("overflow", "visible");
+            symbol.appendChild(shape.convertToSVGElement(this, document, geomDoubleConverter));
+            addDefElement(symbol);
+            instance.symbolId = id;
+        }
+        return instance.symbolId;
+    }
+
+    /**
+     * The draw count and symbol of a drawn shape
+     */
+    private static class ShapeInstance {
+        int count;
+        String symbolId;
+        /**
+         * The clone of the promoted shape
+         */
+        SVGShape shape;
+        /**
+         * The last drawn shape which is equal to {@link #shape},
+         * its later draws are matched by the digest only
+         */
+        SVGShape checkedShape;
+    }
+
+    /**
+     * Mix the draw element into content hash and append it
+     *
+     * @param element The draw element
+     */
+    private void appendDrawElement(Element element) {
+        contentHash = SVGContentHash.hash(SVGContentHash.hash(contentHash, 'A'), element);
+        appendElement(element);
+    }
+
+    /**
+     * Mix the def element into content hash and add it to defs
+     *
+     * @param element The def element
+     */
+    private void addDefElement(Element element) {
+        contentHash = SVGContentHash.hash(SVGContentHash.hash(contentHash, 'D'), element);
+        addElementToDef(element);
+    }
+
+    /**
+     * Set the content hash to the hash of the size and the input svg
+     */
+    private void resetContentHash() {
+        long h = SVGContentHash.hash(SVGContentHash.INITIAL, Double.doubleToLongBits(width));
+        h = SVGContentHash.hash(h, Double.doubleToLongBits(height));
+        h = SVGContentHash.hash(h, units != null ? units.name() : null);
+        contentHash = SVGContentHash.hash(h, rootSvgElement);
+    }
+
+    /**
+     * Get the hash of the drawn content
+     * <p>
+     * It is a 64 bit hash updated when draw,add defs,save and restore layer,clear layer,
+     * so it is cheap to get and the svg need not be serialized to know whether the drawing changed.
+     * The same drawing on the canvas of the same size and input svg has the same hash,
+     * the ids of defs are a part of content,so use {@link #setDefsKeySeed(long)} for the same hash of each time.
+     * The svg attrs of {@link #getSVGElement(String, boolean, ViewBox, PreserveAspectRatio, MeetOrSlice)}
+     * and the style class and prune options at serialization are not included.
+     * </p>
+     *
+     * @return The content hash
+     * @since 0.0.7
+     */
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Append the draw element to current layer
+     *
+     * @param element The draw element
+     * @since 0.0.7
+     */
+    protected void appendElement(Element element) {
+        layerElement.appendChild(element);
+    }
+
+    /**
+     * Clear all elements in SVG, reset it
+     *
+     * @since 0.0.4
+     */
+    public void clear() {
+        if (rootSvgElement != null) {
+            document.removeChild(rootSvgElement);
+            initRootSvgElement();
+        }
+
+        if (defElement != null) {
+            defElement = null;
+        }
+
+        if (elementIDs != null) {
+            elementIDs.clear();
+        }
+
+        defsRegistry.clear();
+
+        styleClasses.clear();
+        styleElement = null;
+        shapeInstances.clear();
+        symbolCandidates.clear();
+        symbolCount = 0;
+        styleClassSavedSize = 0;
+
+        saveStack.clear();
+        layerCount = 0;
+        lodPixels.clear();
+        transform.reset();
+        // the clip element was removed with the defs,it is added again when the clip is used
+        clipRef = null;
+        invalidateAttrCache();
+        resetContentHash();
+    }
+
+    /**
+     * Reset the canvas to the state of a new canvas of the size,so the canvas can be pooled and reused
+     * <p>
+     * It is same as {@link #clear()},and the clip,transform,defs key prefix,font size unit,converters and
+     * the options such as {@link #setSymbolThreshold(int)} are set to default.
+     * The units and compatibleWithAndroid of constructor are kept,the input svg of constructor is not loaded again.
+     * It reuses the document,so it is much cheaper than create a canvas.
+     * </p>
+     * Example code:
+     * <pre>
+     *    SVGBaseCanvas canvas = pool.poll();
+     *    if (canvas == null) canvas = new SVGBaseCanvas(width, height);
+     *    else canvas.reset(width, height);
+     *    draw(canvas);
+     *    String svg = canvas.getSVGXmlString();
+     *    pool.offer(canvas);
+     * </pre>
+     *
+     * @param width  svg width
+     * @param height svg height
+     * @since 0.0.7
+     */
+    public void reset(double width, double height) {
+        this.width = width;
+        this.height = height;
+        clip = null;
+        defsKeyPrefix = "def_" + System.nanoTime() + "_";
+        fontSizeUnit = SVGUnits.PX;
+        symbolThreshold = 0;
+        symbolCount = 0;
+        useStyleClass = false;
+        pruneUnusedDefs = false;
+        bakeTransform = false;
+        culling = false;
+        lodPixelSize = 0;
+        geomDoubleConverter = DEFAULT_DOUBLE_CONVERTER;
+        transformDoubleConverter = geomDoubleConverter;
+        clear();
+    }
+
+    /**
+     * Drop the style,transform and clip strings of last draw,
+     * it is called when the defs or the number format changes
+     *
+     * @since 0.0.7
+     */
+    private void invalidateAttrCache() {
+        lastStylePaint = null;
+        lastStyle = null;
+        styleStrings.clear();
+        lastTransformMatrix = null;
+        lastTransform = null;
+        lastClipRef = null;
+        lastClipUrl = null;
+    }
+
+    /**
+     * The method to draw Image
+     *
+     * @param uri    The image url
+     * @param x      The x of image pos
+     * @param y      The y of image pos
+     * @param width  The image draw width
+     * @param height The image draw height
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @since 0.0.1
+     */
+    public void drawImage(String uri, float x, float y, float width, float height, SVGPaintAttrs paint) {
+        drawImage(uri, x, y, width, height, paint, null);
+    }
+
+    /**
+     * The method to draw Image
+     *
+     * @param uri    The image url
+     * @param x      The x of image pos
+     * @param y      The y of image pos
+     * @param width  The image draw width
+     * @param height The image draw height
+     * @param paint  The paint {@link SVGPaintAttrs}
+     * @param id     The element id
+     * @see #addBaseAttrToDrawElement(Element, SVGPaintAttrs, String)
+     * @since 0.0.1
+     */
+    public void drawImage(String uri, float x, float y, float width, float height, SVGPaintAttrs paint, String id) {
+        Element element = document.createElement("image");
+        element.setAttribute("xlink:href", uri);
+        element.setAttribute("x", geomDP(x));
+        element.setAttribute("y", geomDP(y));
+        element.setAttribute("width", geomDP(width));
+        element.setAttribute("height", geomDP(height));
+        addBaseAttrToDrawElement(element, paint, id);
+        appendDrawElement(element);
+    }
+
+    /**
+     * Add path element to defs
+     * <p>
+     * It used by {@link SVGTextPath#convertToSVGElement(SVGBaseCanvas, Document, DoubleFunction)}
+     * When use {@link #drawTextOnPath(String, float, float, float, int, SVGPath, SVGPaintAttrs, String)},
+     * it need add path to defs
+     * </p>
+     *
+     * @param path The path{@link SVGPath}
+     * @return The path id
+     * @see #registerDef(Object, Element, String)
+     * @since 0.0.1
+     */
+    public String addPathToDef(SVGPath path) {
+        String id = defsRegistry.getId(path);
+        if (id == null) {
+            Element element = path.convertToSVGElement(this, document, geomDoubleConverter);
+            id = registerDef(path, element, TEXT_PATH_KEY_PREFIX);
+        }
+        return id;
+    }
+
+    /**
+     * Add base common Attrs to draw element.
+     * <p>
+     * it will add id,style,clip,transform attrs to element
+     * </p>
+     *
+     * @param element The draw element
+     * @param paint   The paint {@link SVGPaintAttrs}
+     * @param id      The element id,can be null
+     * @see #setElementId(Element, String)
+     * @see #addTransformToElement(Element)
+     * @see #style(SVGPaintAttrs)
+     * @see #addClipToElement(Element)
+     * @see #addFilterToElement(Element, SVGFilter) it support since 0.0.2
+     * @since 0.0.1
+     */
+    private void addBaseAttrToDrawElement(Element element, SVGPaintAttrs paint, String id) {
+        addBaseAttrToDrawElement(element, paint, paint != null ? style(paint) : null, id);
+    }
+
+    /**
+     * Add base common Attrs to draw element with the style which is computed before
+     *
+     * @param element The draw element
+     * @param paint   The paint {@link SVGPaintAttrs}
+     * @param style   The style string,can be null
+     * @param id      The element id,can be null
+     * @since 0.0.7
+     */
+    private void addBaseAttrToDrawElement(Element element, SVGPaintAttrs paint, String style, String id) {
+        addBaseAttrToDrawElement(element, paint, style, id, true);
+    }
+
+    /**
+     * Add base common Attrs to draw element,the transform is not added when it is baked into the coordinates
+     *
+     * @param element      The draw element
+     * @param paint        The paint {@link SVGPaintAttrs}
+     * @param style        The style string,can be null
+     * @param id           The element id,can be null
+     * @param addTransform false if the transform is baked
+     * @since 0.0.7
+     */
+    private void addBaseAttrToDrawElement(Element element, SVGPaintAttrs paint, String style, String id, boolean addTransform) {
+        setElementId(element, id);
+        if (style != null)
+            element.setAttribute("style", style);
+        if (paint != null && paint.getFilter() != null) {
+            addFilterToElement(element, paint.getFilter());
+        }
+        if (addTransform)
+            addTransformToElement(element);
+        addClipToElement(element);
+    }
+
+    /**
+     * Add filter to draw Element
+     *
+     * @param element The draw Element
+     * @param filter  The filter {@link SVGFilter}
+     * @see #registerDef(Object, Element, String)
+     * @since 0.0.2
+     */
+
+    private void addFilterToElement(Element element, SVGFilter filter) {
+        String filterId = defsRegistry.getId(filter);
+        if (filterId == null) {
+            Element filterElement = filter.convertToSVGElement(this, document, geomDoubleConverter);
+            filterId = registerDef(filter, filterElement, FILTER_KEY_PREFIX);
+        }
+        element.setAttribute("filter", "url(#" + filterId + ")");
+    }
+
+    /**
+     * Add clip to draw Element
+     *
+     * @param element The draw Element
+     * @see #getClipRef()
+     * @since 0.0.1
+     */
+    private void addClipToElement(Element element) {
+        String clipId = getClipRef();
+        if (clipId != null && !clipId.isEmpty()) {
+            element.setAttribute("clip-path", clipId);
+        }
+    }
+
+    /**
+     * Add clip area to canvas
+     * <p>
+     * When set clip,the draw element will only to draw in clip area
+     * The clip shape will not add to defs immediately，it will be add when it used,{@link #getClipRef()}
+     * </p>
+     * Example code
+     * <pre>
+     *     //Set clip path
+     *      SVGShapeGroup clipGroup = new SVGShapeGroup();
+     *      SVGPath clipPath = new SVGPath();
+     *      clipPath.oval(0.2f, 0.2f, 0.2f, 0.2f);
+     *      SVGPath clipPath1 = new SVGPath();
+     *      clipPath1.oval(0.6f, 0.2f, 0.2f, 0.2f);
+     *      clipGroup.addShape(clipPath);
+     *      clipGroup.addShape(clipPath1);
+     *      SVGClipShape clipShape = new SVGClipShape(clipGroup, POS_MODE.MODE_BOX);
+     *      svgCanvas.save();
+     *      svgCanvas.clip(clipShape);
+     *
+     *     //set Text clip shape
+     *     SVGTextPath svgTextPath = new SVGTextPath.Builder()
+     *                     .setPath(textPath)
+     *                     .setPaint(textPaint)
+     *                     .setText("hello").build();
+     *     svgCanvas.clip(new SVGClipShape(svgTextPath, POS_MODE.MODE_USERSPACE));
+     *
+     * </pre>
+     *
+     * The canvas keeps a frozen copy of the clip shape,so the clip shape can be changed after.
+     * The frozen clip shape by {@link SVGClipShape#freeze()} is used without copy,
+     * the save stack shares it too.
+     *
+     * @param clipShape The clip shape {@link SVGClipShape}
+     * @since 0.0.1
+     */
+    public void clip(SVGClipShape clipShape) {
+        if (clipShape != null && !clipShape.isFrozen()) {
+            clipShape = new SVGClipShape(clipShape);
+            clipShape.freeze();
+        }
+        this.clip = clipShape;
+        clipRef = null;
+    }
+
+    /**
+     * Get current clip shape id
+     * <p>
+     * When draw element,it will use getClipRef to get clipShape id,
+     * if it is null,it means that not have clip shape.
+     * And if it have a clip shape and not add to defs,it will add clip shape to defs
+     * {@link #addClipToElement(Element)}
+     * </p>
+     *
+     * @return The clip id,can be null
+     * @see #registerClip(SVGClipShape)
+     * @since 0.0.1
+     */
+    public String getClipRef() {
+        if (clip == null) {
+            this.clipRef = null;
+            return null;
+        }
+        if (this.clipRef == null)
+            clipRef = registerClip(clip);
+        // the registry keeps one id string for a clip content,so the same reference means the same clip
+        if (clipRef != lastClipRef) {
+            lastClipRef = clipRef;
+            lastClipUrl = "url(#" + clipRef + ")";
+        }
+        return lastClipUrl;
+
+    }
+
+    /**
+     * Add clip element to defs
+     *
+     * @param clipShape The clip shape
+     * @return The clip element id,the clips of same content share one element
+     * @see #registerDef(Object, Element, String)
+     * @since 0.0.1
+     */
+    private String registerClip(SVGClipShape clipShape) {
+        if (clipShape == null) {
+            clipRef = null;
+            return null;
+        }
+        Element element = clipShape.convertToSVGElement(this, document, geomDoubleConverter);
+        return registerDef(null, element, CLIP_KEY_PREFIX);
+    }
+
+    /**
+     * Get the svg dom element
+     *
+     * @return The svg element
+     * @see #getSVGElement(String, boolean, ViewBox, PreserveAspectRatio, MeetOrSlice)
+     * @since 0.0.1
+     */
+    public Element getSVGElement() {
+        return getSVGElement(null, true, null, null, null);
+    }
+
+    /**
+     * Get the svg dom element
+     *
+     * @param id                  The svg id,can be null
+     * @param includeDimensions   true mean that include width and height
+     * @param viewBox             The svg view box,{@link ViewBox}
+     * @param preserveAspectRatio The svg preserveAspectRatio,only viewBox not null,it will useful{@link PreserveAspectRatio}
+     * @param meetOrSlice         The svg use meet or slice,{@link MeetOrSlice}
+     * @return The svg dom element
+     * @since 0.0.1
+     */
+    public Element getSVGElement(String id, boolean includeDimensions,
+                                 ViewBox viewBox, PreserveAspectRatio preserveAspectRatio,
+                                 MeetOrSlice meetOrSlice) {
+        addSVGElementAttrs(rootSvgElement, id, includeDimensions, viewBox, preserveAspectRatio, meetOrSlice);
+        restoreToCount(0);
+        if (pruneUnusedDefs) {
+            pruneUnusedDefs();
+        }
+        return rootSvgElement;
+    }
+
+    /**
+     * Add the root attrs to svg element
+     *
+     * @param svgElement          The svg element
+     * @param id                  The svg id,can be null
+     * @param includeDimensions   true mean that include width and height
+     * @param viewBox             The svg view box,{@link ViewBox}
+     * @param preserveAspectRatio The svg preserveAspectRatio,only viewBox not null,it will useful{@link PreserveAspectRatio}
+     * @param meetOrSlice         The svg use meet or slice,{@link MeetOrSlice}
+     * @see #getSVGElement(String, boolean, ViewBox, PreserveAspectRatio, MeetOrSlice)
+     * @since 0.0.7
+     */
+    protected void addSVGElementAttrs(Element svgElement, String id, boolean includeDimensions,
+                                      ViewBox viewBox, PreserveAspectRatio preserveAspectRatio,
+                                      MeetOrSlice meetOrSlice) {
+        if (id != null) {
+            svgElement.setAttribute("id", id);
+        }
+        svgElement.setAttribute("xmlns", "http://www.w3.org/2000/svg");
+        svgElement.setAttribute("xmlns:xlink", "http://www.w3.org/1999/xlink");
+
+        if (includeDimensions) {
+            String unitStr = this.units != null ? this.units.toString() : "";
+            svgElement.setAttribute("width", geomDP(width) + unitStr);
+            svgElement.setAttribute("height", geomDP(height) + unitStr);
+
+        }
+        if (viewBox != null) {
+            svgElement.setAttribute("viewBox", viewBox.valueStr(this.geomDoubleConverter));
+            if (preserveAspectRatio != null) {
+                svgElement.setAttribute("preserveAspectRatio", preserveAspectRatio + (meetOrSlice == null ? "" : " " + meetOrSlice));
+
+            }
+        }
+    }
+
+    /**
+     * Set the transform to canvas
+     * <p>
+     * Do not recommend the way,plz use {@link #translate(float, float)} ,{@link #scale(float, float)},
+     * {@link #rotate(float, float, float)} ,{@link #skew(float, float, float, float)} to change the transform.
+     * The values of matrix are copied,change the matrix after it will not change the canvas.
+     * </p>
+     *
+     * @param matrix The transform matrix
+     * @since 0.0.7
+     */
+
+    public void setMatrix(@NonNull SVGMatrix matrix) {
+        transform.set(matrix);
+    }
+
+    /**
+     * Get the transform matrix of canvas
+     *
+     * @return The transform matrix
+     * @since 0.0.7
+     */
+    public SVGMatrix getMatrix() {
+        return transform;
+    }
+
+    /**
+     * Reset the transform
+     *
+     * @since 0.0.1
+     */
+    public void resetTransform() {
+        transform.reset();
+    }
+
+    /**
+     * Translate the canvas
+     *
+     * @param dx The distance of x
+     * @param dy The distance of Y
+     * @since 0.0.1
+     */
+    public void translate(float dx, float dy) {
+        transform.postTranslate(dx, dy);
+    }
+
+    /**
+     * Scale the canvas
+     * Postconcats the matrix with the specified scale. M' = S(sx, sy, px, py) * M
+     *
+     * @param sx the scale of X-axis
+     * @param sy the scale of Y-axis
+     * @param px the scale centerX
+     * @param py the scale centerY
+     * @since 0.0.1
+     */
+    public void scale(float sx, float sy, float px, float py) {
+        transform.postScale(sx, sy, px, py);
+    }
+
+    /**
+     * Scale the canvas
+     * Postconcats the matrix with the specified scale. M' = S(sx, sy) * M
+     *
+     * @param sx the scale of X-axis
+     * @param sy the scale of Y-axis
+     * @since 0.0.1
+     */
+    public void scale(float sx, float sy) {
+        transform.postScale(sx, sy);
+    }
+
+    /**
+     * Rotate the canvas
+     * Postconcats the matrix with the specified rotation. M' = R(degrees, px, py) * M
+     *
+     * @param degree The rotate degree
+     * @param px     The rotate centerX
+     * @param py     The rotate centerY
+     * @since 0.0.1
+     */
+    public void rotate(float degree, float px, float py) {
+        transform.postRotate(degree, px, py);
+    }
+
+    /**
+     * Skew the canvas
+     * Postconcats the matrix with the specified skew. M' = K(kx, ky, px, py) * M
+     *
+     * @param sx The skew of X-axis
+     * @param sy The skew of Y-axis
+     * @param px The skew centerX
+     * @param py The skew centerY
+     * @since 0.0.1
+     */
+    public void skew(float sx, float sy, float px, float py) {
+        transform.postSkew(sx, sy, px, py);
+    }
+
+    /**
+     * Get doubleConvert
+     *
+     * @return The convert
+     * @since 0.0.1
+     */
+    public DoubleFunction<String> getGeomDoubleConverter() {
+        return geomDoubleConverter;
+    }
+
+    /**
+     * Set double convert
+     *
+     * @param geomDoubleConverter the convert
+     * @since 0.0.1
+     */
+
+    public void setGeomDoubleConverter(DoubleFunction<String> geomDoubleConverter) {
+        this.geomDoubleConverter = geomDoubleConverter;
+        invalidateAttrCache();
+    }
+
+    /**
+     * Get doubleConvert
+     *
+     * @return The convert
+     * @since 0.0.1
+     */
+    public DoubleFunction<String> getTransformDoubleConverter() {
+        return transformDoubleConverter;
+    }
+
+    /**
+     * Set double convert
+     *
+     * @param transformDoubleConverter the convert
+     * @since 0.0.1
+     */
+    public void setTransformDoubleConverter(DoubleFunction<String> transformDoubleConverter) {
+        this.transformDoubleConverter = transformDoubleConverter;
+        invalidateAttrCache();
+    }
+
+    /**
+     * Saves the current matrix and clip onto a private stack.
+     *
+     * @return The value to {@link #restoreToCount(int)} to balance this save()
+     * @see #restore()
+     * @see #restoreToCount(int)
+     * @since 0.0.1
+     */
+    public int save() {
+        return save(SAVE_FLAG_MATRIX | SAVE_FLAG_CLIP);
+    }
+
+    /**
+     * Saves the current matrix and clip onto a private stack.
+     *
+     * @param flags The save flags,refer to {@link Saveflags}
+     * @return The value to {@link #restoreToCount(int)} to balance this save()
+     * @see #restore()
+     * @see #restoreToCount(int)
+     * @since 0.0.1
+     */
+    public int save(@Saveflags int flags) {
+        return saveFlagInternal(flags);
+    }
+
+    private int saveFlagInternal(int flags) {
+        return saveStack.push(flags, transform, clip, clipRef);
+    }
+
+    /**
+     * create a new layer and save the current layer
+     * it will generate "<svg></svg>" or "<g></g>" element
+     *
+     * @param x      the layer x pos
+     * @param y      the layer y pos
+     * @param width  the layer width
+     * @param height the layer height
+     * @return The value to {@link #restoreToCount(int)} to balance this saveLayer()
+     * @see #compatibleWithAndroid when set {@link #compatibleWithAndroid} true, it will use "<g></g>" to create layer, otherwise use "<svg></svg>"
+     * when {@link #restore() } {@link #restoreToCount(int)} the element will be added to the prev layer
+     */
+
+    public int saveLayer(float x, float y, float width, float height) {
+        int saveCount = saveFlagInternal(SAVE_FLAG_ALL);
+        Element layer = initLayer(x, y, width, height);
+        contentHash = SVGContentHash.hash(SVGContentHash.hash(contentHash, 'L'), layer);
+        ++layerCount;
+        pushLayer(layer);
+        return saveCount;
+    }
+
+    /**
+     * Save the current layer and use the new layer as current layer
+     *
+     * @param layer The new layer element
+     * @see #saveLayer(float, float, float, float)
+     * @since 0.0.7
+     */
+    protected void pushLayer(Element layer) {
+        saveStack.setLayer(layerElement);
+        layerElement = layer;
+    }
+
+    /**
+     * Restore the prev layer,the current layer will be added to the prev layer if it is not empty
+     *
+     * @see #restore()
+     * @since 0.0.7
+     */
+    protected void popLayer() {
+        Element nowElement = layerElement;
+        layerElement = saveStack.getLayer();
+        if (nowElement.hasChildNodes()) {
+            layerElement.appendChild(nowElement);
+        }
+    }
+
+    private Element initLayer(float x, float y, float width, float height) {
+        Element layer = document.createElement(compatibleWithAndroid ? G_NAME : SVG_NAME);
+        if (!compatibleWithAndroid) {
+            layer.setAttribute("x", geomDP(x));
+            layer.setAttribute("y", geomDP(y));
+            layer.setAttribute("width", geomDP(width));
+            layer.setAttribute("height", geomDP(height));
+        }
+        return layer;
+    }
+
+    /**
+     * Clear all elements in the current layer
+     */
+    public void clearLayer() {
+        contentHash = SVGContentHash.hash(contentHash, 'C');
+        NodeList childList = layerElement.getChildNodes();
+        for (int i = 0; i < childList.getLength(); ++i) {
+            Node node = childList.item(i);
+            if (layerElement != rootSvgElement || !node.getNodeName().equals(DEFS_NAME)) {
+                layerElement.removeChild(childList.item(i));
+            }
+        }
+    }
+
+    /**
+     * Restore the matrix and clip from stack.
+     * <p>
+     * This call balances a previous call to save(), and is used to remove all
+     * modifications to the matrix/clip state since the last save call.
+     * </p>
+     *
+     * @see #save()
+     * @since 0.0.1
+     */
+    public void restore() {
+        if (saveStack.size() > 0) {
+            int flags = saveStack.getFlags();
+            if ((flags & SAVE_FLAG_MATRIX) == SAVE_FLAG_MATRIX) {
+                saveStack.getMatrix(transform);
+            }
+
+            if ((flags & SAVE_FLAG_CLIP) == SAVE_FLAG_CLIP) {
+                clipRef = saveStack.getClipRef();
+                clip = saveStack.getClip();
+            }
+
+            if ((flags & SAVE_FLAG_LAYER) == SAVE_FLAG_LAYER) {
+                contentHash = SVGContentHash.hash(contentHash, 'P');
+                --layerCount;
+                popLayer();
+            }
+            saveStack.pop();
+        }
+    }
+
+    /**
+     * Restore the matrix and clip from stack.
+     *
+     * @param count Restore to the count
+     * @see #save()
+     * @since 0.0.2
+     */
+    public void restoreToCount(int count) {
+        if (count < 0) count = 0;
+        while (saveStack.size() > count) {
+            restore();
+        }
+    }
+
+    /**
+     * Return the save count.
+     *
+     * @return The save count,
+     * @see #restore()
+     * @see #restoreToCount(int)
+     * @since 0.0.2
+     */
+    public int getSaveCount() {
+        return saveStack.size();
+    }
+
+    /**
+     * Get svg xml string
+     *
+     * @return The svg xml string
+     * @throws TransformerException
+     * @see SVGXmlSerializer
+     * @since 0.0.1
+     */
+    public String getSVGXmlString() throws TransformerException {
+        StringWriter stringWriter = new StringWriter();
+        writeSVGXml(new SVGXmlSerializer(stringWriter));
+        return stringWriter.toString();
+    }
+
+    /**
+     * Write SVG xml string to outputStream
+     *
+     * @param outputStream The stream which output,it is written in UTF-8
+     * @throws TransformerException
+     * @see SVGXmlSerializer
+     * @since 0.0.1
+     */
+    public void writeSVGXMLToStream(OutputStream outputStream) throws TransformerException {
+        writeSVGXml(new SVGXmlSerializer(outputStream));
+    }
+
+    /**
+     * Write svg document with serializer
+     *
+     * @param serializer The serializer,used by {@link #getSVGXmlString()},{@link #writeSVGXMLToStream(OutputStream)}
+     * @throws TransformerException
+     */
+    private void writeSVGXml(SVGXmlSerializer serializer) throws TransformerException {
+        getSVGElement();
+        if (useStyleClass) {
+            internStyleClasses();
+        }
+        try {
+            serializer.writeDocument(document, DOCTYPE_PUBLIC_ID, DOCTYPE_SYSTEM_ID);
+        } catch (IOException e) {
+            throw new TransformerException(e);
+        }
+    }
+
+    /**
+     * Remove the defs elements which are not reachable from the svg elements
+     * <p>
+     * The svg elements out of defs and the defs elements without id are the roots,
+     * the references of the reachable defs are followed,such as the gradient href and the text path in clip.
+     * </p>
+     *
+     * @see #setPruneUnusedDefs(boolean)
+     */
+    private void pruneUnusedDefs() {
+        List<Element> defsList = new ArrayList<>();
+        Set<String> pendingRefs = new HashSet<>();
+        collectRefs(rootSvgElement, pendingRefs, defsList);
+        if (defsList.isEmpty()) return;
+        //the ids in the def element subtree point to the def element
+        Map<String, Element> defsById = new HashMap<>();
+        for (Element defs : defsList) {
+            for (Node child = defs.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child.getNodeType() != Node.ELEMENT_NODE) continue;
+                Element def = (Element) child;
+                if (def.hasAttribute("id")) {
+                    mapDefIds(def, defsById);
+                } else {
+                    collectRefs(def, pendingRefs, null);
+                }
+            }
+        }
+        Set<Element> usedDefs = new HashSet<>();
+        Deque<String> refs = new ArrayDeque<>(pendingRefs);
+        while (!refs.isEmpty()) {
+            Element def = defsById.get(refs.poll());
+            if (def == null || !usedDefs.add(def)) continue;
+            pendingRefs.clear();
+            collectRefs(def, pendingRefs, null);
+            refs.addAll(pendingRefs);
+        }
+        Set<String> prunedIds = new HashSet<>();
+        for (Element defs : defsList) {
+            Node child = defs.getFirstChild();
+            while (child != null) {
+                Node next = child.getNextSibling();
+                if (child.getNodeType() == Node.ELEMENT_NODE && ((Element) child).hasAttribute("id")
+                        && !usedDefs.contains(child)) {
+                    prunedIds.add(((Element) child).getAttribute("id"));
+                    defs.removeChild(child);
+                }
+                child = next;
+            }
+        }
+        if (prunedIds.isEmpty()) return;
+        //the pruned defs must be added again when they are used
+        defsRegistry.removeIds(prunedIds);
+        for (ShapeInstance instance : shapeInstances.values()) {
+            if (prunedIds.contains(instance.symbolId))
+                instance.symbolId = null;
+        }
+        if (clipRef != null && prunedIds.contains(clipRef))
+            clipRef = null;
+        invalidateAttrCache();
+        if (defElement != null && defElement.getFirstChild() == null) {
+            defElement.getParentNode().removeChild(defElement);
+            defElement = null;
+        }
+    }
+
+    /**
+     * Collect the ids referenced by url(#id) and href of the element subtree
+     *
+     * @param root     The subtree root
+     * @param refs     The referenced ids
+     * @param defsList If it is not null,the defs elements are added to it and their subtrees are skipped
+     */
+    private void collectRefs(Element root, Set<String> refs, List<Element> defsList) {
+        Node node = root;
+        while (node != null) {
+            boolean skipChildren = false;
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                if (defsList != null && node != root && DEFS_NAME.equals(node.getNodeName())) {
+                    defsList.add((Element) node);
+                    skipChildren = true;
+                } else {
+                    NamedNodeMap attrs = node.getAttributes();
+                    for (int i = 0; i < attrs.getLength(); i++) {
+                        Node attr = attrs.item(i);
+                        String value = attr.getNodeValue();
+                        if (attr.getNodeName().endsWith("href") && value.startsWith("#")) {
+                            refs.add(value.substring(1));
+                        } else {
+                            collectUrlRefs(value, refs);
+                        }
+                    }
+                }
+            } else if (node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE) {
+                //the css rules of style element
+                if (STYLE_NAME.equals(node.getParentNode().getNodeName()))
+                    collectUrlRefs(node.getNodeValue(), refs);
+            }
+            //visit the tree in document order without recursion
+            if (!skipChildren && node.getFirstChild() != null) {
+                node = node.getFirstChild();
+                continue;
+            }
+            while (node != root && node.getNextSibling() == null) {
+                node = node.getParentNode();
+            }
+            node = node == root ? null : node.getNextSibling();
+        }
+    }
+
+    private static void collectUrlRefs(String value, Set<String> refs) {
+        int start = value.indexOf("url(#");
+        while (start >= 0) {
+            int end = value.indexOf(')', start);
+            if (end < 0) return;
+            refs.add(value.substring(start + 5, end));
+            start = value.indexOf("url(#", end);
+        }
+    }
+
+    private static void mapDefIds(Element def, Map<String, Element> defsById) {
+        NodeList elements = def.getElementsByTagName("*");
+        defsById.put(def.getAttribute("id"), def);
+        for (int i = 0; i < elements.getLength(); i++) {
+            Element element = (Element) elements.item(i);
+            if (element.hasAttribute("id"))
+                defsById.put(element.getAttribute("id"), def);
+        }
+    }
+
+    /**
+     * Replace the repeated inline styles with the classes
+     * <p>
+     * The style which is used by more than one element or is interned before gets a class,
+     * so the repeated write of xml only interns the elements drawn after last write.
+     * </p>
+     *
+     * @see #setUseStyleClass(boolean)
+     */
+    private void internStyleClasses() {
+        List<Element> styledElements = new ArrayList<>();
+        Map<String, Integer> styleCounts = new HashMap<>();
+        Node node = rootSvgElement.getFirstChild();
+        while (node != null) {
+            if (node.getNodeType() == Node.ELEMENT_NODE && ((Element) node).hasAttribute("style")) {
+                String style = ((Element) node).getAttribute("style");
+                Integer count = styleCounts.get(style);
+                styleCounts.put(style, count == null ? 1 : count + 1);
+                styledElements.add((Element) node);
+            }
+            //visit the tree in document order without recursion
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+                continue;
+            }
+            while (node != rootSvgElement && node.getNextSibling() == null) {
+                node = node.getParentNode();
+            }
+            node = node == rootSvgElement ? null : node.getNextSibling();
+        }
+        int rulesSize = 0;
+        boolean newRules = false;
+        for (Element element : styledElements) {
+            String style = element.getAttribute("style");
+            String className = styleClasses.get(style);
+            if (className == null) {
+                if (styleCounts.get(style) < 2) continue;
+                className = defsKeyPrefix + STYLE_CLASS_PREFIX + styleClasses.size();
+                styleClasses.put(style, className);
+                //.className{style}
+                rulesSize += className.length() + style.length() + 3;
+                newRules = true;
+            }
+            element.removeAttribute("style");
+            String classAttr = element.getAttribute("class");
+            element.setAttribute("class", classAttr.isEmpty() ? className : classAttr + " " + className);
+            //' style=""' and ' class=""'
+            styleClassSavedSize += style.length() - className.length();
+        }
+        if (!newRules) return;
+        if (styleElement == null) {
+            styleElement = document.createElement(STYLE_NAME);
+            addElementToDef(styleElement);
+            //<style></style>
+            rulesSize += STYLE_NAME.length() * 2 + 5;
+        }
+        StringBuilder b = new StringBuilder();
+        for (Map.Entry<String, String> entry : styleClasses.entrySet()) {
+            b.append('.').append(entry.getValue()).append('{').append(entry.getKey()).append('}');
+        }
+        styleElement.setTextContent(b.toString());
+        styleClassSavedSize -= rulesSize;
+    }
+
+    /**
+     * Return the dom document which used to create elements
+     *
+     * @return The dom document
+     * @since 0.0.7
+     */
+    protected Document getDocument() {
+        return document;
+    }
+
+    private void initXmlVersion() {
+        document.setXmlStandalone(true);
+        document.setXmlVersion("1.0");
+    }
+
+
+    /**
+     * Returns a string representation of the specified number for use in the
+     * SVG output.
+     *
+     * @param d the number.
+     * @return A string representation of the number.
+     */
+    private String geomDP(final double d) {
+        return this.geomDoubleConverter.apply(d);
+    }
+
+    /**
+     * Get the paint style string to element
+     * <p>
+     * The string of last draw is reused when the paint is not changed,
+     * it is checked by {@link SVGPaintAttrs#getGenerationId()},a copy of dash array and the def id of gradient,
+     * because they can be changed in place.The def id is same only if the gradient element is same.
+     * </p>
+     *
+     * @param paint The style paint,{@link SVGPaintAttrs}
+     * @return The style string
+     * @see #addBaseAttrToDrawElement(Element, SVGPaintAttrs, String)
+     * @see #getSVGFillStyle(SVGPaintAttrs)
+     * @see #strokeStyle(SVGPaintAttrs, boolean)
+     * @since 0.0.1
+     */
+    private String style(SVGPaintAttrs paint) {
+        if (paint == null)
+            return strokeStyle(null, true);
+        if (paint instanceof SVGStyle)
+            return style((SVGStyle) paint);
+        int generationId = paint.getGenerationId();
+        float[] dash = paint.getDashArray();
+        // only the used gradient is added to defs
+        String gradientId = paint.getGradient() != null && (paint.hasFill() || paint.isUseGradientStroke())
+                ? addGradient(paint.getGradient()) : null;
+        if (paint == lastStylePaint && generationId == lastStyleGenerationId
+                && Arrays.equals(dash, lastStyleDash) && Objects.equals(gradientId, lastStyleGradientId)) {
+            return lastStyle;
+        }
+        lastStyle = buildStyle(paint);
+        lastStylePaint = paint;
+        lastStyleGenerationId = generationId;
+        lastStyleDash = dash != null ? dash.clone() : null;
+        lastStyleGradientId = gradientId;
+        return lastStyle;
+    }
+
+    /**
+     * Get the style string of the immutable style,it is built once for the equal styles
+     *
+     * @param style The style,{@link SVGStyle}
+     * @return The style string
+     * @since 0.0.7
+     */
+    private String style(SVGStyle style) {
+        String styleString = styleStrings.get(style);
+        if (styleString == null) {
+            styleString = buildStyle(style);
+            styleStrings.put(style, styleString);
+        }
+        return styleString;
+    }
+
+    /**
+     * Build the paint style string
+     *
+     * @param paint The style paint,{@link SVGPaintAttrs}
+     * @return The style string
+     * @since 0.0.7
+     */
+    private String buildStyle(SVGPaintAttrs paint) {
+        if (paint == null || !paint.hasFill()) {
+            return strokeStyle(paint, true);
+        } else if (!paint.hasStroke())
+            return getSVGFillStyle(paint);
+        else
+            return strokeStyle(paint, false) + getSVGFillStyle(paint);
+    }
+
+    /**
+     * Get the strokeStyle of Paint
+     *
+     * @param paint        The style paint,{@link SVGPaintAttrs}
+     * @param needFillNone true means that fill none
+     * @return the strokeStyle of Paint
+     * @since 0.0.1
+     */
+    private String strokeStyle(SVGPaintAttrs paint, boolean needFillNone) {
+
+        double strokeWidth = 1.0f;
+        String strokeCap = DEFAULT_STROKE_CAP;
+        String strokeJoin = DEFAULT_STROKE_JOIN;
+        float miterLimit = DEFAULT_MITER_LIMIT;
+        int alpha = 255;
+        String strokeColor = "white";
+        float[] dashArray = null;
+        if (paint != null) {
+            if (paint.getStrokeWidth() > 0)
+                strokeWidth = paint.getStrokeWidth();
+            if (paint.getStrokeLineCap() != null)
+                strokeCap = paint.getStrokeLineCap();
+            if (paint.getStrokeLineJoin() != null)
+                strokeJoin = paint.getStrokeLineJoin();
+            miterLimit = paint.getStrokeMiter();
+
+            dashArray = paint.getDashArray();
+            strokeColor = strokeColor(paint);
+            alpha = paint.getAlpha();
+        }
+
+        StringBuilder b = new StringBuilder();
+        b.append("stroke-width:").append(strokeWidth).append(";");
+        b.append("stroke:").append(strokeColor).append(";");
+        if (alpha < 255)
+            b.append("stroke-opacity:").append(SVGUtils.getColorAlpha(alpha)).append(';');
+        if (!strokeCap.equals(DEFAULT_STROKE_CAP)) {
+            b.append("stroke-linecap:").append(strokeCap).append(';');
+        }
+        if (!strokeJoin.equals(DEFAULT_STROKE_JOIN)) {
+            b.append("stroke-linejoin:").append(strokeJoin).append(';');
+        }
+        if (Math.abs(DEFAULT_MITER_LIMIT - miterLimit) > 0.001) {
+            SVGUtils.appendDouble(b.append("stroke-miterlimit:"), miterLimit, geomDoubleConverter).append(';');
+        }
+        if (dashArray != null && dashArray.length != 0) {
+            b.append("stroke-dasharray:");
+            for (int i = 0; i < dashArray.length; i++) {
+                if (i != 0) b.append(';');
+                b.append(dashArray[i]);
+            }
+            b.append(';');
+        }
+        if (needFillNone)
+            b.append("fill:none;");
+        return b.toString();
+    }
+
+    /**
+     * Get svg fill style of Paint
+     *
+     * @param paint The style paint,{@link SVGPaintAttrs}
+     * @return The fill style
+     * @since 0.0.1
+     */
+    private String getSVGFillStyle(SVGPaintAttrs paint) {
+        StringBuilder b = new StringBuilder();
+        b.append("fill:").append(fillColor(paint)).append(';');
+
+        double opacity = SVGUtils.getColorAlpha(paint.getFillColorAlpha());
+        if (opacity < 1.0) {
+            b.append("fill-opacity:").append(opacity).append(';');
+        }
+        if (!paint.getFillRule().equals(SVGPaintAttrs.FillRule.FILL_RULE_DEFAULT)) {
+            b.append("fill-rule:").append(paint.getFillRule()).append(';');
+        }
+        return b.toString();
+    }
+
+    /**
+     * Get fillColor of paint
+     *
+     * @param paint The style paint,{@link SVGPaintAttrs}
+     * @return The fillColor
+     * @since 0.0.1
+     */
+    private String fillColor(SVGPaintAttrs paint) {
+        if (paint.getGradient() != null) {
+            String id = addGradient(paint.getGradient());
+            return "url(#" + id + ")";
+        }
+
+        return SVGUtils.rgbColorStr(paint.getFillColor());
+    }
+
+    /**
+     * Get the strokeColor of Paint
+     *
+     * @param paint The style paint,{@link SVGPaintAttrs} ,if {@link SVGPaintAttrs#isUseGradientStroke()} true,means that stroke color use gradient
+     * @return the strokeColor of Paint
+     * @since 0.0.1
+     */
+    private String strokeColor(SVGPaintAttrs paint) {
+        if (paint.getGradient() != null && paint.isUseGradientStroke()) {
+            String id = addGradient(paint.getGradient());
+            return "url(#" + id + ")";
+        }
+
+        return SVGUtils.rgbColorStr(paint.getColor());
+    }
+
+    /**
+     * Add gradient color to defs
+     *
+     * @param gradient The gradient,{@link SVGGradient}
+     * @return The gradient id
+     * @since 0.0.1
+     */
+    private String addGradient(SVGGradient gradient) {
+        String id = defsRegistry.getId(gradient);
+        if (id == null) {
+            Element element = gradient.convertToSVGElement(this, document, geomDoubleConverter);
+            id = registerDef(gradient, element, "gp");
+        }
+        return id;
+    }
+
+    /**
+     * Add the def element to defs if no defined element has the same content
+     *
+     * @param def      The def object,it keeps the id to skip the convert of next use,can be null
+     * @param element  The def element without id
+     * @param idPrefix The id prefix of the kind of def
+     * @return The id of the defined element
+     * @see SVGDefsRegistry
+     * @since 0.0.7
+     */
+    private String registerDef(Object def, Element element, String idPrefix) {
+        String id = defsRegistry.register(element, defsKeyPrefix + idPrefix);
+        if (id == null) {
+            id = element.getAttribute("id");
+            addDefElement(element);
+        }
+        if (def != null)
+            defsRegistry.putId(def, id);
+        return id;
+    }
+
+    /**
+     * Add transform to draw element
+     *
+     * @param element The draw element
+     * @since 0.0.1
+     */
+    private void addTransformToElement(Element element) {
+        if (transform == null || transform.isIdentity())
+            return;
+        if (transform != lastTransformMatrix || transform.getGenerationId() != lastTransformGenerationId) {
+            lastTransform = getSVGTransform(transform);
+            lastTransformMatrix = transform;
+            lastTransformGenerationId = transform.getGenerationId();
+        }
+        element.setAttribute("transform", lastTransform);
+    }
+
+    /**
+     * Get canvas transform value
+     *
+     * @param t The transform matrix
+     * @return The value of matrix
+     * @since 0.0.1
+     */
+    private String getSVGTransform(SVGMatrix t) {
+        StringBuilder b = new StringBuilder(64).append("matrix(");
+        SVGUtils.appendDouble(b, t.getValue(SVGMatrix.MSCALE_X), transformDoubleConverter).append(',');
+        SVGUtils.appendDouble(b, t.getValue(SVGMatrix.MSKEW_Y), transformDoubleConverter).append(',');
+        SVGUtils.appendDouble(b, t.getValue(SVGMatrix.MSKEW_X), transformDoubleConverter).append(',');
+        SVGUtils.appendDouble(b, t.getValue(SVGMatrix.MSCALE_Y), transformDoubleConverter).append(',');
+        SVGUtils.appendDouble(b, t.getValue(SVGMatrix.MTRANS_X), transformDoubleConverter).append(',');
+        SVGUtils.appendDouble(b, t.getValue(SVGMatrix.MTRANS_Y), transformDoubleConverter).append(')');
+        return b.toString();
+    }
+
+    /**
+     * Add element to defs
+     *
+     * @param element The dom element
+     * @since 0.0.1
+     */
+    protected void addElementToDef(Element element) {
+        if (element == null) return;
+        if (defElement == null) {
+            defElement = document.createElement(DEFS_NAME);
+            rootSvgElement.insertBefore(defElement, rootSvgElement.getFirstChild());
+        }
+        defElement.appendChild(element);
+    }
+
+    /**
+     * Set draw element id
+     *
+     * @param element   The draw element
+     * @param elementID The id
+     * @since 0.0.1
+     */
+    private void setElementId(Element element, String elementID) {
+
+        if (elementID != null) {
+            if (this.elementIDs.contains(elementID)) {
+                throw new IllegalStateException("The element id "
+                        + elementID + " is already used.");
+            } else {
+                this.elementIDs.add(elementID);
+            }
+            element.setAttribute("id", elementID);
+        }
+    }
+
+}
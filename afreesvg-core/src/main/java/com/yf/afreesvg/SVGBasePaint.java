@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import androidx.annotation.ColorInt;
+
+import com.yf.afreesvg.filter.SVGFilter;
+import com.yf.afreesvg.font.SVGFont;
+import com.yf.afreesvg.gradient.SVGGradient;
+
+/**
+ * The paint of pure java canvas
+ * It only holds the svg attrs,no android.graphics.Paint,the default values are same as android Paint,
+ * it fills with black and does not stroke
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public class SVGBasePaint implements SVGPaintAttrs {
+    private boolean stroke = false;
+    private boolean fill = true;
+    private float strokeWidth = 0;
+    private @LineCap
+    String strokeLineCap = LineCap.LINE_CAP_BUTT;
+    private @LineJoin
+    String strokeLineJoin = LineJoin.LINE_JOIN_MITER;
+    private float strokeMiter = 4;
+    private float[] dashArray;
+    private @ColorInt
+    int color = 0xff000000;
+    private @ColorInt
+    int fillColor;
+    private @FillRule
+    String fillRule = FillRule.FILL_RULE_DEFAULT;
+    private SVGGradient gradient;
+    private boolean useGradientStroke = false;
+    private SVGFont font;
+    private @TextAnchor
+    String textAnchor = TextAnchor.TEXT_ANCHOR_START;
+    private float letterSpacing = 0;
+    private float wordSpacing = 0;
+    private @LengthAdjust
+    String lengthAdjust = LengthAdjust.LENGTH_ADJUST_SPACING;
+    private @TextDecoration
+    String textDecoration = TextDecoration.TEXT_DECORATION_NONE;
+    private SVGFilter filter;
+    private int generationId = 0;
+
+    @Override
+    public boolean hasStroke() {
+        return stroke;
+    }
+
+    /**
+     * Set whether draw the stroke
+     *
+     * @param stroke true to stroke
+     */
+    public void setStroke(boolean stroke) {
+        ++generationId;
+        this.stroke = stroke;
+    }
+
+    @Override
+    public boolean hasFill() {
+        return fill;
+    }
+
+    /**
+     * Set whether fill the shape
+     *
+     * @param fill true to fill
+     */
+    public void setFill(boolean fill) {
+        ++generationId;
+        this.fill = fill;
+    }
+
+    @Override
+    public float getStrokeWidth() {
+        return strokeWidth;
+    }
+
+    public void setStrokeWidth(float strokeWidth) {
+        ++generationId;
+        this.strokeWidth = strokeWidth;
+    }
+
+    @Override
+    public String getStrokeLineCap() {
+        return strokeLineCap;
+    }
+
+    public void setStrokeLineCap(@LineCap String strokeLineCap) {
+        ++generationId;
+        this.strokeLineCap = strokeLineCap;
+    }
+
+    @Override
+    public String getStrokeLineJoin() {
+        return strokeLineJoin;
+    }
+
+    public void setStrokeLineJoin(@LineJoin String strokeLineJoin) {
+        ++generationId;
+        this.strokeLineJoin = strokeLineJoin;
+    }
+
+    @Override
+    public float getStrokeMiter() {
+        return strokeMiter;
+    }
+
+    public void setStrokeMiter(float strokeMiter) {
+        ++generationId;
+        this.strokeMiter = strokeMiter;
+    }
+
+    @Override
+    public float[] getDashArray() {
+        return dashArray;
+    }
+
+    public void setDashArray(float[] dashArray) {
+        ++generationId;
+        this.dashArray = dashArray;
+    }
+
+    @Override
+    public int getColor() {
+        return color;
+    }
+
+    public void setColor(@ColorInt int color) {
+        ++generationId;
+        this.color = color;
+    }
+
+    @Override
+    public int getAlpha() {
+        if (gradient == null || !useGradientStroke)
+            return color >>> 24;
+        return 255;
+    }
+
+    @Override
+    public int getFillColor() {
+        return fillColor;
+    }
+
+    public void setFillColor(@ColorInt int fillColor) {
+        ++generationId;
+        this.fillColor = fillColor;
+    }
+
+    @Override
+    public int getFillColorAlpha() {
+        if (gradient == null)
+            return fillColor >>> 24;
+        return 255;
+    }
+
+    @Override
+    public String getFillRule() {
+        return fillRule;
+    }
+
+    public void setFillRule(@FillRule String fillRule) {
+        ++generationId;
+        this.fillRule = fillRule;
+    }
+
+    @Override
+    public SVGGradient getGradient() {
+        return gradient;
+    }
+
+    public void setGradient(SVGGradient gradient) {
+        ++generationId;
+        this.gradient = gradient;
+    }
+
+    @Override
+    public boolean isUseGradientStroke() {
+        return useGradientStroke;
+    }
+
+    public void setUseGradientStroke(boolean useGradientStroke) {
+        ++generationId;
+        this.useGradientStroke = useGradientStroke;
+    }
+
+    @Override
+    public SVGFont getFont() {
+        return font;
+    }
+
+    public void setFont(SVGFont font) {
+        ++generationId;
+        this.font = font;
+    }
+
+    @Override
+    public String getTextAnchor() {
+        return textAnchor;
+    }
+
+    public void setTextAnchor(@TextAnchor String textAnchor) {
+        ++generationId;
+        this.textAnchor = textAnchor;
+    }
+
+    @Override
+    public float getLetterSpacing() {
+        return letterSpacing;
+    }
+
+    public void setLetterSpacing(float letterSpacing) {
+        ++generationId;
+        this.letterSpacing = letterSpacing;
+    }
+
+    @Override
+    public float getWordSpacing() {
+        return wordSpacing;
+    }
+
+    public void setWordSpacing(float wordSpacing) {
+        ++generationId;
+        this.wordSpacing = wordSpacing;
+    }
+
+    @Override
+    public String getLengthAdjust() {
+        return lengthAdjust;
+    }
+
+    public void setLengthAdjust(@LengthAdjust String lengthAdjust) {
+        ++generationId;
+        this.lengthAdjust = lengthAdjust;
+    }
+
+    @Override
+    public String getTextDecoration() {
+        return textDecoration;
+    }
+
+    public void setTextDecoration(@TextDecoration String textDecoration) {
+        ++generationId;
+        this.textDecoration = textDecoration;
+    }
+
+    @Override
+    public SVGFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(SVGFilter filter) {
+        ++generationId;
+        this.filter = filter;
+    }
+
+    @Override
+    public int getGenerationId() {
+        return generationId;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * The 64 bit FNV-1a hash of the svg content
+ * <p>
+ * It is used by {@link SVGBaseCanvas#getContentHash()},the values are mixed in order,
+ * so the same content in other order has other hash.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+final class SVGContentHash {
+    static final long INITIAL = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private SVGContentHash() {
+    }
+
+    static long hash(long h, long value) {
+        for (int i = 0; i < 8; i++) {
+            h = (h ^ (value & 0xff)) * PRIME;
+            value >>>= 8;
+        }
+        return h;
+    }
+
+    /**
+     * Hash the chars and a separator,so "ab","c" and "a","bc" have different hash
+     */
+    static long hash(long h, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                h = (h ^ value.charAt(i)) * PRIME;
+            }
+        }
+        return (h ^ 0xffff) * PRIME;
+    }
+
+    /**
+     * Hash the tag,attrs,text and children of element
+     */
+    static long hash(long h, Element element) {
+        h = hash(h, element.getTagName());
+        NamedNodeMap attrs = element.getAttributes();
+        for (int i = 0; i < attrs.getLength(); i++) {
+            Node attr = attrs.item(i);
+            h = hash(hash(h, attr.getNodeName()), attr.getNodeValue());
+        }
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                h = hash(h, (Element) child);
+            } else {
+                h = hash(h, child.getNodeValue());
+            }
+        }
+        //the end of children
+        return hash(h, '/');
+    }
+}
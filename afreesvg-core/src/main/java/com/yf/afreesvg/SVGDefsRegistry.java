@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The registry of defs element ids
+ * <p>
+ * The defs are keyed by their content,the content key is the tag,attrs and children of the element except its id,
+ * so the defs which generate the same element are written once,even if they are created by different objects.
+ * The gradients,filters and text paths also keep the id of their object by equals,
+ * so they are not converted to element again when they are used again.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+final class SVGDefsRegistry {
+    /**
+     * The def objects and their ids
+     */
+    private final Map<Object, String> objectIds = new HashMap<>();
+    /**
+     * The content keys of def elements and their ids
+     */
+    private final Map<String, String> contentIds = new HashMap<>();
+    /**
+     * The id count of each id prefix
+     */
+    private final Map<String, Integer> idCounts = new HashMap<>();
+
+    /**
+     * Get the id of def object which is registered before
+     *
+     * @param def The def object,such as gradient
+     * @return The id,null if not registered
+     */
+    String getId(Object def) {
+        return objectIds.get(def);
+    }
+
+    /**
+     * Get the id of the element which has the same content
+     *
+     * @param element The def element without id
+     * @return The id,null means that the element is new,then it sets the new id to the element
+     */
+    String register(Element element, String idPrefix) {
+        String key = contentKey(element);
+        String id = contentIds.get(key);
+        if (id != null) return id;
+        Integer count = idCounts.get(idPrefix);
+        count = count == null ? 0 : count;
+        idCounts.put(idPrefix, count + 1);
+        id = idPrefix + count;
+        contentIds.put(key, id);
+        element.setAttribute("id", id);
+        return null;
+    }
+
+    /**
+     * Keep the id of def object
+     *
+     * @param def The def object
+     * @param id  The id of its element
+     */
+    void putId(Object def, String id) {
+        objectIds.put(def, id);
+    }
+
+    /**
+     * Get the count of distinct defs
+     *
+     * @return The count
+     */
+    int size() {
+        return contentIds.size();
+    }
+
+    /**
+     * Remove the ids of the def elements which are removed from defs
+     *
+     * @param ids The removed ids
+     */
+    void removeIds(Set<String> ids) {
+        Iterator<String> iterator = objectIds.values().iterator();
+        while (iterator.hasNext()) {
+            if (ids.contains(iterator.next())) iterator.remove();
+        }
+        iterator = contentIds.values().iterator();
+        while (iterator.hasNext()) {
+            if (ids.contains(iterator.next())) iterator.remove();
+        }
+    }
+
+    void clear() {
+        objectIds.clear();
+        contentIds.clear();
+        idCounts.clear();
+    }
+
+    private static String contentKey(Element element) {
+        StringBuilder b = new StringBuilder();
+        appendContent(b, element, true);
+        return b.toString();
+    }
+
+    private static void appendContent(StringBuilder b, Element element, boolean skipId) {
+        b.append('<').append(element.getTagName());
+        NamedNodeMap attrs = element.getAttributes();
+        String[] names = new String[attrs.getLength()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = ((Attr) attrs.item(i)).getName();
+        }
+        //the attrs order of dom is not specified
+        Arrays.sort(names);
+        for (String name : names) {
+            if (skipId && name.equals("id")) continue;
+            b.append(' ').append(name).append("=\"").append(element.getAttribute(name)).append('"');
+        }
+        b.append('>');
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                appendContent(b, (Element) child, false);
+            } else {
+                b.append(child.getNodeValue());
+            }
+        }
+        b.append("</>");
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * The picture which is drawn from the binary of {@link SVGPicture#writeTo(java.io.OutputStream)}
+ * <p>
+ * It does not read the ops into objects,every draw reads the ops from the buffer,
+ * and only the strings and styles which are used are read once per draw.
+ * So the pictures cached in files can be mapped by {@link #map(File)} and drawn at different sizes
+ * with {@link #draw(SVGBaseCanvas, SVGMatrix)},or with other precision by the converters of canvas.
+ * The buffer is never changed,one picture can be drawn by many threads at the same time.
+ * </p>
+ * Example code:
+ * <pre>
+ *    try (FileOutputStream out = new FileOutputStream(file)) {
+ *        picture.writeTo(out);
+ *    }
+ *    SVGMappedPicture mapped = SVGMappedPicture.map(file);
+ *    mapped.draw(svgCanvas);
+ * </pre>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public final class SVGMappedPicture {
+    private final ByteBuffer buffer;
+    private final float width;
+    private final float height;
+    private final int opCount;
+
+    /**
+     * Create the picture of the buffer
+     *
+     * @param buffer The buffer,the picture starts from its position
+     * @throws IllegalArgumentException If the buffer is not a picture of the supported version
+     */
+    public SVGMappedPicture(@NonNull ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer().order(ByteOrder.BIG_ENDIAN);
+        int base = buffer.position();
+        if (buffer.remaining() < 4 * 9 || this.buffer.getInt(base) != SVGPictureFormat.MAGIC) {
+            throw new IllegalArgumentException("The buffer is not a picture");
+        }
+        int version = this.buffer.getInt(base + 4);
+        if (version != SVGPictureFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported picture version " + version);
+        }
+        width = this.buffer.getFloat(base + 8);
+        height = this.buffer.getFloat(base + 12);
+        opCount = this.buffer.getInt(base + 16);
+    }
+
+    /**
+     * Map the whole file as the picture
+     *
+     * @param file The file written by {@link SVGPicture#writeTo(java.io.OutputStream)}
+     * @return The picture
+     * @throws IOException If map fails
+     */
+    public static SVGMappedPicture map(@NonNull File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            // the mapping is valid after the channel is closed
+            return new SVGMappedPicture(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Get the width of recording
+     *
+     * @return The width
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the height of recording
+     *
+     * @return The height
+     */
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Get the count of recorded ops
+     *
+     * @return The op count
+     */
+    public int getOpCount() {
+        return opCount;
+    }
+
+    /**
+     * Draw the picture into the canvas
+     *
+     * @param canvas The canvas
+     * @see #draw(SVGBaseCanvas, SVGMatrix)
+     */
+    public void draw(@NonNull SVGBaseCanvas canvas) {
+        draw(canvas, null);
+    }
+
+    /**
+     * Draw the picture into the canvas with an extra transform,same as {@link SVGPicture#draw(SVGBaseCanvas, SVGMatrix)}
+     *
+     * @param canvas The canvas
+     * @param matrix The extra transform,can be null
+     */
+    public void draw(@NonNull SVGBaseCanvas canvas, SVGMatrix matrix) {
+        SVGPicture.replay(new SVGPictureFormat.BufferReader(buffer), canvas, matrix);
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The 2d affine transform of canvas
+ * <p>
+ * It is the pure java replacement of android.graphics.Matrix for {@link SVGBaseCanvas},
+ * the values layout and the post methods are same as android Matrix,and it computes in float like it,
+ * so the svg transform is same as before.The perspective values are always 0,0,1.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public class SVGMatrix {
+    public static final int MSCALE_X = 0;
+    public static final int MSKEW_X = 1;
+    public static final int MTRANS_X = 2;
+    public static final int MSKEW_Y = 3;
+    public static final int MSCALE_Y = 4;
+    public static final int MTRANS_Y = 5;
+    public static final int MPERSP_0 = 6;
+    public static final int MPERSP_1 = 7;
+    public static final int MPERSP_2 = 8;
+
+    /**
+     * The sin and cos nearly zero are snapped to zero,so rotate 90 is exact
+     */
+    private static final float NEARLY_ZERO = 1.0f / (1 << 12);
+
+    private float scaleX = 1;
+    private float skewX = 0;
+    private float transX = 0;
+    private float skewY = 0;
+    private float scaleY = 1;
+    private float transY = 0;
+    /**
+     * It is increased when the values change
+     */
+    private int generationId = 0;
+
+    /**
+     * Create an identity matrix
+     */
+    public SVGMatrix() {
+    }
+
+    /**
+     * Create a matrix that is a copy of the src matrix
+     *
+     * @param src The matrix to copy
+     */
+    public SVGMatrix(@NonNull SVGMatrix src) {
+        set(src);
+    }
+
+    /**
+     * Whether the matrix is identity
+     *
+     * @return true if identity
+     */
+    public boolean isIdentity() {
+        return scaleX == 1 && skewX == 0 && transX == 0
+                && skewY == 0 && scaleY == 1 && transY == 0;
+    }
+
+    /**
+     * Whether the matrix maps a rect to another rect,it is true when it only scales and translates,
+     * or rotates by multiple of 90 degrees,same as android Matrix
+     *
+     * @return true if the mapped rect is still a rect
+     * @since 0.0.7
+     */
+    public boolean rectStaysRect() {
+        if (skewX == 0 && skewY == 0)
+            return scaleX != 0 && scaleY != 0;
+        return scaleX == 0 && scaleY == 0 && skewX != 0 && skewY != 0;
+    }
+
+    /**
+     * Get the max scale of the matrix,it is the largest length that a unit vector is mapped to,
+     * so a length of l is not longer than l*maxScale after mapped
+     *
+     * @return The max scale,not less than 0
+     * @since 0.0.7
+     */
+    public float getMaxScale() {
+        double sum = (double) scaleX * scaleX + (double) skewX * skewX
+                + (double) skewY * skewY + (double) scaleY * scaleY;
+        double det = (double) scaleX * scaleY - (double) skewX * skewY;
+        // the square of largest singular value of the 2x2 matrix
+        double square = (sum + Math.sqrt(Math.max(0, sum * sum - 4 * det * det))) / 2;
+        return (float) Math.sqrt(square);
+    }
+
+    /**
+     * Map the points by the matrix in place
+     *
+     * @param pts The points,arrange according to x1, y1, x2, y2...
+     * @since 0.0.7
+     */
+    public void mapPoints(float[] pts) {
+        for (int i = 0; i + 1 < pts.length; i += 2) {
+            float x = pts[i], y = pts[i + 1];
+            pts[i] = mulAddMul(scaleX, x, skewX, y) + transX;
+            pts[i + 1] = mulAddMul(skewY, x, scaleY, y) + transY;
+        }
+    }
+
+    /**
+     * Set the matrix to identity
+     */
+    public void reset() {
+        ++generationId;
+        scaleX = 1;
+        skewX = 0;
+        transX = 0;
+        skewY = 0;
+        scaleY = 1;
+        transY = 0;
+    }
+
+    /**
+     * Copy the src matrix into this matrix
+     *
+     * @param src The matrix to copy
+     */
+    public void set(@NonNull SVGMatrix src) {
+        ++generationId;
+        scaleX = src.scaleX;
+        skewX = src.skewX;
+        transX = src.transX;
+        skewY = src.skewY;
+        scaleY = src.scaleY;
+        transY = src.transY;
+    }
+
+    /**
+     * Copy 9 values from the matrix into the array,the layout is same as android Matrix
+     *
+     * @param values The array,its length must not less than 9
+     */
+    public void getValues(float[] values) {
+        if (values.length < 9) {
+            throw new IllegalArgumentException("values length < 9");
+        }
+        values[MSCALE_X] = scaleX;
+        values[MSKEW_X] = skewX;
+        values[MTRANS_X] = transX;
+        values[MSKEW_Y] = skewY;
+        values[MSCALE_Y] = scaleY;
+        values[MTRANS_Y] = transY;
+        values[MPERSP_0] = 0;
+        values[MPERSP_1] = 0;
+        values[MPERSP_2] = 1;
+    }
+
+    /**
+     * Copy 9 values from the array into the matrix,the perspective values are ignored
+     *
+     * @param values The array,its length must not less than 9
+     */
+    public void setValues(float[] values) {
+        if (values.length < 9) {
+            throw new IllegalArgumentException("values length < 9");
+        }
+        ++generationId;
+        scaleX = values[MSCALE_X];
+        skewX = values[MSKEW_X];
+        transX = values[MTRANS_X];
+        skewY = values[MSKEW_Y];
+        scaleY = values[MSCALE_Y];
+        transY = values[MTRANS_Y];
+    }
+
+    /**
+     * Copy the 6 affine values into the array from the offset,it is used by the save stack of canvas
+     */
+    void getValues(float[] values, int offset) {
+        values[offset] = scaleX;
+        values[offset + 1] = skewX;
+        values[offset + 2] = transX;
+        values[offset + 3] = skewY;
+        values[offset + 4] = scaleY;
+        values[offset + 5] = transY;
+    }
+
+    /**
+     * Copy the 6 affine values from the array of {@link #getValues(float[], int)}
+     */
+    void setValues(float[] values, int offset) {
+        ++generationId;
+        scaleX = values[offset];
+        skewX = values[offset + 1];
+        transX = values[offset + 2];
+        skewY = values[offset + 3];
+        scaleY = values[offset + 4];
+        transY = values[offset + 5];
+    }
+
+    /**
+     * Get the generation id of the matrix,it changes every time the matrix is modified
+     * <p>
+     * The canvas uses it to know whether the transform string of last draw can be reused.
+     * </p>
+     *
+     * @return The generation id
+     */
+    public int getGenerationId() {
+        return generationId;
+    }
+
+    /**
+     * Get one value of the matrix
+     *
+     * @param index The value index,{@link #MSCALE_X} etc.
+     * @return The value
+     */
+    public float getValue(int index) {
+        switch (index) {
+            case MSCALE_X:
+                return scaleX;
+            case MSKEW_X:
+                return skewX;
+            case MTRANS_X:
+                return transX;
+            case MSKEW_Y:
+                return skewY;
+            case MSCALE_Y:
+                return scaleY;
+            case MTRANS_Y:
+                return transY;
+            case MPERSP_2:
+                return 1;
+            case MPERSP_0:
+            case MPERSP_1:
+                return 0;
+            default:
+                throw new IllegalArgumentException("Unknown index " + index);
+        }
+    }
+
+    /**
+     * Postconcats the matrix with the specified translation. M' = T(dx, dy) * M
+     *
+     * @param dx The distance of x
+     * @param dy The distance of y
+     */
+    public void postTranslate(float dx, float dy) {
+        ++generationId;
+        transX += dx;
+        transY += dy;
+    }
+
+    /**
+     * Postconcats the matrix with the specified scale. M' = S(sx, sy) * M
+     *
+     * @param sx the scale of X-axis
+     * @param sy the scale of Y-axis
+     */
+    public void postScale(float sx, float sy) {
+        if (sx == 1 && sy == 1) {
+            return;
+        }
+        postConcat(sx, 0, 0, 0, sy, 0);
+    }
+
+    /**
+     * Postconcats the matrix with the specified scale. M' = S(sx, sy, px, py) * M
+     *
+     * @param sx the scale of X-axis
+     * @param sy the scale of Y-axis
+     * @param px the scale centerX
+     * @param py the scale centerY
+     */
+    public void postScale(float sx, float sy, float px, float py) {
+        if (sx == 1 && sy == 1) {
+            return;
+        }
+        postConcat(sx, 0, px - sx * px, 0, sy, py - sy * py);
+    }
+
+    /**
+     * Postconcats the matrix with the specified rotation. M' = R(degrees) * M
+     *
+     * @param degrees The rotate degree
+     */
+    public void postRotate(float degrees) {
+        postRotate(degrees, 0, 0);
+    }
+
+    /**
+     * Postconcats the matrix with the specified rotation. M' = R(degrees, px, py) * M
+     *
+     * @param degrees The rotate degree
+     * @param px      The rotate centerX
+     * @param py      The rotate centerY
+     */
+    public void postRotate(float degrees, float px, float py) {
+        float radians = degrees * (float) (Math.PI / 180);
+        float sin = snapToZero((float) Math.sin(radians));
+        float cos = snapToZero((float) Math.cos(radians));
+        float oneMinusCos = 1 - cos;
+        postConcat(cos, -sin, sin * py + oneMinusCos * px,
+                sin, cos, -sin * px + oneMinusCos * py);
+    }
+
+    /**
+     * Postconcats the matrix with the specified skew. M' = K(kx, ky) * M
+     *
+     * @param kx The skew of X-axis
+     * @param ky The skew of Y-axis
+     */
+    public void postSkew(float kx, float ky) {
+        postSkew(kx, ky, 0, 0);
+    }
+
+    /**
+     * Postconcats the matrix with the specified skew. M' = K(kx, ky, px, py) * M
+     *
+     * @param kx The skew of X-axis
+     * @param ky The skew of Y-axis
+     * @param px The skew centerX
+     * @param py The skew centerY
+     */
+    public void postSkew(float kx, float ky, float px, float py) {
+        postConcat(1, kx, -kx * py, ky, 1, -ky * px);
+    }
+
+    /**
+     * Postconcats the matrix with the other. M' = other * M
+     *
+     * @param other The matrix
+     */
+    public void postConcat(@NonNull SVGMatrix other) {
+        postConcat(other.scaleX, other.skewX, other.transX, other.skewY, other.scaleY, other.transY);
+    }
+
+    /**
+     * Preconcats the matrix with the other. M' = M * other
+     *
+     * @param other The matrix
+     */
+    public void preConcat(@NonNull SVGMatrix other) {
+        ++generationId;
+        float a = scaleX, b = skewX, c = transX, d = skewY, e = scaleY, f = transY;
+        scaleX = mulAddMul(a, other.scaleX, b, other.skewY);
+        skewX = mulAddMul(a, other.skewX, b, other.scaleY);
+        transX = mulAddMul(a, other.transX, b, other.transY) + c;
+        skewY = mulAddMul(d, other.scaleX, e, other.skewY);
+        scaleY = mulAddMul(d, other.skewX, e, other.scaleY);
+        transY = mulAddMul(d, other.transX, e, other.transY) + f;
+    }
+
+    /**
+     * Compute M' = A * M,A is the affine matrix of the values
+     */
+    private void postConcat(float a, float b, float c, float d, float e, float f) {
+        ++generationId;
+        float sx = scaleX, kx = skewX, tx = transX, ky = skewY, sy = scaleY, ty = transY;
+        scaleX = mulAddMul(a, sx, b, ky);
+        skewX = mulAddMul(a, kx, b, sy);
+        transX = mulAddMul(a, tx, b, ty) + c;
+        skewY = mulAddMul(d, sx, e, ky);
+        scaleY = mulAddMul(d, kx, e, sy);
+        transY = mulAddMul(d, tx, e, ty) + f;
+    }
+
+    private static float mulAddMul(float a, float b, float c, float d) {
+        return (float) ((double) a * b + (double) c * d);
+    }
+
+    private static float snapToZero(float value) {
+        return Math.abs(value) <= NEARLY_ZERO ? 0 : value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGMatrix that = (SVGMatrix) o;
+        return Float.compare(that.scaleX, scaleX) == 0 &&
+                Float.compare(that.skewX, skewX) == 0 &&
+                Float.compare(that.transX, transX) == 0 &&
+                Float.compare(that.skewY, skewY) == 0 &&
+                Float.compare(that.scaleY, scaleY) == 0 &&
+                Float.compare(that.transY, transY) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Float.floatToIntBits(scaleX);
+        result = 31 * result + Float.floatToIntBits(skewX);
+        result = 31 * result + Float.floatToIntBits(transX);
+        result = 31 * result + Float.floatToIntBits(skewY);
+        result = 31 * result + Float.floatToIntBits(scaleY);
+        result = 31 * result + Float.floatToIntBits(transY);
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "SVGMatrix{[" + scaleX + ", " + skewX + ", " + transX + "][" +
+                skewY + ", " + scaleY + ", " + transY + "]}";
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.StringDef;
+
+import com.yf.afreesvg.filter.SVGFilter;
+import com.yf.afreesvg.font.SVGFont;
+import com.yf.afreesvg.gradient.SVGGradient;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * The paint attrs which {@link SVGBaseCanvas} reads to generate the element style
+ * <p>
+ * It is implemented by the android SVGPaint and {@link SVGBasePaint} of the pure java canvas,
+ * the method names are same as android.graphics.Paint where it has the method.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public interface SVGPaintAttrs {
+
+    @StringDef({LengthAdjust.LENGTH_ADJUST_SPACING, LengthAdjust.LENGTH_ADJUST_SPACINGANDGLYPHS})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface LengthAdjust {
+        String LENGTH_ADJUST_SPACING = "spacing";
+        String LENGTH_ADJUST_SPACINGANDGLYPHS = "spacingAndGlyphs";
+    }
+
+    @StringDef({FillRule.FILL_RULE_DEFAULT, FillRule.FILL_RULE_EVENODD})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface FillRule {
+        String FILL_RULE_DEFAULT = "nonzero";
+        String FILL_RULE_EVENODD = "evenodd";
+    }
+
+    @StringDef({TextDecoration.TEXT_DECORATION_NONE, TextDecoration.TEXT_DECORATION_UNDERLINE,
+            TextDecoration.TEXT_DECORATION_OVERLINE, TextDecoration.TEXT_DECORATION_LINETHROUGH, TextDecoration.TEXT_DECORATION_BLINK})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface TextDecoration {
+
+        String TEXT_DECORATION_NONE = "none";
+        String TEXT_DECORATION_UNDERLINE = "underline";
+        String TEXT_DECORATION_OVERLINE = "overline";
+        String TEXT_DECORATION_LINETHROUGH = "line-through";
+        String TEXT_DECORATION_BLINK = "blink";
+    }
+
+    @StringDef({LineCap.LINE_CAP_BUTT, LineCap.LINE_CAP_ROUND, LineCap.LINE_CAP_SQUARE})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface LineCap {
+        String LINE_CAP_BUTT = "butt";
+        String LINE_CAP_ROUND = "round";
+        String LINE_CAP_SQUARE = "square";
+    }
+
+    @StringDef({LineJoin.LINE_JOIN_MITER, LineJoin.LINE_JOIN_ROUND, LineJoin.LINE_JOIN_BEVEL})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface LineJoin {
+        String LINE_JOIN_MITER = "miter";
+        String LINE_JOIN_ROUND = "round";
+        String LINE_JOIN_BEVEL = "bevel";
+    }
+
+    @StringDef({TextAnchor.TEXT_ANCHOR_START, TextAnchor.TEXT_ANCHOR_MIDDLE, TextAnchor.TEXT_ANCHOR_END})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface TextAnchor {
+        String TEXT_ANCHOR_START = "start";
+        String TEXT_ANCHOR_MIDDLE = "middle";
+        String TEXT_ANCHOR_END = "end";
+    }
+
+    /**
+     * Whether draw the stroke,false means that it only fill
+     *
+     * @return true if stroke
+     */
+    boolean hasStroke();
+
+    /**
+     * Whether fill the shape,false means that it only stroke
+     *
+     * @return true if fill
+     */
+    boolean hasFill();
+
+    /**
+     * Get stroke width,the canvas use 1 when it is not more than 0
+     *
+     * @return The stroke width
+     */
+    float getStrokeWidth();
+
+    /**
+     * Get stroke line cap
+     *
+     * @return The line cap,{@link LineCap}
+     */
+    @LineCap
+    String getStrokeLineCap();
+
+    /**
+     * Get stroke line join
+     *
+     * @return The line join,{@link LineJoin}
+     */
+    @LineJoin
+    String getStrokeLineJoin();
+
+    /**
+     * Get stroke miter limit
+     *
+     * @return The miter limit
+     */
+    float getStrokeMiter();
+
+    /**
+     * Get stroke dash
+     *
+     * @return stroke dash,can be null
+     */
+    float[] getDashArray();
+
+    /**
+     * Get stroke color
+     *
+     * @return The stroke color
+     */
+    @ColorInt
+    int getColor();
+
+    /**
+     * Get stroke color alpha,it is 255 when stroke use gradient
+     *
+     * @return The stroke color alpha
+     */
+    int getAlpha();
+
+    /**
+     * Get fill color
+     *
+     * @return The fill color
+     */
+    @ColorInt
+    int getFillColor();
+
+    /**
+     * Get fill color alpha,it is 255 when fill use gradient
+     *
+     * @return The fill color alpha
+     */
+    int getFillColorAlpha();
+
+    /**
+     * Get fill rule
+     *
+     * @return The fill rule,{@link FillRule}
+     */
+    @FillRule
+    String getFillRule();
+
+    /**
+     * Get gradient color
+     *
+     * @return The gradient {@link SVGGradient},can be null
+     */
+    SVGGradient getGradient();
+
+    /**
+     * Get stroke use gradient
+     *
+     * @return true and {@link #getGradient()} not null means use gradient
+     */
+    boolean isUseGradientStroke();
+
+    /**
+     * Get text font
+     *
+     * @return font {@link SVGFont},can be null
+     */
+    SVGFont getFont();
+
+    /**
+     * Get text anchor
+     *
+     * @return The text anchor,{@link TextAnchor}
+     */
+    @TextAnchor
+    String getTextAnchor();
+
+    /**
+     * Get text letter spacing
+     *
+     * @return The letter spacing
+     */
+    float getLetterSpacing();
+
+    /**
+     * Get text word spacing
+     *
+     * @return The word spacing
+     */
+    float getWordSpacing();
+
+    /**
+     * Get text lengthAdjust
+     *
+     * @return text lengthAdjust,{@link LengthAdjust}
+     */
+    @LengthAdjust
+    String getLengthAdjust();
+
+    /**
+     * Get textDecoration
+     *
+     * @return textDecoration,{@link TextDecoration}
+     */
+    @TextDecoration
+    String getTextDecoration();
+
+    /**
+     * Get filter
+     *
+     * @return The filter {@link SVGFilter},can be null
+     */
+    SVGFilter getFilter();
+
+    /**
+     * Get the generation id of the attrs
+     * <p>
+     * It must change when any attr of the stroke or fill style changes,
+     * the canvas reuses the style string of last draw when the paint and the id are same.
+     * The content of dash array and gradient is checked by the canvas,so they can be changed in place.
+     * </p>
+     *
+     * @return The generation id
+     */
+    int getGenerationId();
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import androidx.annotation.NonNull;
+
+import com.yf.afreesvg.shape.SVGClipShape;
+import com.yf.afreesvg.shape.SVGPath;
+import com.yf.afreesvg.shape.SVGShape;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * The recorded draw ops of {@link SVGRecordingCanvas},it is like android.graphics.Picture
+ * <p>
+ * It holds the ops in the compact buffer,the opcodes and int args are in one int array,
+ * the floats are in one float array,and the styles,shapes and strings are in one object array.
+ * It is immutable after {@link SVGRecordingCanvas#finishRecording()},so one picture can be drawn
+ * by many threads into their own canvas at the same time.
+ * </p>
+ * Example code:
+ * <pre>
+ *    SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+ *    recorder.drawLine(0, 0, 100, 0, paint);
+ *    SVGPicture picture = recorder.finishRecording();
+ *    picture.draw(svgCanvas);
+ *    SVGMatrix matrix = new SVGMatrix();
+ *    matrix.postScale(2, 2);
+ *    picture.draw(otherCanvas, matrix);
+ * </pre>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public final class SVGPicture {
+    static final int OP_LINE = 1;
+    static final int OP_RECT = 2;
+    static final int OP_CIRCLE = 3;
+    static final int OP_OVAL = 4;
+    static final int OP_POLYGON = 5;
+    static final int OP_POLYLINE = 6;
+    static final int OP_LINES = 7;
+    static final int OP_POINTS = 8;
+    static final int OP_RECTS = 9;
+    static final int OP_CIRCLES = 10;
+    static final int OP_ARC = 11;
+    static final int OP_CURVE = 12;
+    static final int OP_PATH = 13;
+    static final int OP_TEXT = 14;
+    static final int OP_SHAPE = 15;
+    static final int OP_IMAGE = 16;
+    static final int OP_SAVE = 17;
+    static final int OP_SAVE_LAYER = 18;
+    static final int OP_RESTORE = 19;
+    static final int OP_RESTORE_TO_COUNT = 20;
+    static final int OP_CLIP = 21;
+    static final int OP_CLEAR_LAYER = 22;
+    static final int OP_SET_MATRIX = 23;
+    static final int OP_RESET_TRANSFORM = 24;
+    static final int OP_TRANSLATE = 25;
+    static final int OP_SCALE = 26;
+    static final int OP_ROTATE = 27;
+    static final int OP_SKEW = 28;
+
+    /**
+     * The int args count of every op,the int is the floats count when {@link #OP_FLOATS} is -1
+     */
+    static final int[] OP_INTS = {0, 0, 0, 0, 0, 1, 1, 1, 1, 1, 1, 0, 0, 0, 1, 0, 0, 1, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0};
+    /**
+     * The float args count of every op,-1 means the count is the int arg
+     */
+    static final int[] OP_FLOATS = {0, 4, 4, 3, 4, -1, -1, -1, -1, -1, -1, 6, 6, 0, 3, 0, 4, 0, 4, 0, 0, 0, 0, 6, 0, 2, 4, 3, 4};
+    /**
+     * The ref args of every op,'S' is style,'T' is string,'P' is path,'H' is shape and 'C' is clip
+     */
+    static final String[] OP_REFS = {"", "ST", "ST", "ST", "ST", "ST", "ST", "ST", "ST", "ST", "ST", "ST", "ST",
+            "PST", "TPST", "HST", "TST", "", "", "", "", "C", "", "", "", "", "", "", ""};
+
+    private final float width;
+    private final float height;
+    private final int[] ops;
+    private final float[] floats;
+    private final Object[] refs;
+    private final int opCount;
+
+    SVGPicture(float width, float height, int[] ops, int opsSize, float[] floats, int floatsSize,
+               Object[] refs, int refsSize, int opCount) {
+        this.width = width;
+        this.height = height;
+        this.ops = Arrays.copyOf(ops, opsSize);
+        this.floats = Arrays.copyOf(floats, floatsSize);
+        this.refs = Arrays.copyOf(refs, refsSize);
+        this.opCount = opCount;
+    }
+
+    /**
+     * Get the width of recording
+     *
+     * @return The width
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the height of recording
+     *
+     * @return The height
+     */
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Get the count of recorded ops
+     *
+     * @return The op count
+     */
+    public int getOpCount() {
+        return opCount;
+    }
+
+    /**
+     * Draw the picture into the canvas
+     *
+     * @param canvas The canvas
+     * @see #draw(SVGBaseCanvas, SVGMatrix)
+     */
+    public void draw(@NonNull SVGBaseCanvas canvas) {
+        draw(canvas, null);
+    }
+
+    /**
+     * Draw the picture into the canvas with an extra transform
+     * <p>
+     * The canvas is saved before and restored after,so the transform and clip of canvas are not changed.
+     * The extra matrix is post concatenated to the canvas matrix like {@link SVGBaseCanvas#translate(float, float)},
+     * and the recorded transform ops are relative to it,{@link SVGBaseCanvas#setMatrix(SVGMatrix)} and
+     * {@link SVGBaseCanvas#resetTransform()} of recording also keep it.
+     * </p>
+     *
+     * @param canvas The canvas
+     * @param matrix The extra transform,can be null
+     */
+    public void draw(@NonNull SVGBaseCanvas canvas, SVGMatrix matrix) {
+        replay(new ArrayReader(), canvas, matrix);
+    }
+
+    /**
+     * Write the picture in the binary format,it can be drawn by {@link SVGMappedPicture} without this picture
+     * <p>
+     * The gradient,filter and the shapes which are not the basic shapes or {@link SVGPath} can not be written.
+     * </p>
+     *
+     * @param out The output stream,it is not closed
+     * @throws IOException                   If write fails
+     * @throws UnsupportedOperationException If the picture has the attr which can not be written
+     * @see SVGMappedPicture
+     */
+    public void writeTo(@NonNull OutputStream out) throws IOException {
+        SVGPictureFormat.write(this, out);
+    }
+
+    int[] getOps() {
+        return ops;
+    }
+
+    float[] getFloats() {
+        return floats;
+    }
+
+    Object[] getRefs() {
+        return refs;
+    }
+
+    /**
+     * Replay the ops of reader into the canvas
+     * <p>
+     * The args of every op are read in order of the ints,the floats and the refs,
+     * refer to {@link #OP_INTS},{@link #OP_FLOATS} and {@link #OP_REFS}.
+     * </p>
+     */
+    static void replay(Reader reader, SVGBaseCanvas canvas, SVGMatrix matrix) {
+        int baseCount = canvas.save();
+        SVGMatrix base = new SVGMatrix(canvas.getMatrix());
+        if (matrix != null) {
+            base.postConcat(matrix);
+        }
+        canvas.setMatrix(base);
+        while (reader.hasNext()) {
+            int op = reader.readOp();
+            switch (op) {
+                case OP_LINE: {
+                    float[] v = reader.readFloats(4);
+                    int i = reader.offset;
+                    canvas.drawLine(v[i], v[i + 1], v[i + 2], v[i + 3], reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_RECT: {
+                    float[] v = reader.readFloats(4);
+                    int i = reader.offset;
+                    canvas.drawRect(v[i], v[i + 1], v[i + 2], v[i + 3], reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_CIRCLE: {
+                    float[] v = reader.readFloats(3);
+                    int i = reader.offset;
+                    canvas.drawCircle(v[i], v[i + 1], v[i + 2], reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_OVAL: {
+                    float[] v = reader.readFloats(4);
+                    int i = reader.offset;
+                    canvas.drawOval(v[i], v[i + 1], v[i + 2], v[i + 3], reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_POLYGON:
+                case OP_POLYLINE: {
+                    int count = reader.readInt();
+                    float[] v = reader.readFloats(count);
+                    // the shape keeps the points,so they are copied from the buffer of reader
+                    float[] points = Arrays.copyOfRange(v, reader.offset, reader.offset + count);
+                    if (op == OP_POLYGON) {
+                        canvas.drawPolygon(points, reader.readStyle(), reader.readString());
+                    } else {
+                        canvas.drawPolyline(points, reader.readStyle(), reader.readString());
+                    }
+                    break;
+                }
+                case OP_LINES:
+                case OP_POINTS:
+                case OP_RECTS:
+                case OP_CIRCLES: {
+                    int count = reader.readInt();
+                    float[] v = reader.readFloats(count);
+                    drawBatch(canvas, op, v, reader.offset, count, reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_ARC: {
+                    float[] v = reader.readFloats(6);
+                    int i = reader.offset;
+                    canvas.drawArc(v[i], v[i + 1], v[i + 2], v[i + 3], v[i + 4], v[i + 5],
+                            reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_CURVE: {
+                    float[] v = reader.readFloats(6);
+                    int i = reader.offset;
+                    canvas.drawCurve(v[i], v[i + 1], v[i + 2], v[i + 3], v[i + 4], v[i + 5],
+                            reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_PATH:
+                    canvas.drawPath(reader.readPath(), reader.readStyle(), reader.readString());
+                    break;
+                case OP_TEXT: {
+                    int textLength = reader.readInt();
+                    float[] v = reader.readFloats(3);
+                    int i = reader.offset;
+                    float x = v[i], y = v[i + 1], startOffset = v[i + 2];
+                    canvas.drawTextOnPath(reader.readString(), x, y, startOffset, textLength,
+                            reader.readPath(), reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_SHAPE:
+                    canvas.drawShape(reader.readShape(), reader.readStyle(), reader.readString());
+                    break;
+                case OP_IMAGE: {
+                    float[] v = reader.readFloats(4);
+                    int i = reader.offset;
+                    float x = v[i], y = v[i + 1], width = v[i + 2], height = v[i + 3];
+                    canvas.drawImage(reader.readString(), x, y, width, height, reader.readStyle(), reader.readString());
+                    break;
+                }
+                case OP_SAVE:
+                    canvas.save(reader.readInt());
+                    break;
+                case OP_SAVE_LAYER: {
+                    float[] v = reader.readFloats(4);
+                    int i = reader.offset;
+                    canvas.saveLayer(v[i], v[i + 1], v[i + 2], v[i + 3]);
+                    break;
+                }
+                case OP_RESTORE:
+                    canvas.restore();
+                    break;
+                case OP_RESTORE_TO_COUNT:
+                    canvas.restoreToCount(baseCount + reader.readInt());
+                    break;
+                case OP_CLIP:
+                    canvas.clip(reader.readClip());
+                    break;
+                case OP_CLEAR_LAYER:
+                    canvas.clearLayer();
+                    break;
+                case OP_SET_MATRIX: {
+                    float[] v = reader.readFloats(6);
+                    SVGMatrix m = new SVGMatrix(base);
+                    m.postConcat(toMatrix(v, reader.offset));
+                    canvas.setMatrix(m);
+                    break;
+                }
+                case OP_RESET_TRANSFORM:
+                    canvas.setMatrix(base);
+                    break;
+                case OP_TRANSLATE: {
+                    float[] v = reader.readFloats(2);
+                    canvas.translate(v[reader.offset], v[reader.offset + 1]);
+                    break;
+                }
+                case OP_SCALE: {
+                    float[] v = reader.readFloats(4);
+                    int i = reader.offset;
+                    canvas.scale(v[i], v[i + 1], v[i + 2], v[i + 3]);
+                    break;
+                }
+                case OP_ROTATE: {
+                    float[] v = reader.readFloats(3);
+                    int i = reader.offset;
+                    canvas.rotate(v[i], v[i + 1], v[i + 2]);
+                    break;
+                }
+                case OP_SKEW: {
+                    float[] v = reader.readFloats(4);
+                    int i = reader.offset;
+                    canvas.skew(v[i], v[i + 1], v[i + 2], v[i + 3]);
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unknown op " + op);
+            }
+        }
+        canvas.restoreToCount(baseCount - 1);
+    }
+
+    private static void drawBatch(SVGBaseCanvas canvas, int op, float[] values, int offset, int count,
+                                  SVGPaintAttrs paint, String id) {
+        switch (op) {
+            case OP_LINES:
+                canvas.drawLines(values, offset, count, paint, id);
+                break;
+            case OP_POINTS:
+                canvas.drawPoints(values, offset, count, paint, id);
+                break;
+            case OP_RECTS:
+                canvas.drawRects(values, offset, count, paint, id);
+                break;
+            default:
+                canvas.drawCircles(values, offset, count, paint, id);
+                break;
+        }
+    }
+
+    private static SVGMatrix toMatrix(float[] v, int i) {
+        float[] values = new float[9];
+        values[SVGMatrix.MSCALE_X] = v[i];
+        values[SVGMatrix.MSKEW_X] = v[i + 1];
+        values[SVGMatrix.MTRANS_X] = v[i + 2];
+        values[SVGMatrix.MSKEW_Y] = v[i + 3];
+        values[SVGMatrix.MSCALE_Y] = v[i + 4];
+        values[SVGMatrix.MTRANS_Y] = v[i + 5];
+        values[SVGMatrix.MPERSP_2] = 1;
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.setValues(values);
+        return matrix;
+    }
+
+    /**
+     * The reader of recorded ops,one reader is used by one replay
+     */
+    abstract static class Reader {
+        /**
+         * The start of the floats of last {@link #readFloats(int)} in the returned array
+         */
+        int offset;
+
+        abstract boolean hasNext();
+
+        abstract int readOp();
+
+        abstract int readInt();
+
+        /**
+         * Read count floats,they are in the returned array from {@link #offset}
+         */
+        abstract float[] readFloats(int count);
+
+        abstract SVGStyle readStyle();
+
+        abstract String readString();
+
+        abstract SVGPath readPath();
+
+        abstract SVGShape readShape();
+
+        abstract SVGClipShape readClip();
+    }
+
+    /**
+     * Read the ops of this picture,the floats are read from the picture array without copy
+     */
+    private final class ArrayReader extends Reader {
+        private int o, f, r;
+
+        @Override
+        boolean hasNext() {
+            return o < ops.length;
+        }
+
+        @Override
+        int readOp() {
+            return ops[o++];
+        }
+
+        @Override
+        int readInt() {
+            return ops[o++];
+        }
+
+        @Override
+        float[] readFloats(int count) {
+            offset = f;
+            f += count;
+            return floats;
+        }
+
+        @Override
+        SVGStyle readStyle() {
+            return (SVGStyle) refs[r++];
+        }
+
+        @Override
+        String readString() {
+            return (String) refs[r++];
+        }
+
+        @Override
+        SVGPath readPath() {
+            return (SVGPath) refs[r++];
+        }
+
+        @Override
+        SVGShape readShape() {
+            return (SVGShape) refs[r++];
+        }
+
+        @Override
+        SVGClipShape readClip() {
+            return (SVGClipShape) refs[r++];
+        }
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import com.yf.afreesvg.font.SVGFont;
+import com.yf.afreesvg.shape.SVGBaseShape;
+import com.yf.afreesvg.shape.SVGCircle;
+import com.yf.afreesvg.shape.SVGClipShape;
+import com.yf.afreesvg.shape.SVGLine;
+import com.yf.afreesvg.shape.SVGOval;
+import com.yf.afreesvg.shape.SVGPath;
+import com.yf.afreesvg.shape.SVGPointsShape;
+import com.yf.afreesvg.shape.SVGRect;
+import com.yf.afreesvg.shape.SVGShape;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The binary format of {@link SVGPicture}
+ * <p>
+ * All values are big endian.The layout is:
+ * <pre>
+ *    int magic,int version,float width,float height,int opCount
+ *    int stringCount,int[stringCount] string offsets
+ *    int styleCount,int[styleCount] style offsets
+ *    int opsOffset,int opsLength
+ *    strings: int byteLength,utf-8 bytes
+ *    styles: the attrs of {@link SVGStyle},the strings are the indexes of string table
+ *    ops: byte opcode,the ints,the floats and the refs of {@link SVGPicture#OP_INTS} etc.
+ * </pre>
+ * The offsets are from the start of the picture,the null string and style are -1.
+ * The strings and styles are interned,so the same id,text or style is written once.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+final class SVGPictureFormat {
+    static final int MAGIC = 0x41535650;
+    static final int VERSION = 1;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int STYLE_STROKE = 1;
+    private static final int STYLE_FILL = 1 << 1;
+    private static final int STYLE_GRADIENT_STROKE = 1 << 2;
+    private static final int STYLE_FONT = 1 << 3;
+
+    private static final byte SHAPE_RECT = 1;
+    private static final byte SHAPE_OVAL = 2;
+    private static final byte SHAPE_CIRCLE = 3;
+    private static final byte SHAPE_LINE = 4;
+    private static final byte SHAPE_POINTS = 5;
+    private static final byte SHAPE_PATH = 6;
+
+    /**
+     * The path commands,"S" is written as "C" with 4 values by {@link SVGPath#iterator()}
+     */
+    private static final String PATH_TYPES = "MLHVCSQTAZ";
+    private static final int[] PATH_COORD_COUNTS = {2, 2, 1, 1, 6, 4, 4, 2, 7, 0};
+    private static final int PATH_RELATIVE_FLAG = 0x10;
+
+    private SVGPictureFormat() {
+    }
+
+    static void write(SVGPicture picture, OutputStream out) throws IOException {
+        Writer writer = new Writer();
+        writer.writeOps(picture);
+        int headerSize = 4 * 9 + 4 * writer.strings.size() + 4 * writer.styleOffsets.size();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeFloat(picture.getWidth());
+        data.writeFloat(picture.getHeight());
+        data.writeInt(picture.getOpCount());
+        data.writeInt(writer.strings.size());
+        int offset = headerSize;
+        for (String string : writer.strings) {
+            data.writeInt(offset);
+            offset += 4 + string.getBytes(UTF_8).length;
+        }
+        data.writeInt(writer.styleOffsets.size());
+        for (int styleOffset : writer.styleOffsets) {
+            data.writeInt(offset + styleOffset);
+        }
+        offset += writer.styleData.size();
+        data.writeInt(offset);
+        data.writeInt(writer.opsData.size());
+        for (String string : writer.strings) {
+            byte[] bytes = string.getBytes(UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+        writer.styleData.writeTo(data);
+        writer.opsData.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Write the ops and intern the strings and styles
+     */
+    private static final class Writer {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<Integer> styleOffsets = new ArrayList<>();
+        private final Map<SVGStyle, Integer> styleIndexes = new HashMap<>();
+        private final ByteArrayOutputStream styleData = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream opsData = new ByteArrayOutputStream();
+        private final DataOutputStream styleOut = new DataOutputStream(styleData);
+        private final DataOutputStream opsOut = new DataOutputStream(opsData);
+
+        void writeOps(SVGPicture picture) throws IOException {
+            int[] ops = picture.getOps();
+            float[] floats = picture.getFloats();
+            Object[] refs = picture.getRefs();
+            int f = 0, r = 0;
+            for (int o = 0; o < ops.length; ) {
+                int op = ops[o++];
+                opsOut.writeByte(op);
+                int floatCount = SVGPicture.OP_FLOATS[op];
+                for (int i = 0; i < SVGPicture.OP_INTS[op]; i++) {
+                    opsOut.writeInt(ops[o]);
+                    if (floatCount < 0) floatCount = ops[o];
+                    ++o;
+                }
+                for (int i = 0; i < floatCount; i++) {
+                    opsOut.writeFloat(floats[f++]);
+                }
+                String refTypes = SVGPicture.OP_REFS[op];
+                for (int i = 0; i < refTypes.length(); i++) {
+                    writeRef(refTypes.charAt(i), refs[r++]);
+                }
+            }
+        }
+
+        private void writeRef(char type, Object ref) throws IOException {
+            switch (type) {
+                case 'S':
+                    opsOut.writeInt(styleIndex((SVGStyle) ref));
+                    break;
+                case 'T':
+                    opsOut.writeInt(stringIndex((String) ref));
+                    break;
+                case 'P':
+                    writePath((SVGPath) ref);
+                    break;
+                case 'H':
+                    writeShape((SVGShape) ref);
+                    break;
+                default:
+                    SVGClipShape clip = (SVGClipShape) ref;
+                    opsOut.writeBoolean(clip != null);
+                    if (clip != null) {
+                        opsOut.writeInt(stringIndex(clip.getPosMode()));
+                        writeShape(clip.getShape());
+                    }
+                    break;
+            }
+        }
+
+        private int stringIndex(String string) {
+            if (string == null) return -1;
+            Integer index = stringIndexes.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.add(string);
+                stringIndexes.put(string, index);
+            }
+            return index;
+        }
+
+        private int styleIndex(SVGStyle style) throws IOException {
+            if (style == null) return -1;
+            Integer index = styleIndexes.get(style);
+            if (index != null) return index;
+            if (style.getGradient() != null) {
+                throw new UnsupportedOperationException("The gradient can not be written to binary picture");
+            }
+            if (style.getFilter() != null) {
+                throw new UnsupportedOperationException("The filter can not be written to binary picture");
+            }
+            index = styleOffsets.size();
+            styleOffsets.add(styleData.size());
+            styleIndexes.put(style, index);
+            SVGFont font = style.getFont();
+            int flags = (style.hasStroke() ? STYLE_STROKE : 0) | (style.hasFill() ? STYLE_FILL : 0)
+                    | (style.isUseGradientStroke() ? STYLE_GRADIENT_STROKE : 0) | (font != null ? STYLE_FONT : 0);
+            styleOut.writeByte(flags);
+            styleOut.writeFloat(style.getStrokeWidth());
+            styleOut.writeInt(stringIndex(style.getStrokeLineCap()));
+            styleOut.writeInt(stringIndex(style.getStrokeLineJoin()));
+            styleOut.writeFloat(style.getStrokeMiter());
+            float[] dash = style.getDashArray();
+            styleOut.writeInt(dash == null ? -1 : dash.length);
+            if (dash != null) {
+                for (float value : dash) {
+                    styleOut.writeFloat(value);
+                }
+            }
+            styleOut.writeInt(style.getColor());
+            styleOut.writeInt(style.getAlpha());
+            styleOut.writeInt(style.getFillColor());
+            styleOut.writeInt(style.getFillColorAlpha());
+            styleOut.writeInt(stringIndex(style.getFillRule()));
+            if (font != null) {
+                styleOut.writeInt(stringIndex(font.getFontFamily()));
+                styleOut.writeInt(font.getFontSize());
+                styleOut.writeInt(stringIndex(font.getFontWeight()));
+                styleOut.writeInt(stringIndex(font.getFontStyle()));
+                styleOut.writeInt(stringIndex(font.getFontVariant()));
+            }
+            styleOut.writeInt(stringIndex(style.getTextAnchor()));
+            styleOut.writeFloat(style.getLetterSpacing());
+            styleOut.writeFloat(style.getWordSpacing());
+            styleOut.writeInt(stringIndex(style.getLengthAdjust()));
+            styleOut.writeInt(stringIndex(style.getTextDecoration()));
+            return index;
+        }
+
+        private void writePath(SVGPath path) throws IOException {
+            if (path == null) {
+                opsOut.writeInt(-1);
+                return;
+            }
+            int count = 0;
+            for (Iterator<SVGPath.SVGPathElement> it = path.iterator(); it.hasNext(); it.next()) {
+                ++count;
+            }
+            opsOut.writeInt(count);
+            for (Iterator<SVGPath.SVGPathElement> it = path.iterator(); it.hasNext(); ) {
+                SVGPath.SVGPathElement element = it.next();
+                float[] data = element.getData();
+                int code = PATH_TYPES.indexOf(element.getType());
+                if (code == PATH_TYPES.indexOf('C') && data.length == 4) {
+                    code = PATH_TYPES.indexOf('S');
+                }
+                opsOut.writeByte(element.isRelative() ? code | PATH_RELATIVE_FLAG : code);
+                if (data != null) {
+                    for (float value : data) {
+                        opsOut.writeFloat(value);
+                    }
+                }
+            }
+        }
+
+        private void writeShape(SVGShape shape) throws IOException {
+            if (shape instanceof SVGRect) {
+                SVGRect rect = (SVGRect) shape;
+                writeShapeHead(SHAPE_RECT, rect);
+                writeFloats(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight());
+            } else if (shape instanceof SVGOval) {
+                SVGOval oval = (SVGOval) shape;
+                writeShapeHead(SHAPE_OVAL, oval);
+                writeFloats(oval.getCx(), oval.getCy(), oval.getRx(), oval.getRy());
+            } else if (shape instanceof SVGCircle) {
+                SVGCircle circle = (SVGCircle) shape;
+                writeShapeHead(SHAPE_CIRCLE, circle);
+                opsOut.writeFloat(circle.getCx());
+                opsOut.writeFloat(circle.getCy());
+                opsOut.writeFloat(circle.getR());
+            } else if (shape instanceof SVGLine) {
+                SVGLine line = (SVGLine) shape;
+                writeShapeHead(SHAPE_LINE, line);
+                writeFloats(line.getX1(), line.getY1(), line.getX2(), line.getY2());
+            } else if (shape instanceof SVGPointsShape) {
+                SVGPointsShape points = (SVGPointsShape) shape;
+                writeShapeHead(SHAPE_POINTS, points);
+                opsOut.writeBoolean(points.isClosed());
+                opsOut.writeInt(points.getPointCount());
+                for (int i = 0; i < points.getPointCount(); i++) {
+                    opsOut.writeFloat(points.getPointX(i));
+                    opsOut.writeFloat(points.getPointY(i));
+                }
+            } else if (shape instanceof SVGPath) {
+                writeShapeHead(SHAPE_PATH, (SVGPath) shape);
+                writePath((SVGPath) shape);
+            } else {
+                throw new UnsupportedOperationException("The shape " + shape.getClass().getSimpleName()
+                        + " can not be written to binary picture");
+            }
+        }
+
+        private void writeShapeHead(byte type, SVGBaseShape shape) throws IOException {
+            opsOut.writeByte(type);
+            opsOut.writeInt(stringIndex(shape.getClipRule()));
+        }
+
+        private void writeFloats(float a, float b, float c, float d) throws IOException {
+            opsOut.writeFloat(a);
+            opsOut.writeFloat(b);
+            opsOut.writeFloat(c);
+            opsOut.writeFloat(d);
+        }
+    }
+
+    /**
+     * Read the ops from the buffer,the strings and styles are read when they are first used by the replay
+     */
+    static final class BufferReader extends SVGPicture.Reader {
+        private final ByteBuffer buffer;
+        private final int base;
+        private final int end;
+        private final int stringTable;
+        private final int styleTable;
+        private final String[] strings;
+        private final SVGStyle[] styles;
+        private float[] values = new float[16];
+
+        /**
+         * @param buffer The buffer of the picture,its position is the start of picture,it is not changed
+         */
+        BufferReader(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+            base = buffer.position();
+            stringTable = base + 4 * 6;
+            strings = new String[this.buffer.getInt(stringTable - 4)];
+            styleTable = stringTable + 4 * strings.length + 4;
+            styles = new SVGStyle[this.buffer.getInt(styleTable - 4)];
+            int opsTable = styleTable + 4 * styles.length;
+            int opsOffset = this.buffer.getInt(opsTable);
+            end = base + opsOffset + this.buffer.getInt(opsTable + 4);
+            this.buffer.position(base + opsOffset);
+        }
+
+        @Override
+        boolean hasNext() {
+            return buffer.position() < end;
+        }
+
+        @Override
+        int readOp() {
+            return buffer.get();
+        }
+
+        @Override
+        int readInt() {
+            return buffer.getInt();
+        }
+
+        @Override
+        float[] readFloats(int count) {
+            if (values.length < count) {
+                values = new float[Math.max(values.length * 2, count)];
+            }
+            for (int i = 0; i < count; i++) {
+                values[i] = buffer.getFloat();
+            }
+            offset = 0;
+            return values;
+        }
+
+        @Override
+        SVGStyle readStyle() {
+            int index = buffer.getInt();
+            if (index < 0) return null;
+            SVGStyle style = styles[index];
+            if (style == null) {
+                style = styles[index] = decodeStyle(base + buffer.getInt(styleTable + 4 * index));
+            }
+            return style;
+        }
+
+        @Override
+        String readString() {
+            return string(buffer.getInt());
+        }
+
+        @Override
+        SVGPath readPath() {
+            int count = buffer.getInt();
+            if (count < 0) return null;
+            SVGPath path = new SVGPath();
+            for (int i = 0; i < count; i++) {
+                int code = buffer.get();
+                boolean relative = (code & PATH_RELATIVE_FLAG) != 0;
+                code &= ~PATH_RELATIVE_FLAG;
+                float[] v = readFloats(PATH_COORD_COUNTS[code]);
+                switch (PATH_TYPES.charAt(code)) {
+                    case 'M':
+                        path.moveTo(v[0], v[1], relative);
+                        break;
+                    case 'L':
+                        path.lineTo(v[0], v[1], relative);
+                        break;
+                    case 'H':
+                        path.horizontalLineTo(v[0], relative);
+                        break;
+                    case 'V':
+                        path.verticalLineTo(v[0], relative);
+                        break;
+                    case 'C':
+                        path.curveTo(v[0], v[1], v[2], v[3], v[4], v[5], relative);
+                        break;
+                    case 'S':
+                        path.smoothCurveTo(v[0], v[1], v[2], v[3], relative);
+                        break;
+                    case 'Q':
+                        path.quadraticBelzierCurve(v[0], v[1], v[2], v[3], relative);
+                        break;
+                    case 'T':
+                        path.smoothQuadraticBelzierCurve(v[0], v[1], relative);
+                        break;
+                    case 'A':
+                        path.ellipticalArc(v[0], v[1], v[2], (int) v[3], (int) v[4], v[5], v[6], relative);
+                        break;
+                    default:
+                        path.closePath();
+                        break;
+                }
+            }
+            return path;
+        }
+
+        @Override
+        SVGShape readShape() {
+            byte type = buffer.get();
+            String clipRule = string(buffer.getInt());
+            SVGBaseShape shape;
+            switch (type) {
+                case SHAPE_RECT:
+                    shape = new SVGRect(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+                    break;
+                case SHAPE_OVAL:
+                    shape = new SVGOval(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+                    break;
+                case SHAPE_CIRCLE:
+                    shape = new SVGCircle(buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+                    break;
+                case SHAPE_LINE:
+                    shape = new SVGLine(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+                    break;
+                case SHAPE_POINTS: {
+                    boolean closed = buffer.get() != 0;
+                    float[] points = new float[buffer.getInt() * 2];
+                    for (int i = 0; i < points.length; i++) {
+                        points[i] = buffer.getFloat();
+                    }
+                    shape = new SVGPointsShape(points, closed);
+                    break;
+                }
+                case SHAPE_PATH:
+                    shape = readPath();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown shape " + type);
+            }
+            shape.setClipRule(clipRule);
+            return shape;
+        }
+
+        @Override
+        SVGClipShape readClip() {
+            if (buffer.get() == 0) return null;
+            String posMode = string(buffer.getInt());
+            return new SVGClipShape(readShape(), posMode);
+        }
+
+        private String string(int index) {
+            if (index < 0) return null;
+            String string = strings[index];
+            if (string == null) {
+                int position = base + buffer.getInt(stringTable + 4 * index);
+                byte[] bytes = new byte[buffer.getInt(position)];
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = buffer.get(position + 4 + i);
+                }
+                string = strings[index] = new String(bytes, UTF_8);
+            }
+            return string;
+        }
+
+        private SVGStyle decodeStyle(int position) {
+            ByteBuffer in = buffer.duplicate();
+            in.position(position);
+            int flags = in.get();
+            SVGStyle.Builder builder = new SVGStyle.Builder()
+                    .setStroke((flags & STYLE_STROKE) != 0)
+                    .setFill((flags & STYLE_FILL) != 0)
+                    .setUseGradientStroke((flags & STYLE_GRADIENT_STROKE) != 0)
+                    .setStrokeWidth(in.getFloat())
+                    .setStrokeLineCap(string(in.getInt()))
+                    .setStrokeLineJoin(string(in.getInt()))
+                    .setStrokeMiter(in.getFloat());
+            int dashLength = in.getInt();
+            if (dashLength >= 0) {
+                float[] dash = new float[dashLength];
+                for (int i = 0; i < dashLength; i++) {
+                    dash[i] = in.getFloat();
+                }
+                builder.setDashArray(dash);
+            }
+            builder.setColor(in.getInt());
+            int alpha = in.getInt();
+            builder.setFillColor(in.getInt());
+            builder.setAlpha(alpha, in.getInt());
+            builder.setFillRule(string(in.getInt()));
+            if ((flags & STYLE_FONT) != 0) {
+                builder.setFont(new SVGFont.Builder()
+                        .setFontFamily(string(in.getInt()))
+                        .setFontSize(in.getInt())
+                        .setFontWeight(string(in.getInt()))
+                        .setFontStyle(string(in.getInt()))
+                        .setFontVariant(string(in.getInt()))
+                        .build());
+            }
+            return builder.setTextAnchor(string(in.getInt()))
+                    .setLetterSpacing(in.getFloat())
+                    .setWordSpacing(in.getFloat())
+                    .setLengthAdjust(string(in.getInt()))
+                    .setTextDecoration(string(in.getInt()))
+                    .build();
+        }
+    }
+}
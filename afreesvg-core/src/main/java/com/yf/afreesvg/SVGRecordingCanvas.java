@@ -0,0 +1,651 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import androidx.annotation.NonNull;
+
+import com.yf.afreesvg.shape.SVGClipShape;
+import com.yf.afreesvg.shape.SVGPath;
+import com.yf.afreesvg.shape.SVGShape;
+import com.yf.afreesvg.util.Args;
+
+import java.util.Arrays;
+
+import static com.yf.afreesvg.SVGPicture.*;
+
+/**
+ * The canvas records the draw ops into {@link SVGPicture},it is like android.graphics.Picture#beginRecording
+ * <p>
+ * It has the same draw,save,clip and transform methods as {@link SVGBaseCanvas},but it builds no dom,
+ * it only appends the opcode and the args into the arrays,so it is much cheaper than drawing.
+ * The paint is copied to {@link SVGStyle} when it is recorded,the copy is reused while the paint and its
+ * {@link SVGPaintAttrs#getGenerationId()} are same,the shapes,paths,clips and arrays are copied too,
+ * so the caller can change them after draw.The shapes are copied by {@link SVGShape#clone()},
+ * a custom shape must copy its mutable fields in clone.The gradient and filter are not copied,they must not be changed
+ * after record.
+ * </p>
+ * Example code:
+ * <pre>
+ *    SVGRecordingCanvas recorder = new SVGRecordingCanvas(width, height);
+ *    recorder.drawLine(0, height, width, height, axisPaint);
+ *    recorder.drawText("x", width, height, textPaint);
+ *    SVGPicture axis = recorder.finishRecording();
+ *    for (SVGBaseCanvas canvas : canvases) {
+ *        axis.draw(canvas);
+ *    }
+ * </pre>
+ *
+ * @author iffly
+ * @see SVGPicture
+ * @since 0.0.7
+ */
+public class SVGRecordingCanvas {
+    private final float width;
+    private final float height;
+    private int[] ops = new int[64];
+    private int opsSize;
+    private float[] floats = new float[256];
+    private int floatsSize;
+    private Object[] refs = new Object[64];
+    private int refsSize;
+    private int opCount;
+    private int saveCount;
+    /**
+     * The last recorded paint and its style copy
+     */
+    private SVGPaintAttrs lastPaint;
+    private int lastPaintGenerationId;
+    private SVGStyle lastStyle;
+
+    /**
+     * Construct
+     *
+     * @param width  The width of recording
+     * @param height The height of recording
+     */
+    public SVGRecordingCanvas(float width, float height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Finish the recording,the canvas is empty after it and can record again
+     *
+     * @return The picture of the recorded ops
+     */
+    public SVGPicture finishRecording() {
+        SVGPicture picture = new SVGPicture(width, height, ops, opsSize, floats, floatsSize,
+                refs, refsSize, opCount);
+        Arrays.fill(refs, 0, refsSize, null);
+        opsSize = 0;
+        floatsSize = 0;
+        refsSize = 0;
+        opCount = 0;
+        saveCount = 0;
+        lastPaint = null;
+        lastStyle = null;
+        return picture;
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawLine(float, float, float, float, SVGPaintAttrs)
+     */
+    public void drawLine(float x1, float y1, float x2, float y2, SVGPaintAttrs paint) {
+        drawLine(x1, y1, x2, y2, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawLine(float, float, float, float, SVGPaintAttrs, String)
+     */
+    public void drawLine(float x1, float y1, float x2, float y2, SVGPaintAttrs paint, String id) {
+        addOp(OP_LINE);
+        addFloats(x1, y1, x2, y2);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawRect(float, float, float, float, SVGPaintAttrs)
+     */
+    public void drawRect(float left, float top, float right, float bottom, SVGPaintAttrs paint) {
+        drawRect(left, top, right, bottom, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawRect(float, float, float, float, SVGPaintAttrs, String)
+     */
+    public void drawRect(float left, float top, float right, float bottom, SVGPaintAttrs paint, String id) {
+        addOp(OP_RECT);
+        addFloats(left, top, right, bottom);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawCircle(float, float, float, SVGPaintAttrs)
+     */
+    public void drawCircle(float cx, float cy, float r, SVGPaintAttrs paint) {
+        drawCircle(cx, cy, r, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawCircle(float, float, float, SVGPaintAttrs, String)
+     */
+    public void drawCircle(float cx, float cy, float r, SVGPaintAttrs paint, String id) {
+        addOp(OP_CIRCLE);
+        addFloat(cx);
+        addFloat(cy);
+        addFloat(r);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawOval(float, float, float, float, SVGPaintAttrs)
+     */
+    public void drawOval(float left, float top, float right, float bottom, SVGPaintAttrs paint) {
+        drawOval(left, top, right, bottom, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawOval(float, float, float, float, SVGPaintAttrs, String)
+     */
+    public void drawOval(float left, float top, float right, float bottom, SVGPaintAttrs paint, String id) {
+        addOp(OP_OVAL);
+        addFloats(left, top, right, bottom);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPolygon(float[], SVGPaintAttrs)
+     */
+    public void drawPolygon(float[] points, SVGPaintAttrs paint) {
+        drawPolygon(points, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPolygon(float[], SVGPaintAttrs, String)
+     */
+    public void drawPolygon(float[] points, SVGPaintAttrs paint, String id) {
+        if (points == null || points.length < 6) {
+            throw new IllegalArgumentException("points is null or points length < 6");
+        }
+        addArrayOp(OP_POLYGON, points, 0, points.length, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPolyline(float[], SVGPaintAttrs)
+     */
+    public void drawPolyline(float[] points, SVGPaintAttrs paint) {
+        drawPolyline(points, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPolyline(float[], SVGPaintAttrs, String)
+     */
+    public void drawPolyline(float[] points, SVGPaintAttrs paint, String id) {
+        if (points == null || points.length < 4) {
+            throw new IllegalArgumentException("points is null or points length < 4");
+        }
+        addArrayOp(OP_POLYLINE, points, 0, points.length, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawLines(float[], SVGPaintAttrs)
+     */
+    public void drawLines(float[] pts, SVGPaintAttrs paint) {
+        drawLines(pts, 0, pts == null ? 0 : pts.length, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawLines(float[], int, int, SVGPaintAttrs)
+     */
+    public void drawLines(float[] pts, int offset, int count, SVGPaintAttrs paint) {
+        drawLines(pts, offset, count, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawLines(float[], int, int, SVGPaintAttrs, String)
+     */
+    public void drawLines(float[] pts, int offset, int count, SVGPaintAttrs paint, String id) {
+        addBatchOp(OP_LINES, pts, offset, count, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPoints(float[], SVGPaintAttrs)
+     */
+    public void drawPoints(float[] pts, SVGPaintAttrs paint) {
+        drawPoints(pts, 0, pts == null ? 0 : pts.length, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPoints(float[], int, int, SVGPaintAttrs)
+     */
+    public void drawPoints(float[] pts, int offset, int count, SVGPaintAttrs paint) {
+        drawPoints(pts, offset, count, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPoints(float[], int, int, SVGPaintAttrs, String)
+     */
+    public void drawPoints(float[] pts, int offset, int count, SVGPaintAttrs paint, String id) {
+        addBatchOp(OP_POINTS, pts, offset, count, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawRects(float[], SVGPaintAttrs)
+     */
+    public void drawRects(float[] rects, SVGPaintAttrs paint) {
+        drawRects(rects, 0, rects == null ? 0 : rects.length, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawRects(float[], int, int, SVGPaintAttrs)
+     */
+    public void drawRects(float[] rects, int offset, int count, SVGPaintAttrs paint) {
+        drawRects(rects, offset, count, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawRects(float[], int, int, SVGPaintAttrs, String)
+     */
+    public void drawRects(float[] rects, int offset, int count, SVGPaintAttrs paint, String id) {
+        addBatchOp(OP_RECTS, rects, offset, count, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawCircles(float[], SVGPaintAttrs)
+     */
+    public void drawCircles(float[] circles, SVGPaintAttrs paint) {
+        drawCircles(circles, 0, circles == null ? 0 : circles.length, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawCircles(float[], int, int, SVGPaintAttrs)
+     */
+    public void drawCircles(float[] circles, int offset, int count, SVGPaintAttrs paint) {
+        drawCircles(circles, offset, count, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawCircles(float[], int, int, SVGPaintAttrs, String)
+     */
+    public void drawCircles(float[] circles, int offset, int count, SVGPaintAttrs paint, String id) {
+        addBatchOp(OP_CIRCLES, circles, offset, count, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawArc(float, float, float, float, float, float, SVGPaintAttrs)
+     */
+    public void drawArc(float x, float y, float width, float height, float startAngle,
+                        float arcAngle, SVGPaintAttrs paint) {
+        drawArc(x, y, width, height, startAngle, arcAngle, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawArc(float, float, float, float, float, float, SVGPaintAttrs, String)
+     */
+    public void drawArc(float x, float y, float width, float height, float startAngle,
+                        float arcAngle, SVGPaintAttrs paint, String id) {
+        addOp(OP_ARC);
+        addFloats(x, y, width, height);
+        addFloat(startAngle);
+        addFloat(arcAngle);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawCurve(float, float, float, float, float, float, SVGPaintAttrs)
+     */
+    public void drawCurve(float sx, float sy, float ex, float ey, float x, float y, SVGPaintAttrs paint) {
+        drawCurve(sx, sy, ex, ey, x, y, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawCurve(float, float, float, float, float, float, SVGPaintAttrs, String)
+     */
+    public void drawCurve(float sx, float sy, float ex, float ey, float x, float y, SVGPaintAttrs paint, String id) {
+        addOp(OP_CURVE);
+        addFloats(sx, sy, ex, ey);
+        addFloat(x);
+        addFloat(y);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPath(SVGPath, SVGPaintAttrs)
+     */
+    public void drawPath(SVGPath path, SVGPaintAttrs paint) {
+        drawPath(path, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawPath(SVGPath, SVGPaintAttrs, String)
+     */
+    public void drawPath(SVGPath path, SVGPaintAttrs paint, String id) {
+        Args.nullNotPermitted(path, "path");
+        addOp(OP_PATH);
+        addRef(new SVGPath(path));
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawText(String, float, float, SVGPaintAttrs)
+     */
+    public void drawText(String text, float x, float y, SVGPaintAttrs paint) {
+        drawTextOnPath(text, x, y, 0, 0, null, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawText(String, float, float, int, SVGPaintAttrs)
+     */
+    public void drawText(String text, float x, float y, int textLength, SVGPaintAttrs paint) {
+        drawTextOnPath(text, x, y, 0, textLength, null, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawText(String, float, float, SVGPaintAttrs, String)
+     */
+    public void drawText(String text, float x, float y, SVGPaintAttrs paint, String id) {
+        drawTextOnPath(text, x, y, 0, 0, null, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawText(String, float, float, int, SVGPaintAttrs, String)
+     */
+    public void drawText(String text, float x, float y, int textLength, SVGPaintAttrs paint, String id) {
+        drawTextOnPath(text, x, y, 0, textLength, null, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawTextOnPath(String, float, float, SVGPath, SVGPaintAttrs)
+     */
+    public void drawTextOnPath(String text, float x, float y, SVGPath path, SVGPaintAttrs paint) {
+        drawTextOnPath(text, x, y, 0, 0, path, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawTextOnPath(String, float, float, float, SVGPath, SVGPaintAttrs, String)
+     */
+    public void drawTextOnPath(String text, float x, float y, float startOffset, SVGPath path, SVGPaintAttrs paint, String id) {
+        drawTextOnPath(text, x, y, startOffset, 0, path, paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawTextOnPath(String, float, float, float, int, SVGPath, SVGPaintAttrs, String)
+     */
+    public void drawTextOnPath(String text, float x, float y, float startOffset, int textLength, SVGPath path, SVGPaintAttrs paint, String id) {
+        addOp(OP_TEXT);
+        addInt(textLength);
+        addFloat(x);
+        addFloat(y);
+        addFloat(startOffset);
+        addRef(text);
+        addRef(path != null ? new SVGPath(path) : null);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawShape(SVGShape, SVGPaintAttrs)
+     */
+    public void drawShape(SVGShape shape, SVGPaintAttrs paint) {
+        drawShape(shape, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawShape(SVGShape, SVGPaintAttrs, String)
+     */
+    public void drawShape(SVGShape shape, SVGPaintAttrs paint, String id) {
+        Args.nullNotPermitted(shape, "shape");
+        addOp(OP_SHAPE);
+        addRef(shape.clone());
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawImage(String, float, float, float, float, SVGPaintAttrs)
+     */
+    public void drawImage(String uri, float x, float y, float width, float height, SVGPaintAttrs paint) {
+        drawImage(uri, x, y, width, height, paint, null);
+    }
+
+    /**
+     * @see SVGBaseCanvas#drawImage(String, float, float, float, float, SVGPaintAttrs, String)
+     */
+    public void drawImage(String uri, float x, float y, float width, float height, SVGPaintAttrs paint, String id) {
+        addOp(OP_IMAGE);
+        addFloats(x, y, width, height);
+        addRef(uri);
+        addPaint(paint, id);
+    }
+
+    /**
+     * @see SVGBaseCanvas#clip(SVGClipShape)
+     */
+    public void clip(SVGClipShape clipShape) {
+        addOp(OP_CLIP);
+        if (clipShape != null && !clipShape.isFrozen()) {
+            // the frozen copy is shared by every replay
+            clipShape = new SVGClipShape(clipShape);
+            clipShape.freeze();
+        }
+        addRef(clipShape);
+    }
+
+    /**
+     * @see SVGBaseCanvas#save()
+     */
+    public int save() {
+        return save(SVGBaseCanvas.SAVE_FLAG_MATRIX | SVGBaseCanvas.SAVE_FLAG_CLIP);
+    }
+
+    /**
+     * @see SVGBaseCanvas#save(int)
+     */
+    public int save(@SVGBaseCanvas.Saveflags int flags) {
+        addOp(OP_SAVE);
+        addInt(flags);
+        return ++saveCount;
+    }
+
+    /**
+     * @see SVGBaseCanvas#saveLayer(float, float, float, float)
+     */
+    public int saveLayer(float x, float y, float width, float height) {
+        addOp(OP_SAVE_LAYER);
+        addFloats(x, y, width, height);
+        return ++saveCount;
+    }
+
+    /**
+     * @see SVGBaseCanvas#clearLayer()
+     */
+    public void clearLayer() {
+        addOp(OP_CLEAR_LAYER);
+    }
+
+    /**
+     * Restore the matrix and clip,it is not recorded when there is no save,
+     * so the picture never restores the saves of the canvas it draws into
+     *
+     * @see SVGBaseCanvas#restore()
+     */
+    public void restore() {
+        if (saveCount > 0) {
+            addOp(OP_RESTORE);
+            --saveCount;
+        }
+    }
+
+    /**
+     * @see SVGBaseCanvas#restoreToCount(int)
+     */
+    public void restoreToCount(int count) {
+        if (count < 0) count = 0;
+        if (count < saveCount) {
+            addOp(OP_RESTORE_TO_COUNT);
+            addInt(count);
+            saveCount = count;
+        }
+    }
+
+    /**
+     * @see SVGBaseCanvas#getSaveCount()
+     */
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Record the matrix,it is relative to the transform which the picture is drawn with
+     *
+     * @see SVGBaseCanvas#setMatrix(SVGMatrix)
+     * @see SVGPicture#draw(SVGBaseCanvas, SVGMatrix)
+     */
+    public void setMatrix(@NonNull SVGMatrix matrix) {
+        addOp(OP_SET_MATRIX);
+        addFloats(matrix.getValue(SVGMatrix.MSCALE_X), matrix.getValue(SVGMatrix.MSKEW_X),
+                matrix.getValue(SVGMatrix.MTRANS_X), matrix.getValue(SVGMatrix.MSKEW_Y));
+        addFloat(matrix.getValue(SVGMatrix.MSCALE_Y));
+        addFloat(matrix.getValue(SVGMatrix.MTRANS_Y));
+    }
+
+    /**
+     * @see SVGBaseCanvas#resetTransform()
+     */
+    public void resetTransform() {
+        addOp(OP_RESET_TRANSFORM);
+    }
+
+    /**
+     * @see SVGBaseCanvas#translate(float, float)
+     */
+    public void translate(float dx, float dy) {
+        addOp(OP_TRANSLATE);
+        addFloat(dx);
+        addFloat(dy);
+    }
+
+    /**
+     * @see SVGBaseCanvas#scale(float, float)
+     */
+    public void scale(float sx, float sy) {
+        scale(sx, sy, 0, 0);
+    }
+
+    /**
+     * @see SVGBaseCanvas#scale(float, float, float, float)
+     */
+    public void scale(float sx, float sy, float px, float py) {
+        addOp(OP_SCALE);
+        addFloats(sx, sy, px, py);
+    }
+
+    /**
+     * @see SVGBaseCanvas#rotate(float, float, float)
+     */
+    public void rotate(float degree, float px, float py) {
+        addOp(OP_ROTATE);
+        addFloat(degree);
+        addFloat(px);
+        addFloat(py);
+    }
+
+    /**
+     * @see SVGBaseCanvas#skew(float, float, float, float)
+     */
+    public void skew(float sx, float sy, float px, float py) {
+        addOp(OP_SKEW);
+        addFloats(sx, sy, px, py);
+    }
+
+    private void addArrayOp(int op, float[] values, int offset, int count, SVGPaintAttrs paint, String id) {
+        addOp(op);
+        addInt(count);
+        ensureFloats(count);
+        System.arraycopy(values, offset, floats, floatsSize, count);
+        floatsSize += count;
+        addPaint(paint, id);
+    }
+
+    private void addBatchOp(int op, float[] values, int offset, int count, SVGPaintAttrs paint, String id) {
+        Args.nullNotPermitted(values, "values");
+        if (offset < 0 || count < 0 || offset > values.length - count) {
+            throw new IllegalArgumentException("offset " + offset + " count " + count
+                    + " out of values length " + values.length);
+        }
+        addArrayOp(op, values, offset, count, paint, id);
+    }
+
+    private void addOp(int op) {
+        ++opCount;
+        addInt(op);
+    }
+
+    private void addInt(int value) {
+        if (opsSize == ops.length) {
+            ops = Arrays.copyOf(ops, opsSize * 2);
+        }
+        ops[opsSize++] = value;
+    }
+
+    private void addFloat(float value) {
+        ensureFloats(1);
+        floats[floatsSize++] = value;
+    }
+
+    private void addFloats(float a, float b, float c, float d) {
+        ensureFloats(4);
+        floats[floatsSize] = a;
+        floats[floatsSize + 1] = b;
+        floats[floatsSize + 2] = c;
+        floats[floatsSize + 3] = d;
+        floatsSize += 4;
+    }
+
+    private void ensureFloats(int count) {
+        if (floatsSize + count > floats.length) {
+            floats = Arrays.copyOf(floats, Math.max(floats.length * 2, floatsSize + count));
+        }
+    }
+
+    private void addRef(Object ref) {
+        if (refsSize == refs.length) {
+            refs = Arrays.copyOf(refs, refsSize * 2);
+        }
+        refs[refsSize++] = ref;
+    }
+
+    /**
+     * Add the style copy of paint and the element id
+     */
+    private void addPaint(SVGPaintAttrs paint, String id) {
+        addRef(toStyle(paint));
+        addRef(id);
+    }
+
+    /**
+     * The null paint is recorded as null,and replayed as null
+     */
+    private SVGStyle toStyle(SVGPaintAttrs paint) {
+        if (paint == null || paint instanceof SVGStyle) {
+            return (SVGStyle) paint;
+        }
+        if (paint != lastPaint || paint.getGenerationId() != lastPaintGenerationId
+                || !Arrays.equals(lastStyle.getDashArray(), paint.getDashArray())) {
+            lastPaint = paint;
+            lastPaintGenerationId = paint.getGenerationId();
+            lastStyle = new SVGStyle.Builder(paint).build();
+        }
+        return lastStyle;
+    }
+}
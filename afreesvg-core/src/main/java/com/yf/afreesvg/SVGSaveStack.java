@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import com.yf.afreesvg.shape.SVGClipShape;
+
+import org.w3c.dom.Element;
+
+import java.util.Arrays;
+
+/**
+ * The save stack of {@link SVGBaseCanvas}
+ * <p>
+ * Every save is one entry of the flags,the matrix values,the clip,the clip id and the layer,
+ * they are kept in parallel arrays,the matrix is packed as 6 floats.
+ * It is not synchronized,and after the arrays grow,save and restore allocate nothing.
+ * The clip is shared by reference,the canvas never changes it.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+final class SVGSaveStack {
+    private static final int MATRIX_SIZE = 6;
+
+    private int[] flags = new int[8];
+    private float[] matrices = new float[8 * MATRIX_SIZE];
+    private SVGClipShape[] clips = new SVGClipShape[8];
+    private String[] clipRefs = new String[8];
+    private Element[] layers = new Element[8];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Push the state,the matrix values are copied
+     *
+     * @return The size after push
+     */
+    int push(int flag, SVGMatrix matrix, SVGClipShape clip, String clipRef) {
+        if (size == flags.length) {
+            int capacity = size * 2;
+            flags = Arrays.copyOf(flags, capacity);
+            matrices = Arrays.copyOf(matrices, capacity * MATRIX_SIZE);
+            clips = Arrays.copyOf(clips, capacity);
+            clipRefs = Arrays.copyOf(clipRefs, capacity);
+            layers = Arrays.copyOf(layers, capacity);
+        }
+        flags[size] = flag;
+        matrix.getValues(matrices, size * MATRIX_SIZE);
+        clips[size] = clip;
+        clipRefs[size] = clipRef;
+        return ++size;
+    }
+
+    int getFlags() {
+        return flags[size - 1];
+    }
+
+    /**
+     * Copy the saved matrix values of the top into the matrix
+     */
+    void getMatrix(SVGMatrix matrix) {
+        matrix.setValues(matrices, (size - 1) * MATRIX_SIZE);
+    }
+
+    SVGClipShape getClip() {
+        return clips[size - 1];
+    }
+
+    String getClipRef() {
+        return clipRefs[size - 1];
+    }
+
+    /**
+     * Keep the layer which is replaced by the new layer of the top save
+     */
+    void setLayer(Element layer) {
+        layers[size - 1] = layer;
+    }
+
+    Element getLayer() {
+        return layers[size - 1];
+    }
+
+    void pop() {
+        --size;
+        clips[size] = null;
+        clipRefs[size] = null;
+        layers[size] = null;
+    }
+
+    void clear() {
+        Arrays.fill(clips, 0, size, null);
+        Arrays.fill(clipRefs, 0, size, null);
+        Arrays.fill(layers, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import androidx.annotation.NonNull;
+
+import org.w3c.dom.Element;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * The streaming svg canvas.
+ * <p>
+ * Unlike {@link SVGBaseCanvas},it does not keep the drawn elements in a dom tree,
+ * every element is written to the writer when it is drawn,so the memory not grow with the element count.
+ * The output is buffered,call {@link #flush()} if need the content before {@link #endDocument()}.
+ * The defs (gradient,clip,filter,text path) are collected out of band and written in a "defs" element
+ * just before the first element which use them,so all references point backwards.
+ * A layer is written only when it has children,same as {@link SVGBaseCanvas#saveLayer(float, float, float, float)}.
+ * It is pure java,so it can stream on server too.
+ * </p>
+ * Example code
+ * <pre>
+ *     SVGStreamCanvas canvas = new SVGStreamCanvas(500, 500, outputStream);
+ *     canvas.startDocument();
+ *     canvas.drawLine(10, 10, 200, 200, paint);
+ *     ...
+ *     canvas.endDocument();
+ * </pre>
+ * <p>
+ * The whole document api,{@link #clear()},{@link #reset(double, double)},{@link #clearLayer()},
+ * {@link #getSVGElement(String, boolean, ViewBox, PreserveAspectRatio, MeetOrSlice)},
+ * {@link #getSVGXmlString()} and {@link #writeSVGXMLToStream(OutputStream)} are not supported.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public class SVGStreamCanvas extends SVGBaseCanvas {
+    private final SVGXmlSerializer serializer;
+
+    /**
+     * The def elements which have not been written
+     */
+    private final List<Element> pendingDefs = new ArrayList<>();
+
+    /**
+     * The saved layers,the start tag of layer is written when the first child is written
+     */
+    private final List<Element> layers = new ArrayList<>();
+
+    /**
+     * The count of layers which start tag have been written
+     */
+    private int startedLayerCount;
+
+    private boolean documentStarted;
+    private boolean documentEnded;
+
+    /**
+     * Construct
+     *
+     * @param width  svg width
+     * @param height svg height
+     * @param writer The writer which output
+     * @throws ParserConfigurationException
+     */
+    public SVGStreamCanvas(double width, double height, @NonNull Writer writer) throws ParserConfigurationException {
+        this(width, height, null, true, writer);
+    }
+
+    /**
+     * Construct
+     *
+     * @param width        svg width
+     * @param height       svg height
+     * @param outputStream The stream which output,it is written in UTF-8
+     * @throws ParserConfigurationException
+     */
+    public SVGStreamCanvas(double width, double height, @NonNull OutputStream outputStream) throws ParserConfigurationException {
+        this(width, height, null, true, new SVGXmlSerializer(outputStream));
+    }
+
+    /**
+     * Construct
+     *
+     * @param width                 svg width
+     * @param height                svg height
+     * @param units                 svg size units
+     * @param compatibleWithAndroid {@link SVGBaseCanvas#SVGBaseCanvas(double, double, SVGUnits, boolean)}
+     * @param writer                The writer which output
+     * @throws ParserConfigurationException
+     */
+    public SVGStreamCanvas(double width, double height, SVGUnits units, boolean compatibleWithAndroid,
+                           @NonNull Writer writer) throws ParserConfigurationException {
+        this(width, height, units, compatibleWithAndroid, new SVGXmlSerializer(writer));
+    }
+
+    private SVGStreamCanvas(double width, double height, SVGUnits units, boolean compatibleWithAndroid,
+                            SVGXmlSerializer serializer) throws ParserConfigurationException {
+        super(width, height, units, compatibleWithAndroid);
+        this.serializer = serializer;
+    }
+
+    /**
+     * Write the xml declaration and svg start tag
+     * <p>
+     * It is called automatically with default attrs when the first element is drawn
+     * </p>
+     *
+     * @throws IOException
+     * @see #startDocument(String, boolean, ViewBox, PreserveAspectRatio, MeetOrSlice)
+     */
+    public void startDocument() throws IOException {
+        startDocument(null, true, null, null, null);
+    }
+
+    /**
+     * Write the xml declaration and svg start tag
+     *
+     * @param id                  The svg id,can be null
+     * @param includeDimensions   true mean that include width and height
+     * @param viewBox             The svg view box,{@link ViewBox}
+     * @param preserveAspectRatio The svg preserveAspectRatio,only viewBox not null,it will useful{@link PreserveAspectRatio}
+     * @param meetOrSlice         The svg use meet or slice,{@link MeetOrSlice}
+     * @throws IOException
+     */
+    public void startDocument(String id, boolean includeDimensions,
+                              ViewBox viewBox, PreserveAspectRatio preserveAspectRatio,
+                              MeetOrSlice meetOrSlice) throws IOException {
+        if (documentStarted) {
+            throw new IllegalStateException("The document has already started");
+        }
+        Element svgElement = getDocument().createElement("svg");
+        addSVGElementAttrs(svgElement, id, includeDimensions, viewBox, preserveAspectRatio, meetOrSlice);
+        serializer.startDocument(DOCTYPE_PUBLIC_ID, DOCTYPE_SYSTEM_ID);
+        serializer.startElement(svgElement);
+        documentStarted = true;
+    }
+
+    /**
+     * Restore all layers,write the left defs and svg end tag,then flush the writer
+     *
+     * @throws IOException
+     */
+    public void endDocument() throws IOException {
+        checkNotEnded();
+        if (!documentStarted) {
+            startDocument();
+        }
+        restoreToCount(0);
+        writePendingDefs();
+        serializer.endElement();
+        serializer.endDocument();
+        documentEnded = true;
+    }
+
+    /**
+     * Flush the written content to writer
+     *
+     * @throws IOException
+     */
+    public void flush() throws IOException {
+        serializer.flush();
+    }
+
+    @Override
+    protected void appendElement(Element element) {
+        checkNotEnded();
+        try {
+            if (!documentStarted) {
+                startDocument();
+            }
+            while (startedLayerCount < layers.size()) {
+                serializer.startElement(layers.get(startedLayerCount++));
+            }
+            writePendingDefs();
+            serializer.writeElement(element);
+        } catch (IOException e) {
+            throw new IllegalStateException("Write svg element failed", e);
+        }
+    }
+
+    @Override
+    protected void addElementToDef(Element element) {
+        if (element == null) return;
+        pendingDefs.add(element);
+    }
+
+    @Override
+    protected void pushLayer(Element layer) {
+        layers.add(layer);
+    }
+
+    @Override
+    protected void popLayer() {
+        int last = layers.size() - 1;
+        if (startedLayerCount > last) {
+            try {
+                serializer.endElement();
+            } catch (IOException e) {
+                throw new IllegalStateException("Write svg element failed", e);
+            }
+            startedLayerCount = last;
+        }
+        layers.remove(last);
+    }
+
+    /**
+     * Not supported,the drawn elements have been written
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("SVGStreamCanvas can not clear written elements");
+    }
+
+    /**
+     * Not supported,the drawn elements have been written
+     */
+    @Override
+    public void reset(double width, double height) {
+        throw new UnsupportedOperationException("SVGStreamCanvas can not clear written elements");
+    }
+
+    /**
+     * Not supported,the drawn elements have been written
+     */
+    @Override
+    public void clearLayer() {
+        throw new UnsupportedOperationException("SVGStreamCanvas can not clear written elements");
+    }
+
+    /**
+     * Not supported,the elements are written before the styles are counted
+     */
+    @Override
+    public void setUseStyleClass(boolean useStyleClass) {
+        throw new UnsupportedOperationException("SVGStreamCanvas not support style class");
+    }
+
+    /**
+     * Not supported,the defs are written before the elements which reference them
+     */
+    @Override
+    public void setPruneUnusedDefs(boolean pruneUnusedDefs) {
+        throw new UnsupportedOperationException("SVGStreamCanvas not support prune defs");
+    }
+
+    /**
+     * Not supported,use {@link #startDocument(String, boolean, ViewBox, PreserveAspectRatio, MeetOrSlice)}
+     */
+    @Override
+    public Element getSVGElement(String id, boolean includeDimensions,
+                                 ViewBox viewBox, PreserveAspectRatio preserveAspectRatio,
+                                 MeetOrSlice meetOrSlice) {
+        throw new UnsupportedOperationException("SVGStreamCanvas not keep the svg dom");
+    }
+
+    /**
+     * Not supported,the content is written to the writer when drawing
+     */
+    @Override
+    public String getSVGXmlString() {
+        throw new UnsupportedOperationException("SVGStreamCanvas not keep the svg dom");
+    }
+
+    /**
+     * Not supported,the content is written to the writer when drawing
+     */
+    @Override
+    public void writeSVGXMLToStream(OutputStream outputStream) {
+        throw new UnsupportedOperationException("SVGStreamCanvas not keep the svg dom");
+    }
+
+    private void writePendingDefs() throws IOException {
+        if (pendingDefs.isEmpty()) return;
+        serializer.startElement(getDocument().createElement("defs"));
+        for (Element element : pendingDefs) {
+            serializer.writeElement(element);
+        }
+        serializer.endElement();
+        pendingDefs.clear();
+    }
+
+    private void checkNotEnded() {
+        if (documentEnded) {
+            throw new IllegalStateException("The document has ended");
+        }
+    }
+}
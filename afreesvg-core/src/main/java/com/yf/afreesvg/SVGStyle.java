@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+import com.yf.afreesvg.filter.SVGFilter;
+import com.yf.afreesvg.font.SVGFont;
+import com.yf.afreesvg.gradient.SVGGradient;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The immutable paint attrs
+ * <p>
+ * It is a lightweight value of {@link SVGPaintAttrs},it does not hold android.graphics.Paint,
+ * and it has value equality with the precomputed hash code,so it can be the key of style cache.
+ * All draw methods of canvas accept it,and the canvas reuses the style string of the equal style.
+ * The gradient and filter must not be changed after build.
+ * </p>
+ * Example code:
+ * <pre>
+ *    SVGStyle style = new SVGStyle.Builder()
+ *                     .setStroke(true)
+ *                     .setFill(false)
+ *                     .setColor(Color.RED)
+ *                     .setStrokeWidth(2)
+ *                     .build();
+ *    SVGStyle fromPaint = new SVGStyle.Builder(paint).build();
+ * </pre>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public final class SVGStyle implements SVGPaintAttrs {
+    private final boolean stroke;
+    private final boolean fill;
+    private final float strokeWidth;
+    private final @LineCap
+    String strokeLineCap;
+    private final @LineJoin
+    String strokeLineJoin;
+    private final float strokeMiter;
+    private final float[] dashArray;
+    private final @ColorInt
+    int color;
+    private final int alpha;
+    private final @ColorInt
+    int fillColor;
+    private final int fillColorAlpha;
+    private final @FillRule
+    String fillRule;
+    private final SVGGradient gradient;
+    private final boolean useGradientStroke;
+    private final SVGFont font;
+    private final @TextAnchor
+    String textAnchor;
+    private final float letterSpacing;
+    private final float wordSpacing;
+    private final @LengthAdjust
+    String lengthAdjust;
+    private final @TextDecoration
+    String textDecoration;
+    private final SVGFilter filter;
+    private final int hashCode;
+
+    private SVGStyle(Builder builder) {
+        this.stroke = builder.stroke;
+        this.fill = builder.fill;
+        this.strokeWidth = builder.strokeWidth;
+        this.strokeLineCap = builder.strokeLineCap;
+        this.strokeLineJoin = builder.strokeLineJoin;
+        this.strokeMiter = builder.strokeMiter;
+        this.dashArray = builder.dashArray != null ? builder.dashArray.clone() : null;
+        this.color = builder.color;
+        this.alpha = builder.alpha;
+        this.fillColor = builder.fillColor;
+        this.fillColorAlpha = builder.fillColorAlpha;
+        this.fillRule = builder.fillRule;
+        this.gradient = builder.gradient;
+        this.useGradientStroke = builder.useGradientStroke;
+        this.font = builder.font;
+        this.textAnchor = builder.textAnchor;
+        this.letterSpacing = builder.letterSpacing;
+        this.wordSpacing = builder.wordSpacing;
+        this.lengthAdjust = builder.lengthAdjust;
+        this.textDecoration = builder.textDecoration;
+        this.filter = builder.filter;
+        this.hashCode = computeHashCode();
+    }
+
+    @Override
+    public boolean hasStroke() {
+        return stroke;
+    }
+
+    @Override
+    public boolean hasFill() {
+        return fill;
+    }
+
+    @Override
+    public float getStrokeWidth() {
+        return strokeWidth;
+    }
+
+    @Override
+    public String getStrokeLineCap() {
+        return strokeLineCap;
+    }
+
+    @Override
+    public String getStrokeLineJoin() {
+        return strokeLineJoin;
+    }
+
+    @Override
+    public float getStrokeMiter() {
+        return strokeMiter;
+    }
+
+    /**
+     * Get stroke dash,the array is shared,do not modify it
+     *
+     * @return stroke dash,can be null
+     */
+    @Override
+    public float[] getDashArray() {
+        return dashArray;
+    }
+
+    @Override
+    public int getColor() {
+        return color;
+    }
+
+    @Override
+    public int getAlpha() {
+        if (gradient == null || !useGradientStroke)
+            return alpha;
+        return 255;
+    }
+
+    @Override
+    public int getFillColor() {
+        return fillColor;
+    }
+
+    @Override
+    public int getFillColorAlpha() {
+        if (gradient == null)
+            return fillColorAlpha;
+        return 255;
+    }
+
+    @Override
+    public String getFillRule() {
+        return fillRule;
+    }
+
+    @Override
+    public SVGGradient getGradient() {
+        return gradient;
+    }
+
+    @Override
+    public boolean isUseGradientStroke() {
+        return useGradientStroke;
+    }
+
+    @Override
+    public SVGFont getFont() {
+        return font;
+    }
+
+    @Override
+    public String getTextAnchor() {
+        return textAnchor;
+    }
+
+    @Override
+    public float getLetterSpacing() {
+        return letterSpacing;
+    }
+
+    @Override
+    public float getWordSpacing() {
+        return wordSpacing;
+    }
+
+    @Override
+    public String getLengthAdjust() {
+        return lengthAdjust;
+    }
+
+    @Override
+    public String getTextDecoration() {
+        return textDecoration;
+    }
+
+    @Override
+    public SVGFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * The style never changes,so the generation id is always 0
+     *
+     * @return 0
+     */
+    @Override
+    public int getGenerationId() {
+        return 0;
+    }
+
+    private int computeHashCode() {
+        int result = Objects.hash(stroke, fill, strokeWidth, strokeLineCap, strokeLineJoin, strokeMiter,
+                color, alpha, fillColor, fillColorAlpha, fillRule, gradient, useGradientStroke, font,
+                textAnchor, letterSpacing, wordSpacing, lengthAdjust, textDecoration, filter);
+        return 31 * result + Arrays.hashCode(dashArray);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGStyle that = (SVGStyle) o;
+        return hashCode == that.hashCode &&
+                stroke == that.stroke &&
+                fill == that.fill &&
+                Float.compare(that.strokeWidth, strokeWidth) == 0 &&
+                Float.compare(that.strokeMiter, strokeMiter) == 0 &&
+                color == that.color &&
+                alpha == that.alpha &&
+                fillColor == that.fillColor &&
+                fillColorAlpha == that.fillColorAlpha &&
+                useGradientStroke == that.useGradientStroke &&
+                Float.compare(that.letterSpacing, letterSpacing) == 0 &&
+                Float.compare(that.wordSpacing, wordSpacing) == 0 &&
+                Objects.equals(strokeLineCap, that.strokeLineCap) &&
+                Objects.equals(strokeLineJoin, that.strokeLineJoin) &&
+                Arrays.equals(dashArray, that.dashArray) &&
+                Objects.equals(fillRule, that.fillRule) &&
+                Objects.equals(gradient, that.gradient) &&
+                Objects.equals(font, that.font) &&
+                Objects.equals(textAnchor, that.textAnchor) &&
+                Objects.equals(lengthAdjust, that.lengthAdjust) &&
+                Objects.equals(textDecoration, that.textDecoration) &&
+                Objects.equals(filter, that.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Style builder
+     * The default values are same as {@link SVGBasePaint}
+     *
+     * @since 0.0.7
+     */
+    public static class Builder {
+        private boolean stroke = false;
+        private boolean fill = true;
+        private float strokeWidth = 0;
+        private @LineCap
+        String strokeLineCap = LineCap.LINE_CAP_BUTT;
+        private @LineJoin
+        String strokeLineJoin = LineJoin.LINE_JOIN_MITER;
+        private float strokeMiter = 4;
+        private float[] dashArray;
+        private @ColorInt
+        int color = 0xff000000;
+        private int alpha = 255;
+        private @ColorInt
+        int fillColor;
+        private int fillColorAlpha;
+        private @FillRule
+        String fillRule = FillRule.FILL_RULE_DEFAULT;
+        private SVGGradient gradient;
+        private boolean useGradientStroke = false;
+        private SVGFont font;
+        private @TextAnchor
+        String textAnchor = TextAnchor.TEXT_ANCHOR_START;
+        private float letterSpacing = 0;
+        private float wordSpacing = 0;
+        private @LengthAdjust
+        String lengthAdjust = LengthAdjust.LENGTH_ADJUST_SPACING;
+        private @TextDecoration
+        String textDecoration = TextDecoration.TEXT_DECORATION_NONE;
+        private SVGFilter filter;
+
+        public Builder() {
+        }
+
+        /**
+         * Create a builder that copies the current attrs of paint
+         *
+         * @param paint The paint,such as SVGPaint or {@link SVGBasePaint}
+         */
+        public Builder(@NonNull SVGPaintAttrs paint) {
+            stroke = paint.hasStroke();
+            fill = paint.hasFill();
+            strokeWidth = paint.getStrokeWidth();
+            strokeLineCap = paint.getStrokeLineCap();
+            strokeLineJoin = paint.getStrokeLineJoin();
+            strokeMiter = paint.getStrokeMiter();
+            dashArray = paint.getDashArray();
+            color = paint.getColor();
+            fillColor = paint.getFillColor();
+            fillRule = paint.getFillRule();
+            gradient = paint.getGradient();
+            useGradientStroke = paint.isUseGradientStroke();
+            font = paint.getFont();
+            textAnchor = paint.getTextAnchor();
+            letterSpacing = paint.getLetterSpacing();
+            wordSpacing = paint.getWordSpacing();
+            lengthAdjust = paint.getLengthAdjust();
+            textDecoration = paint.getTextDecoration();
+            filter = paint.getFilter();
+            //the alpha of gradient is 255,so keep the alpha of the color
+            alpha = color >>> 24;
+            fillColorAlpha = fillColor >>> 24;
+            if (gradient == null || !useGradientStroke)
+                alpha = paint.getAlpha();
+            if (gradient == null)
+                fillColorAlpha = paint.getFillColorAlpha();
+        }
+
+        public Builder setStroke(boolean stroke) {
+            this.stroke = stroke;
+            return this;
+        }
+
+        public Builder setFill(boolean fill) {
+            this.fill = fill;
+            return this;
+        }
+
+        public Builder setStrokeWidth(float strokeWidth) {
+            this.strokeWidth = strokeWidth;
+            return this;
+        }
+
+        public Builder setStrokeLineCap(@LineCap String strokeLineCap) {
+            this.strokeLineCap = strokeLineCap;
+            return this;
+        }
+
+        public Builder setStrokeLineJoin(@LineJoin String strokeLineJoin) {
+            this.strokeLineJoin = strokeLineJoin;
+            return this;
+        }
+
+        public Builder setStrokeMiter(float strokeMiter) {
+            this.strokeMiter = strokeMiter;
+            return this;
+        }
+
+        /**
+         * Set stroke dash,the array is copied when build
+         *
+         * @param dashArray The dash,can be null
+         * @return The builder
+         */
+        public Builder setDashArray(float[] dashArray) {
+            this.dashArray = dashArray;
+            return this;
+        }
+
+        /**
+         * Set stroke color,the alpha is the alpha of color
+         *
+         * @param color The stroke color
+         * @return The builder
+         */
+        public Builder setColor(@ColorInt int color) {
+            this.color = color;
+            this.alpha = color >>> 24;
+            return this;
+        }
+
+        /**
+         * Set fill color,the alpha is the alpha of color
+         *
+         * @param fillColor The fill color
+         * @return The builder
+         */
+        public Builder setFillColor(@ColorInt int fillColor) {
+            this.fillColor = fillColor;
+            this.fillColorAlpha = fillColor >>> 24;
+            return this;
+        }
+
+        /**
+         * Set the stroke and fill alpha which are not the alpha of colors,it is used to read the style back
+         */
+        Builder setAlpha(int alpha, int fillColorAlpha) {
+            this.alpha = alpha;
+            this.fillColorAlpha = fillColorAlpha;
+            return this;
+        }
+
+        public Builder setFillRule(@FillRule String fillRule) {
+            this.fillRule = fillRule;
+            return this;
+        }
+
+        public Builder setGradient(SVGGradient gradient) {
+            this.gradient = gradient;
+            return this;
+        }
+
+        public Builder setUseGradientStroke(boolean useGradientStroke) {
+            this.useGradientStroke = useGradientStroke;
+            return this;
+        }
+
+        public Builder setFont(SVGFont font) {
+            this.font = font;
+            return this;
+        }
+
+        public Builder setTextAnchor(@TextAnchor String textAnchor) {
+            this.textAnchor = textAnchor;
+            return this;
+        }
+
+        public Builder setLetterSpacing(float letterSpacing) {
+            this.letterSpacing = letterSpacing;
+            return this;
+        }
+
+        public Builder setWordSpacing(float wordSpacing) {
+            this.wordSpacing = wordSpacing;
+            return this;
+        }
+
+        public Builder setLengthAdjust(@LengthAdjust String lengthAdjust) {
+            this.lengthAdjust = lengthAdjust;
+            return this;
+        }
+
+        public Builder setTextDecoration(@TextDecoration String textDecoration) {
+            this.textDecoration = textDecoration;
+            return this;
+        }
+
+        public Builder setFilter(SVGFilter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public SVGStyle build() {
+            return new SVGStyle(this);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import com.yf.afreesvg.shape.SVGBaseShape;
+import com.yf.afreesvg.shape.SVGCircle;
+import com.yf.afreesvg.shape.SVGLine;
+import com.yf.afreesvg.shape.SVGOval;
+import com.yf.afreesvg.shape.SVGPath;
+import com.yf.afreesvg.shape.SVGPointsShape;
+import com.yf.afreesvg.shape.SVGRect;
+import com.yf.afreesvg.shape.SVGShape;
+
+/**
+ * Bake the transform of {@link SVGBaseCanvas} into the shape coordinates
+ * <p>
+ * The line,points and path are mapped by any matrix,the rect and oval need {@link SVGMatrix#rectStaysRect()},
+ * the circle also needs same scale of x and y.The shape which can not be mapped exactly returns null,
+ * the canvas writes the transform attribute for it.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+final class SVGTransformBaker {
+
+    private SVGTransformBaker() {
+    }
+
+    /**
+     * Map the shape by the matrix
+     *
+     * @param shape  The shape to map
+     * @param matrix The matrix
+     * @return The mapped shape,null if it can not be mapped exactly
+     */
+    static SVGShape bake(SVGShape shape, SVGMatrix matrix) {
+        SVGBaseShape baked;
+        if (shape instanceof SVGRect) {
+            baked = bakeRect((SVGRect) shape, matrix);
+        } else if (shape instanceof SVGCircle) {
+            baked = bakeCircle((SVGCircle) shape, matrix);
+        } else if (shape instanceof SVGOval) {
+            baked = bakeOval((SVGOval) shape, matrix);
+        } else if (shape instanceof SVGLine) {
+            SVGLine line = (SVGLine) shape;
+            float[] pts = {line.getX1(), line.getY1(), line.getX2(), line.getY2()};
+            matrix.mapPoints(pts);
+            baked = new SVGLine(pts[0], pts[1], pts[2], pts[3]);
+        } else if (shape instanceof SVGPointsShape) {
+            SVGPointsShape pointsShape = (SVGPointsShape) shape;
+            float[] pts = new float[pointsShape.getPointCount() * 2];
+            for (int i = 0; i < pts.length; i += 2) {
+                pts[i] = pointsShape.getPointX(i / 2);
+                pts[i + 1] = pointsShape.getPointY(i / 2);
+            }
+            matrix.mapPoints(pts);
+            baked = new SVGPointsShape(pts, pointsShape.isClosed());
+        } else if (shape instanceof SVGPath) {
+            SVGPath path = new SVGPath();
+            baked = ((SVGPath) shape).transform(matrix, path) ? path : null;
+        } else {
+            return null;
+        }
+        if (baked != null)
+            baked.setClipRule(((SVGBaseShape) shape).getClipRule());
+        return baked;
+    }
+
+    private static SVGBaseShape bakeRect(SVGRect rect, SVGMatrix matrix) {
+        if (!matrix.rectStaysRect())
+            return null;
+        float[] pts = {rect.getX(), rect.getY(), rect.getX() + rect.getWidth(), rect.getY() + rect.getHeight()};
+        matrix.mapPoints(pts);
+        return new SVGRect(Math.min(pts[0], pts[2]), Math.min(pts[1], pts[3]),
+                Math.abs(pts[2] - pts[0]), Math.abs(pts[3] - pts[1]));
+    }
+
+    private static SVGBaseShape bakeCircle(SVGCircle circle, SVGMatrix matrix) {
+        if (!matrix.rectStaysRect())
+            return null;
+        float sx = scaleOfX(matrix), sy = scaleOfY(matrix);
+        if (sx != sy)
+            return null;
+        float[] pts = {circle.getCx(), circle.getCy()};
+        matrix.mapPoints(pts);
+        return new SVGCircle(pts[0], pts[1], circle.getR() * sx);
+    }
+
+    private static SVGBaseShape bakeOval(SVGOval oval, SVGMatrix matrix) {
+        if (!matrix.rectStaysRect())
+            return null;
+        float[] pts = {oval.getCx(), oval.getCy()};
+        matrix.mapPoints(pts);
+        float sx = scaleOfX(matrix), sy = scaleOfY(matrix);
+        // the matrix rotated by 90 degrees swaps the radii
+        boolean swap = matrix.getValue(SVGMatrix.MSCALE_X) == 0;
+        return new SVGOval(pts[0], pts[1], (swap ? oval.getRy() : oval.getRx()) * sx,
+                (swap ? oval.getRx() : oval.getRy()) * sy);
+    }
+
+    /**
+     * The scale of x axis of the matrix which keeps rect
+     */
+    private static float scaleOfX(SVGMatrix matrix) {
+        return Math.abs(matrix.getValue(SVGMatrix.MSCALE_X) + matrix.getValue(SVGMatrix.MSKEW_X));
+    }
+
+    /**
+     * The scale of y axis of the matrix which keeps rect
+     */
+    private static float scaleOfY(SVGMatrix matrix) {
+        return Math.abs(matrix.getValue(SVGMatrix.MSCALE_Y) + matrix.getValue(SVGMatrix.MSKEW_Y));
+    }
+}
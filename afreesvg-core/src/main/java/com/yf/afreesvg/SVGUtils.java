@@ -33,12 +33,14 @@
 package com.yf.afreesvg;
 
 
+import com.yf.afreesvg.util.DoubleAppender;
 import com.yf.afreesvg.util.DoubleConverter;
 import com.yf.afreesvg.util.DoubleFunction;
+import com.yf.afreesvg.util.RoundingMode;
 import com.yf.afreesvg.util.RyuDouble;
 
 /**
- * Utility methods related to the {@link SVGCanvas} implementation.
+ * Utility methods related to the {@link SVGBaseCanvas} implementation.
  */
 public class SVGUtils {
 
@@ -59,6 +61,39 @@ public class SVGUtils {
         return RyuDouble.doubleToString(d);
     }
 
+    /**
+     * Appends the string representation of the specified double value,same as
+     * {@link #doubleToString(double)} but not create a String.
+     *
+     * @param sb the builder.
+     * @param d  the value.
+     * @return The builder.
+     * @since 0.0.7
+     */
+    public static StringBuilder appendDouble(StringBuilder sb, double d) {
+        RyuDouble.appendDouble(d, sb);
+        return sb;
+    }
+
+    /**
+     * Appends the value converted by the specified converter.If the converter is a
+     * {@link DoubleAppender},the value is appended directly without an intermediate String.
+     *
+     * @param sb      the builder.
+     * @param d       the value.
+     * @param convert the converter.
+     * @return The builder.
+     * @since 0.0.7
+     */
+    public static StringBuilder appendDouble(StringBuilder sb, double d, DoubleFunction<String> convert) {
+        if (convert instanceof DoubleAppender) {
+            ((DoubleAppender) convert).append(sb, d);
+        } else {
+            sb.append(convert.apply(d));
+        }
+        return sb;
+    }
+
     /**
      * Returns a double-to-string function that limits the output to a
      * specific number of decimal places (in the range 1 to 10).
@@ -71,6 +106,19 @@ public class SVGUtils {
         return new DoubleConverter(dp);
     }
 
+    /**
+     * Returns a double-to-string function that limits the output to a
+     * specific number of decimal places with the rounding mode.
+     *
+     * @param dp           the decimal places (required in the range 1 to 10).
+     * @param roundingMode {@link RoundingMode#ROUND_EVEN} or {@link RoundingMode#HALF_UP}.
+     * @return The converter.
+     * @since 0.0.7
+     */
+    public static DoubleFunction<String> createDoubleConverter(int dp, RoundingMode roundingMode) {
+        return new DoubleConverter(dp, roundingMode);
+    }
+
     /**
      * Returns the SVG RGB color string for the specified color.
      *
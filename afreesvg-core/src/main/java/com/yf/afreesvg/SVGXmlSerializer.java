@@ -0,0 +1,753 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import androidx.annotation.NonNull;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The svg xml serializer
+ * <p>
+ * It writes xml straight to a UTF-8 byte stream or a {@link Writer} with its own buffer and escaping,
+ * so it can serialize a whole dom document or write elements one by one while drawing.
+ * The output format is the same as the indenting identity transformer (javax.xml.transform)
+ * of jdk 9+: four spaces indent, text which is the only child kept inline,
+ * namespace declarations first, "xml:space" respected and the same escaping of
+ * attribute values, text, comments and CDATA sections.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public final class SVGXmlSerializer {
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
+    private static final String XMLNS_PREFIX = "xmlns";
+    private static final String XML_PREFIX = "xml";
+    private static final String XML_NAMESPACE = "http://www.w3.org/XML/1998/namespace";
+    private static final String XML_SPACE = "xml:space";
+    private static final int INDENT_AMOUNT = 4;
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Only one of them is not null,the bytes are UTF-8 encoded by serializer self
+     */
+    private final OutputStream outputStream;
+    private final Writer writer;
+    private final byte[] bytes;
+    private final char[] chars;
+    private int count;
+
+    /**
+     * The doctype to write before the root element,null if it has been written
+     */
+    private String doctypePublic;
+    private String doctypeSystem;
+
+    /**
+     * The depth of current element,the root element is 1
+     */
+    private int depth;
+    private boolean startTagOpen;
+    private boolean startNewLine;
+    private boolean prevText;
+    private boolean cdataOpen;
+
+    /**
+     * Whether current element is in "xml:space='preserve'",then its children are not indented
+     */
+    private boolean preserveSpace;
+    private boolean[] preserveSpaces = new boolean[16];
+
+    /**
+     * The child node count of current element,used to decide indent
+     */
+    private int childNodeNum;
+    private int[] childNodeNums = new int[16];
+    private String[] elementNames = new String[16];
+
+    /**
+     * Text is buffered until next node,because it indent depend on the sibling nodes
+     */
+    private final StringBuilder textBuffer = new StringBuilder();
+
+    /**
+     * In scope namespace declarations, stored as prefix,uri pairs with the depth
+     */
+    private final List<String> namespaces = new ArrayList<>();
+    private final List<Integer> namespaceDepths = new ArrayList<>();
+
+    /**
+     * Construct a serializer write UTF-8 bytes
+     *
+     * @param outputStream The stream which output
+     */
+    public SVGXmlSerializer(@NonNull OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.writer = null;
+        this.bytes = new byte[BUFFER_SIZE];
+        this.chars = null;
+    }
+
+    /**
+     * Construct a serializer write chars
+     *
+     * @param writer The writer which output
+     */
+    public SVGXmlSerializer(@NonNull Writer writer) {
+        this.outputStream = null;
+        this.writer = writer;
+        this.bytes = null;
+        this.chars = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Write the whole document
+     *
+     * @param document The document
+     * @param publicId The doctype public id
+     * @param systemId The doctype system id,if null not write doctype
+     * @throws IOException
+     */
+    public void writeDocument(@NonNull Document document, String publicId, String systemId) throws IOException {
+        startDocument(publicId, systemId);
+        writeChildren(document);
+        endDocument();
+    }
+
+    /**
+     * Write xml declaration,the doctype will be written before the root element
+     *
+     * @param publicId The doctype public id
+     * @param systemId The doctype system id,if null not write doctype
+     * @throws IOException
+     */
+    public void startDocument(String publicId, String systemId) throws IOException {
+        write(XML_DECLARATION);
+        write('\n');
+        doctypePublic = publicId;
+        doctypeSystem = systemId;
+    }
+
+    /**
+     * Finish the document and flush
+     *
+     * @throws IOException
+     */
+    public void endDocument() throws IOException {
+        flushText();
+        if (!prevText) {
+            write('\n');
+        }
+        flush();
+    }
+
+    /**
+     * Write the start tag and attributes of element,not contain the children
+     *
+     * @param element The element
+     * @throws IOException
+     */
+    public void startElement(@NonNull Element element) throws IOException {
+        String name = element.getNodeName();
+        ++childNodeNum;
+        flushText();
+        closeStartTag();
+        if (doctypeSystem != null) {
+            writeDoctype(name);
+        }
+        if (shouldIndent() && startNewLine) {
+            indent(depth);
+        }
+        startNewLine = true;
+        write('<');
+        write(name);
+        ++depth;
+        if (depth >= elementNames.length) {
+            elementNames = grow(elementNames);
+            childNodeNums = grow(childNodeNums);
+            preserveSpaces = grow(preserveSpaces);
+        }
+        elementNames[depth] = name;
+        childNodeNums[depth] = childNodeNum;
+        preserveSpaces[depth] = preserveSpace;
+        childNodeNum = 0;
+        writeAttributes(element);
+        startTagOpen = true;
+        prevText = false;
+    }
+
+    /**
+     * Write the end tag of current element
+     *
+     * @throws IOException
+     */
+    public void endElement() throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("No element to end");
+        }
+        flushText();
+        if (startTagOpen) {
+            write("/>");
+            startTagOpen = false;
+        } else {
+            if (shouldIndent() && (childNodeNum > 1 || !prevText)) {
+                indent(depth - 1);
+            }
+            write("</");
+            write(elementNames[depth]);
+            write('>');
+        }
+        childNodeNum = childNodeNums[depth];
+        preserveSpace = preserveSpaces[depth];
+        elementNames[depth] = null;
+        popNamespaces();
+        --depth;
+        prevText = false;
+    }
+
+    /**
+     * Write text to current element
+     *
+     * @param text The text
+     * @throws IOException
+     */
+    public void text(String text) throws IOException {
+        if (text == null || text.isEmpty()) return;
+        closeStartTag();
+        if (preserveSpace) {
+            writeText(text, 0, text.length());
+            prevText = true;
+        } else {
+            textBuffer.append(text);
+        }
+    }
+
+    /**
+     * Write CDATA section to current element,it is indented same as text
+     *
+     * @param data The CDATA content
+     * @throws IOException
+     */
+    public void cdata(String data) throws IOException {
+        flushText(false);
+        if (data == null || data.isEmpty()) return;
+        closeStartTag();
+        if (shouldIndent() && childNodeNum > 1) {
+            indent(depth);
+        }
+        if (!needCharRef(data.charAt(0)) && !Character.isSurrogate(data.charAt(0))) {
+            openCDATA();
+        }
+        int length = data.length();
+        for (int i = 0; i < length; ++i) {
+            char c = data.charAt(i);
+            if (needCharRef(c)) {
+                closeCDATA();
+                writeCharRef(c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(data.charAt(i + 1))) {
+                write(data, i, i + 2);
+                ++i;
+            } else if (c == ']' && data.startsWith("]]>", i)) {
+                write("]]]]><![CDATA[>");
+                i += 2;
+            } else {
+                openCDATA();
+                write(c);
+            }
+        }
+        closeCDATA();
+        prevText = true;
+    }
+
+    /**
+     * Write comment,it is indented in its own line
+     *
+     * @param comment The comment
+     * @throws IOException
+     */
+    public void comment(String comment) throws IOException {
+        ++childNodeNum;
+        flushText();
+        closeStartTag();
+        if (shouldIndent()) {
+            indent(depth);
+        }
+        write("<!--");
+        if (comment != null) {
+            int length = comment.length();
+            int start = 0;
+            for (int i = 1; i < length; ++i) {
+                if (comment.charAt(i) == '-' && comment.charAt(i - 1) == '-') {
+                    write(comment, start, i);
+                    write(" -");
+                    start = i + 1;
+                }
+            }
+            write(comment, start, length);
+            if (length > 0 && comment.charAt(length - 1) == '-') {
+                write(' ');
+            }
+        }
+        write("-->");
+        startNewLine = true;
+    }
+
+    /**
+     * Write processing instruction,it is indented in its own line
+     *
+     * @param target The target
+     * @param data   The data
+     * @throws IOException
+     */
+    public void processingInstruction(@NonNull String target, String data) throws IOException {
+        ++childNodeNum;
+        flushText();
+        closeStartTag();
+        if (shouldIndent()) {
+            indent(depth);
+        }
+        write("<?");
+        write(target);
+        if (data != null && data.length() > 0) {
+            if (!Character.isSpaceChar(data.charAt(0))) {
+                write(' ');
+            }
+            write(data.replace("?>", "? >"));
+        }
+        write("?>");
+        startNewLine = true;
+    }
+
+    /**
+     * Write element and all it children
+     *
+     * @param element The element
+     * @throws IOException
+     */
+    public void writeElement(@NonNull Element element) throws IOException {
+        startElement(element);
+        writeChildren(element);
+        endElement();
+    }
+
+    /**
+     * Flush the buffer and the stream
+     *
+     * @throws IOException
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        if (outputStream != null) {
+            outputStream.flush();
+        } else {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Return the depth of current element
+     *
+     * @return The depth,0 mean that the root element has not started or has ended
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    private void writeChildren(Node parent) throws IOException {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            switch (child.getNodeType()) {
+                case Node.ELEMENT_NODE:
+                    writeElement((Element) child);
+                    break;
+                case Node.TEXT_NODE:
+                    text(child.getNodeValue());
+                    break;
+                case Node.CDATA_SECTION_NODE:
+                    cdata(child.getNodeValue());
+                    break;
+                case Node.COMMENT_NODE:
+                    comment(child.getNodeValue());
+                    break;
+                case Node.PROCESSING_INSTRUCTION_NODE:
+                    processingInstruction(child.getNodeName(), child.getNodeValue());
+                    break;
+                case Node.ENTITY_REFERENCE_NODE:
+                    writeChildren(child);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * The root level nodes and the nodes in "xml:space='preserve'" are not indented
+     */
+    private boolean shouldIndent() {
+        return depth > 0 && !preserveSpace;
+    }
+
+    private void indent(int depth) throws IOException {
+        if (startNewLine) {
+            write('\n');
+        }
+        for (int i = depth * INDENT_AMOUNT; i > 0; --i) {
+            write(' ');
+        }
+    }
+
+    private void closeStartTag() throws IOException {
+        if (startTagOpen) {
+            write('>');
+            startTagOpen = false;
+            prevText = false;
+        }
+    }
+
+    private void openCDATA() throws IOException {
+        if (!cdataOpen) {
+            write("<![CDATA[");
+            cdataOpen = true;
+        }
+    }
+
+    private void closeCDATA() throws IOException {
+        if (cdataOpen) {
+            write("]]>");
+            cdataOpen = false;
+        }
+    }
+
+    /**
+     * The control chars can not be in CDATA section,they are written as character reference
+     */
+    private static boolean needCharRef(char c) {
+        return c < 0x20 && c != '\t' && c != '\n' && c != '\r';
+    }
+
+    private void flushText() throws IOException {
+        flushText(true);
+    }
+
+    /**
+     * Write the buffered text,it is indented when it is not the only child
+     *
+     * @param countNode false if the text is followed by CDATA,then they are counted as one node
+     */
+    private void flushText(boolean countNode) throws IOException {
+        int length = textBuffer.length();
+        if (length == 0) return;
+        if (countNode) {
+            ++childNodeNum;
+        }
+        int start = 0;
+        if (shouldIndent() && childNodeNum > 1) {
+            indent(depth);
+            startNewLine = true;
+            while (start < length && textBuffer.charAt(start) == '\n') {
+                ++start;
+            }
+        }
+        if (start < length) {
+            writeText(textBuffer, start, length);
+            prevText = true;
+        }
+        textBuffer.setLength(0);
+    }
+
+    private void writeDoctype(String name) throws IOException {
+        write("<!DOCTYPE ");
+        write(name);
+        if (doctypePublic != null) {
+            write(" PUBLIC \"");
+            write(doctypePublic);
+            write("\" \"");
+        } else {
+            write(" SYSTEM \"");
+        }
+        write(doctypeSystem);
+        write("\">");
+        write('\n');
+        doctypePublic = null;
+        doctypeSystem = null;
+    }
+
+    /**
+     * Write attributes,namespace declarations are written first and
+     * the declarations which are already in scope are omitted
+     */
+    private void writeAttributes(Element element) throws IOException {
+        NamedNodeMap attributes = element.getAttributes();
+        int length = attributes.getLength();
+        for (int i = 0; i < length; ++i) {
+            Node attr = attributes.item(i);
+            String name = attr.getNodeName();
+            if (name.startsWith(XMLNS_PREFIX)) {
+                int colon = name.lastIndexOf(':');
+                String prefix = colon > 0 ? name.substring(colon + 1) : "";
+                String uri = attr.getNodeValue();
+                if (pushNamespace(prefix, uri)) {
+                    writeAttribute(prefix.isEmpty() ? XMLNS_PREFIX : XMLNS_PREFIX + ":" + prefix, uri);
+                }
+            }
+        }
+        for (int i = 0; i < length; ++i) {
+            Node attr = attributes.item(i);
+            String name = attr.getNodeName();
+            if (!name.startsWith(XMLNS_PREFIX)) {
+                String value = attr.getNodeValue();
+                if (name.equals(XML_SPACE)) {
+                    if (value.equals("preserve")) preserveSpace = true;
+                    else if (value.equals("default")) preserveSpace = false;
+                }
+                writeAttribute(name, value);
+            }
+        }
+    }
+
+    private void writeAttribute(String name, String value) throws IOException {
+        write(' ');
+        write(name);
+        write("=\"");
+        writeAttributeValue(value);
+        write('"');
+    }
+
+    /**
+     * Push the namespace declaration of the element which depth is {@link #depth}
+     *
+     * @return false if the same declaration is already in scope or it undeclares a prefix
+     */
+    private boolean pushNamespace(String prefix, String uri) {
+        if (!prefix.isEmpty() && uri.isEmpty()) return false;
+        String scopeUri = null;
+        for (int i = namespaces.size() - 2; i >= 0; i -= 2) {
+            if (namespaces.get(i).equals(prefix)) {
+                scopeUri = namespaces.get(i + 1);
+                break;
+            }
+        }
+        if (scopeUri == null) {
+            if (prefix.isEmpty()) scopeUri = "";
+            else if (prefix.equals(XML_PREFIX)) scopeUri = XML_NAMESPACE;
+        }
+        if (uri.equals(scopeUri)) return false;
+        namespaces.add(prefix);
+        namespaces.add(uri);
+        namespaceDepths.add(depth);
+        return true;
+    }
+
+    private void popNamespaces() {
+        int last = namespaceDepths.size() - 1;
+        while (last >= 0 && namespaceDepths.get(last) == depth) {
+            namespaceDepths.remove(last);
+            namespaces.remove(namespaces.size() - 1);
+            namespaces.remove(namespaces.size() - 1);
+            --last;
+        }
+    }
+
+    private void writeAttributeValue(String value) throws IOException {
+        int length = value.length();
+        int clean = 0;
+        for (int i = 0; i < length; ++i) {
+            char c = value.charAt(i);
+            String replace;
+            switch (c) {
+                case '&':
+                    replace = "&amp;";
+                    break;
+                case '<':
+                    replace = "&lt;";
+                    break;
+                case '>':
+                    replace = "&gt;";
+                    break;
+                case '"':
+                    replace = "&quot;";
+                    break;
+                default:
+                    if (c >= 0x20 && !Character.isSurrogate(c)) continue;
+                    replace = null;
+                    break;
+            }
+            write(value, clean, i);
+            if (replace != null) {
+                write(replace);
+            } else {
+                i = writeCharRef(value, i, length);
+            }
+            clean = i + 1;
+        }
+        write(value, clean, length);
+    }
+
+    private void writeText(CharSequence text, int start, int end) throws IOException {
+        int clean = start;
+        for (int i = start; i < end; ++i) {
+            char c = text.charAt(i);
+            String replace;
+            switch (c) {
+                case '&':
+                    replace = "&amp;";
+                    break;
+                case '<':
+                    replace = "&lt;";
+                    break;
+                case '>':
+                    replace = "&gt;";
+                    break;
+                case '\n':
+                case '\t':
+                    continue;
+                default:
+                    if (c >= 0x20 && (c < 0x7f || c > 0x9f) && !Character.isSurrogate(c)) continue;
+                    replace = null;
+                    break;
+            }
+            write(text, clean, i);
+            if (replace != null) {
+                write(replace);
+            } else {
+                i = writeCharRef(text, i, end);
+            }
+            clean = i + 1;
+        }
+        write(text, clean, end);
+    }
+
+    /**
+     * Write the char at index as a character reference
+     *
+     * @return The index of the last char written,a surrogate pair take two chars
+     */
+    private int writeCharRef(CharSequence text, int index, int end) throws IOException {
+        char c = text.charAt(index);
+        if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(text.charAt(index + 1))) {
+            writeCharRef(Character.toCodePoint(c, text.charAt(index + 1)));
+            return index + 1;
+        }
+        writeCharRef(c);
+        return index;
+    }
+
+    private void writeCharRef(int codePoint) throws IOException {
+        write("&#");
+        write(Integer.toString(codePoint));
+        write(';');
+    }
+
+    private void write(char c) throws IOException {
+        if (bytes != null) {
+            if (c < 0x80) {
+                if (count == bytes.length) flushBuffer();
+                bytes[count++] = (byte) c;
+            } else {
+                writeUTF8(c);
+            }
+        } else {
+            if (count == chars.length) flushBuffer();
+            chars[count++] = c;
+        }
+    }
+
+    private void write(String s) throws IOException {
+        write(s, 0, s.length());
+    }
+
+    private void write(CharSequence s, int start, int end) throws IOException {
+        if (bytes != null) {
+            for (int i = start; i < end; ++i) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    if (count == bytes.length) flushBuffer();
+                    bytes[count++] = (byte) c;
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    writeUTF8(Character.toCodePoint(c, s.charAt(++i)));
+                } else {
+                    writeUTF8(c);
+                }
+            }
+        } else {
+            for (int i = start; i < end; ++i) {
+                if (count == chars.length) flushBuffer();
+                chars[count++] = s.charAt(i);
+            }
+        }
+    }
+
+    /**
+     * Encode a code point which is not ascii,a lone surrogate is written as '?'
+     */
+    private void writeUTF8(int codePoint) throws IOException {
+        if (count + 4 > bytes.length) flushBuffer();
+        if (codePoint < 0x800) {
+            bytes[count++] = (byte) (0xc0 | (codePoint >> 6));
+            bytes[count++] = (byte) (0x80 | (codePoint & 0x3f));
+        } else if (codePoint < 0x10000) {
+            if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                bytes[count++] = '?';
+                return;
+            }
+            bytes[count++] = (byte) (0xe0 | (codePoint >> 12));
+            bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+            bytes[count++] = (byte) (0x80 | (codePoint & 0x3f));
+        } else {
+            bytes[count++] = (byte) (0xf0 | (codePoint >> 18));
+            bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+            bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+            bytes[count++] = (byte) (0x80 | (codePoint & 0x3f));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count == 0) return;
+        if (bytes != null) {
+            outputStream.write(bytes, 0, count);
+        } else {
+            writer.write(chars, 0, count);
+        }
+        count = 0;
+    }
+
+    private static String[] grow(String[] array) {
+        String[] result = new String[array.length * 2];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    private static int[] grow(int[] array) {
+        int[] result = new int[array.length * 2];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    private static boolean[] grow(boolean[] array) {
+        boolean[] result = new boolean[array.length * 2];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+}
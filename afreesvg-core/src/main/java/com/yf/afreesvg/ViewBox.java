@@ -73,10 +73,12 @@ public class ViewBox {
      * @return A string containing the view box coordinates and dimensions. 
      */
     public String valueStr(DoubleFunction<String> df) {
-        return new StringBuilder().append(df.apply(this.minX)).append(' ')
-                .append(df.apply(this.minY)).append(' ')
-                .append(df.apply(this.width)).append(' ')
-                .append(df.apply(this.height)).toString();
+        StringBuilder sb = new StringBuilder();
+        SVGUtils.appendDouble(sb, this.minX, df).append(' ');
+        SVGUtils.appendDouble(sb, this.minY, df).append(' ');
+        SVGUtils.appendDouble(sb, this.width, df).append(' ');
+        SVGUtils.appendDouble(sb, this.height, df);
+        return sb.toString();
     }
             
 }
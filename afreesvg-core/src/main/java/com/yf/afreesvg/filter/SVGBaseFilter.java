@@ -14,7 +14,7 @@
 package com.yf.afreesvg.filter;
 
 import com.yf.afreesvg.ConvertToSVGElement;
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.PosMode;
 import com.yf.afreesvg.SVGUtils;
 import com.yf.afreesvg.util.DoubleFunction;
@@ -28,7 +28,7 @@ import java.util.Objects;
 
 /**
  * Filter base class
- * Add filter to element,It used by {@link com.yf.afreesvg.SVGPaint#setFilter(SVGFilter)}
+ * Add filter to element,It used by {@link com.yf.afreesvg.SVGPaintAttrs#getFilter()}
  * It needs to be combined with {@link SVGBaseFilterEffect} to generate a filter
  *
  * @author iffly
@@ -193,7 +193,7 @@ public abstract class SVGBaseFilter implements SVGFilter {
     }
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("filter");
         element.setAttribute("x", convert.apply(x));
         element.setAttribute("y", convert.apply(y));
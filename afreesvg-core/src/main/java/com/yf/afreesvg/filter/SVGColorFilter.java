@@ -15,7 +15,8 @@ package com.yf.afreesvg.filter;
 
 import androidx.annotation.StringDef;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGUtils;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -138,12 +139,12 @@ public class SVGColorFilter extends SVGBaseFilter {
         private String getValue(DoubleFunction<String> convert) {
             StringBuilder stringBuilder = new StringBuilder();
             for (float f : colorMatrix)
-                stringBuilder.append(convert.apply(f)).append(" ");
+                SVGUtils.appendDouble(stringBuilder, f, convert).append(' ');
             return stringBuilder.toString();
         }
 
         @Override
-        public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+        public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
             Element element = document.createElement("feColorMatrix");
             addBaseAttr(element);
             element.setAttribute("value", getValue(convert));
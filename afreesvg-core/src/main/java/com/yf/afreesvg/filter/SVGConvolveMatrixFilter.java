@@ -15,7 +15,8 @@ package com.yf.afreesvg.filter;
 
 import androidx.annotation.StringDef;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGUtils;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -359,13 +360,13 @@ public class SVGConvolveMatrixFilter extends SVGBaseFilter {
         protected String getMatrixValueStr(DoubleFunction<String> convert) {
             StringBuilder sb = new StringBuilder();
             for (float f : kernelMatrix) {
-                sb.append(convert.apply(f)).append(" ");
+                SVGUtils.appendDouble(sb, f, convert).append(' ');
             }
             return sb.toString();
         }
 
         @Override
-        public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+        public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
             Element element = document.createElement("feConvolveMatrix");
             if (order != 3)
                 element.setAttribute("order", "" + order);
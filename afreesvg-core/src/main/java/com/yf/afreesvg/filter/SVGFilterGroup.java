@@ -15,7 +15,7 @@ package com.yf.afreesvg.filter;
 
 import androidx.annotation.StringDef;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -157,7 +157,7 @@ public class SVGFilterGroup extends SVGBaseFilter {
         }
 
         @Override
-        public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+        public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
             Element element = document.createElement("feBlend");
             addBaseAttr(element);
             element.setAttribute("in2", in2);
@@ -229,7 +229,7 @@ public class SVGFilterGroup extends SVGBaseFilter {
         }
 
         @Override
-        public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+        public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
             Element element = document.createElement("feMerge");
             addBaseAttr(element);
             for (String in : inList) {
@@ -239,6 +239,20 @@ public class SVGFilterGroup extends SVGBaseFilter {
             }
             return element;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            if (!super.equals(o)) return false;
+            SVGMergeFilterEffect that = (SVGMergeFilterEffect) o;
+            return inList.equals(that.inList);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), inList);
+        }
     }
 
     /**
@@ -446,7 +460,7 @@ public class SVGFilterGroup extends SVGBaseFilter {
         }
 
         @Override
-        public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+        public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
             Element element = document.createElement("feComposite");
             addBaseAttr(element);
             element.setAttribute("in2", in2);
@@ -459,6 +473,25 @@ public class SVGFilterGroup extends SVGBaseFilter {
             }
             return element;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            if (!super.equals(o)) return false;
+            SVGCompositeFilterEffect that = (SVGCompositeFilterEffect) o;
+            return Float.compare(that.k1, k1) == 0 &&
+                    Float.compare(that.k2, k2) == 0 &&
+                    Float.compare(that.k3, k3) == 0 &&
+                    Float.compare(that.k4, k4) == 0 &&
+                    Objects.equals(in2, that.in2) &&
+                    Objects.equals(operate, that.operate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), in2, operate, k1, k2, k3, k4);
+        }
     }
 
 
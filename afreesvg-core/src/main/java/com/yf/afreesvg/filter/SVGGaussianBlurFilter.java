@@ -13,7 +13,8 @@
 
 package com.yf.afreesvg.filter;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGUtils;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -112,9 +113,12 @@ public class SVGGaussianBlurFilter extends SVGBaseFilter {
 
 
         @Override
-        public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+        public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
             Element element = document.createElement("feGaussianBlur");
-            element.setAttribute("stdDeviation", convert.apply(stdDeviationX) + "," + convert.apply(stdDeviationY));
+            StringBuilder sb = new StringBuilder();
+            SVGUtils.appendDouble(sb, stdDeviationX, convert).append(',');
+            SVGUtils.appendDouble(sb, stdDeviationY, convert);
+            element.setAttribute("stdDeviation", sb.toString());
             addBaseAttr(element);
             return element;
         }
@@ -13,7 +13,7 @@
 
 package com.yf.afreesvg.filter;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -105,7 +105,7 @@ public class SVGOffsetFilter extends SVGBaseFilter {
         }
 
         @Override
-        public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+        public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
             Element element = document.createElement("feOffset");
             addBaseAttr(element);
             element.setAttribute("dx", convert.apply(dx));
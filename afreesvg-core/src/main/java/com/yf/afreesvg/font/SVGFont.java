@@ -18,11 +18,12 @@ import androidx.annotation.StringDef;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Objects;
 
 /**
  * Font info class
  * When drawText,use it set font info.
- * It used by {@link com.yf.afreesvg.SVGPaint#setFont(SVGFont)}
+ * It used by {@link com.yf.afreesvg.SVGPaintAttrs#getFont()}
  *
  * @author iffly
  * @since 0.0.1
@@ -141,6 +142,23 @@ public class SVGFont {
         return fontVariant;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGFont svgFont = (SVGFont) o;
+        return fontSize == svgFont.fontSize &&
+                fontFamily.equals(svgFont.fontFamily) &&
+                fontWeight.equals(svgFont.fontWeight) &&
+                Objects.equals(fontStyle, svgFont.fontStyle) &&
+                Objects.equals(fontVariant, svgFont.fontVariant);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fontFamily, fontSize, fontWeight, fontStyle, fontVariant);
+    }
+
     /**
      * Font builder
      * Use it to create font
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.gradient;
+
+import com.yf.afreesvg.PosMode;
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.util.DoubleFunction;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.util.Objects;
+
+/**
+ * LinearGradient of float coordinates
+ * <p>
+ * The android SVGLinearGradient extends it and keeps the PointF api.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public class SVGBaseLinearGradient extends SVGBaseGradient {
+    /**
+     * startX
+     */
+    private float x1;
+    /**
+     * startY
+     */
+    private float y1;
+    /**
+     * endX
+     */
+    private float x2;
+    /**
+     * endY
+     */
+    private float y2;
+
+    public SVGBaseLinearGradient() {
+    }
+
+    public SVGBaseLinearGradient(float x1, float y1, float x2, float y2, @PosMode String posMode) {
+        super(posMode);
+        this.x1 = x1;
+        this.y1 = y1;
+        this.x2 = x2;
+        this.y2 = y2;
+    }
+
+    public SVGBaseLinearGradient(float x1, float y1, float x2, float y2) {
+        this(x1, y1, x2, y2, PosMode.MODE_BOX);
+    }
+
+    /**
+     * Get startX
+     *
+     * @return
+     */
+    public float getX1() {
+        return x1;
+    }
+
+    /**
+     * Set startX
+     *
+     * @param x1
+     */
+    public void setX1(float x1) {
+        this.x1 = x1;
+    }
+
+    /**
+     * Get startY
+     *
+     * @return
+     */
+    public float getY1() {
+        return y1;
+    }
+
+    /**
+     * Set startY
+     *
+     * @param y1
+     */
+    public void setY1(float y1) {
+        this.y1 = y1;
+    }
+
+    /**
+     * Get endX
+     *
+     * @return
+     */
+    public float getX2() {
+        return x2;
+    }
+
+    /**
+     * Set endX
+     *
+     * @param x2
+     */
+    public void setX2(float x2) {
+        this.x2 = x2;
+    }
+
+    /**
+     * Get endY
+     *
+     * @return
+     */
+    public float getY2() {
+        return y2;
+    }
+
+    /**
+     * Set endY
+     *
+     * @param y2
+     */
+    public void setY2(float y2) {
+        this.y2 = y2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGBaseLinearGradient that = (SVGBaseLinearGradient) o;
+        return super.equals(that) &&
+                Float.compare(that.getX1(), getX1()) == 0 &&
+                Float.compare(that.getY1(), getY1()) == 0 &&
+                Float.compare(that.getX2(), getX2()) == 0 &&
+                Float.compare(that.getY2(), getY2()) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), getX1(), getY1(), getX2(), getY2());
+    }
+
+    @Override
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
+        Element element = document.createElement("linearGradient");
+
+        element.setAttribute("x1", convert.apply(getX1()));
+        element.setAttribute("y1", convert.apply(getY1()));
+        element.setAttribute("x2", convert.apply(getX2()));
+        element.setAttribute("y2", convert.apply(getY2()));
+        initBaseGradientAttr(element, document, convert);
+        return element;
+    }
+}
@@ -13,7 +13,7 @@
 
 package com.yf.afreesvg.gradient;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.PosMode;
 import com.yf.afreesvg.util.DoubleFunction;
 
@@ -213,7 +213,7 @@ public class SVGRadialGradient extends SVGBaseGradient {
     }
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("radialGradient");
 
         element.setAttribute("cx", convert.apply(getCx()));
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.shape;
+
+import androidx.annotation.NonNull;
+
+import com.yf.afreesvg.SVGPaintAttrs;
+
+import org.w3c.dom.Element;
+
+/**
+ * The Base shape class
+ *
+ * @author iffly
+ * @since 0.0.1
+ */
+public abstract class SVGBaseShape implements SVGShape {
+    //only  use in clipPath
+    private @SVGPaintAttrs.FillRule
+    String clipRule = SVGPaintAttrs.FillRule.FILL_RULE_DEFAULT;
+    /**
+     * The frozen shape can not be changed,it is shared by reference
+     */
+    private boolean frozen;
+
+    /**
+     * The clipPath fill rule
+     *
+     * @return fill rule {@link SVGPaintAttrs.FillRule#FILL_RULE_EVENODD} {@link SVGPaintAttrs.FillRule#FILL_RULE_DEFAULT}
+     */
+    public @SVGPaintAttrs.FillRule
+    String getClipRule() {
+        return clipRule;
+    }
+
+    /**
+     * Set clipPath full rule
+     *
+     * @param clipRule
+     */
+    public void setClipRule(@SVGPaintAttrs.FillRule String clipRule) {
+        checkNotFrozen();
+        this.clipRule = clipRule;
+    }
+
+    /**
+     * Make the shape immutable,the setters throw {@link IllegalStateException} after it
+     * <p>
+     * It is called when the shape is used by {@link SVGClipShape#freeze()},
+     * use {@link #clone()} to get a mutable copy.
+     * </p>
+     *
+     * @since 0.0.7
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Whether the shape is frozen
+     *
+     * @return true if frozen
+     * @since 0.0.7
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Throw {@link IllegalStateException} if the shape is frozen,subclass calls it before change
+     *
+     * @since 0.0.7
+     */
+    protected void checkNotFrozen() {
+        if (frozen)
+            throw new IllegalStateException("The shape is frozen,clone it to change");
+    }
+
+    /**
+     * Copy the attrs of this base shape to the clone,so the clone of a clip shape keeps its clip rule
+     *
+     * @param clone The clone
+     * @return The clone
+     * @since 0.0.7
+     */
+    protected SVGBaseShape copyBaseAttr(SVGBaseShape clone) {
+        clone.clipRule = clipRule;
+        return clone;
+    }
+
+    protected void addBaseAttr(Element element) {
+        if (clipRule.equals(SVGPaintAttrs.FillRule.FILL_RULE_EVENODD))
+            element.setAttribute("clip-rule", clipRule);
+    }
+
+
+    @NonNull
+    @Override
+    abstract public Object clone();
+
+}
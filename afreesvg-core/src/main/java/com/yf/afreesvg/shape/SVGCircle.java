@@ -15,12 +15,14 @@ package com.yf.afreesvg.shape;
 
 import androidx.annotation.NonNull;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+import java.util.Objects;
+
 /**
  * The circle shape
  *
@@ -79,7 +81,7 @@ public class SVGCircle extends SVGBaseShape {
 
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("circle");
         element.setAttribute("cx", convert.apply(cx));
         element.setAttribute("cy", convert.apply(cy));
@@ -88,9 +90,34 @@ public class SVGCircle extends SVGBaseShape {
         return element;
     }
 
+    @Override
+    public boolean computeBounds(float[] bounds) {
+        float radius = Math.abs(r);
+        bounds[0] = cx - radius;
+        bounds[1] = cy - radius;
+        bounds[2] = cx + radius;
+        bounds[3] = cy + radius;
+        return true;
+    }
+
     @NonNull
     @Override
     public Object clone() {
-        return new SVGCircle(cx, cy, r);
+        return copyBaseAttr(new SVGCircle(cx, cy, r));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGCircle circle = (SVGCircle) o;
+        return Float.compare(circle.cx, cx) == 0 &&
+                Float.compare(circle.cy, cy) == 0 &&
+                Float.compare(circle.r, r) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cx, cy, r);
     }
 }
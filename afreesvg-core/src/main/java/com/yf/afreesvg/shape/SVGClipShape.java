@@ -17,7 +17,7 @@ import androidx.annotation.NonNull;
 
 import com.yf.afreesvg.ConvertToSVGElement;
 import com.yf.afreesvg.PosMode;
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -27,7 +27,7 @@ import org.w3c.dom.NodeList;
 
 /**
  * The ClipShape
- * It used by {@link SVGCanvas#clip(SVGClipShape)}
+ * It used by {@link SVGBaseCanvas#clip(SVGClipShape)}
  * when set clipShape,it will only draw into the clip shape.
  *
  * @author iffly
@@ -47,12 +47,21 @@ public class SVGClipShape implements ConvertToSVGElement, Cloneable {
      */
     private @PosMode
     String posMode = PosMode.MODE_USERSPACE;
+    /**
+     * The frozen clip shape can not be changed,the canvas shares it by reference
+     */
+    private boolean frozen;
 
     public SVGClipShape(SVGShape shape, @PosMode String posMode) {
         this.shape = shape;
         this.posMode = posMode;
     }
 
+    /**
+     * Create a mutable copy of the clip shape,the shape is cloned
+     *
+     * @param clipShape The clip shape to copy
+     */
     public SVGClipShape(SVGClipShape clipShape) {
         this.shape = (SVGShape) clipShape.shape.clone();
         this.posMode = clipShape.posMode;
@@ -75,6 +84,7 @@ public class SVGClipShape implements ConvertToSVGElement, Cloneable {
      * @since 0.0.1
      */
     public void setShape(SVGShape shape) {
+        checkNotFrozen();
         this.shape = shape;
     }
 
@@ -96,11 +106,50 @@ public class SVGClipShape implements ConvertToSVGElement, Cloneable {
      * @since 0.0.1
      */
     public void setPosMode(@PosMode String posMode) {
+        checkNotFrozen();
         this.posMode = posMode;
     }
 
+    /**
+     * Make the clip shape and its shape immutable,so it can be shared without copy
+     * <p>
+     * {@link SVGBaseCanvas#clip(SVGClipShape)} calls it,the setters throw {@link IllegalStateException} after it,
+     * use {@link #SVGClipShape(SVGClipShape)} to get a mutable copy.
+     * The shape which can not be frozen is copied once here.
+     * </p>
+     *
+     * @since 0.0.7
+     */
+    public void freeze() {
+        if (frozen)
+            return;
+        frozen = true;
+        if (shape instanceof SVGBaseShape) {
+            ((SVGBaseShape) shape).freeze();
+        } else if (shape instanceof SVGShapeGroup) {
+            ((SVGShapeGroup) shape).freeze();
+        } else if (shape != null) {
+            shape = (SVGShape) shape.clone();
+        }
+    }
+
+    /**
+     * Whether the clip shape is frozen
+     *
+     * @return true if frozen
+     * @since 0.0.7
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen)
+            throw new IllegalStateException("The clip shape is frozen,copy it to change");
+    }
+
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("clipPath");
         element.setAttribute("clipPathUnits", posMode);
         if (shape instanceof SVGShapeGroup) {
@@ -123,6 +172,23 @@ public class SVGClipShape implements ConvertToSVGElement, Cloneable {
         return element;
     }
 
+    /**
+     * Compute the bounds of the clip area in the user space of the clipped element
+     * <p>
+     * It is unknown when the pos mode is {@link PosMode#MODE_BOX},the area is relative to the element bounds.
+     * </p>
+     *
+     * @param bounds The array to write left,top,right,bottom
+     * @return true if the bounds is computed
+     * @see SVGShape#computeBounds(float[])
+     * @since 0.0.7
+     */
+    public boolean computeBounds(float[] bounds) {
+        if (shape == null || PosMode.MODE_BOX.equals(posMode))
+            return false;
+        return shape.computeBounds(bounds);
+    }
+
     @NonNull
     public Object clone() {
         return new SVGClipShape(this);
@@ -15,7 +15,7 @@ package com.yf.afreesvg.shape;
 
 import androidx.annotation.NonNull;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -91,7 +91,7 @@ public class SVGLine extends SVGBaseShape {
     }
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("line");
         element.setAttribute("x1", convert.apply(x1));
         element.setAttribute("y1", convert.apply(y1));
@@ -101,10 +101,19 @@ public class SVGLine extends SVGBaseShape {
         return element;
     }
 
+    @Override
+    public boolean computeBounds(float[] bounds) {
+        bounds[0] = Math.min(x1, x2);
+        bounds[1] = Math.min(y1, y2);
+        bounds[2] = Math.max(x1, x2);
+        bounds[3] = Math.max(y1, y2);
+        return true;
+    }
+
     @NonNull
     @Override
     public Object clone() {
-        return new SVGLine(x1, y1, x2, y2);
+        return copyBaseAttr(new SVGLine(x1, y1, x2, y2));
     }
 
     @Override
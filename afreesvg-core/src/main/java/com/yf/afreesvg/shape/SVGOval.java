@@ -15,7 +15,7 @@ package com.yf.afreesvg.shape;
 
 import androidx.annotation.NonNull;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -91,7 +91,7 @@ public class SVGOval extends SVGBaseShape {
     }
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("ellipse");
         element.setAttribute("cx", convert.apply(cx));
         element.setAttribute("cy", convert.apply(cy));
@@ -101,10 +101,19 @@ public class SVGOval extends SVGBaseShape {
         return element;
     }
 
+    @Override
+    public boolean computeBounds(float[] bounds) {
+        bounds[0] = cx - Math.abs(rx);
+        bounds[1] = cy - Math.abs(ry);
+        bounds[2] = cx + Math.abs(rx);
+        bounds[3] = cy + Math.abs(ry);
+        return true;
+    }
+
     @NonNull
     @Override
     public Object clone() {
-        return new SVGOval(cx, cy, rx, ry);
+        return copyBaseAttr(new SVGOval(cx, cy, rx, ry));
     }
 
     @Override
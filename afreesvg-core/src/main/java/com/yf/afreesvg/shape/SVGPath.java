@@ -0,0 +1,1102 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.shape;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.StringDef;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGMatrix;
+import com.yf.afreesvg.SVGUtils;
+import com.yf.afreesvg.util.DoubleFunction;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The general path shape
+ * It use some command line to generate path
+ * Here is the command
+ * <pre>
+ * M = moveto
+ * L = lineto
+ * H = horizontal lineto
+ * V = vertical lineto
+ * C = curveto
+ * S = smooth curveto
+ * Q = quadratic Belzier curve
+ * T = smooth quadratic Belzier curveto
+ * A = elliptical Arc
+ * Z = closepath
+ * </pre>
+ * It will generate svg element like this
+ * <pre>
+ * <path d="M10 10 H 90 V 90 H 10 Z" />
+ * </pre>
+ * if you want to know about the SVG path command,plz refer to http://www.verydoc.net/svg/00007415.html
+ *
+ * @author iffly
+ * @since 0.0.1
+ */
+public class SVGPath extends SVGBaseShape {
+    @Override
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
+        Element element = document.createElement("path");
+        element.setAttribute("d", getSVGPathD(convert));
+        addBaseAttr(element);
+        return element;
+    }
+
+    /**
+     * Convert to path element,the short segments are collapsed
+     * <p>
+     * The lines and curves which end and control points are in the tolerance of the last written point
+     * are not written,the following point out of the tolerance is connected by one line,so the path
+     * moves less than the tolerance.The move,arc,close and the curve before smooth curve are always written.
+     * It is used by {@link SVGBaseCanvas#setLevelOfDetail(float)}.
+     * </p>
+     *
+     * @param canvas    The canvas
+     * @param document  The document
+     * @param convert   The double convert
+     * @param tolerance The tolerance in path coordinates,not more than 0 means write all segments
+     * @return The path element
+     * @since 0.0.7
+     */
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert, float tolerance) {
+        if (tolerance <= 0)
+            return convertToSVGElement(canvas, document, convert);
+        Element element = document.createElement("path");
+        element.setAttribute("d", getSVGPathD(convert, tolerance));
+        addBaseAttr(element);
+        return element;
+    }
+
+    /**
+     * Get path command string
+     * It walks the packed commands,not create {@link SVGPathElement}
+     *
+     * @param convert The double convert
+     * @return The path command string
+     * @since 0.0.1
+     */
+    private String getSVGPathD(DoubleFunction<String> convert) {
+        StringBuilder sb = new StringBuilder(coordCount * 8 + opCount * 2);
+        int coordIndex = 0;
+        for (int i = 0; i < opCount; ++i) {
+            appendOp(sb, i, coordIndex, convert);
+            coordIndex += OP_COORD_COUNTS[ops[i] & ~RELATIVE_FLAG];
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Append the command of index and its coordinates
+     */
+    private void appendOp(StringBuilder sb, int index, int coordIndex, DoubleFunction<String> convert) {
+        int op = ops[index] & ~RELATIVE_FLAG;
+        char type = OP_TYPES[op].charAt(0);
+        sb.append((ops[index] & RELATIVE_FLAG) != 0 ? Character.toLowerCase(type) : type).append(' ');
+        int count = OP_COORD_COUNTS[op];
+        if (op != OP_ARC) {
+            for (int j = 0; j < count; ++j)
+                SVGUtils.appendDouble(sb, coords[coordIndex + j], convert).append(' ');
+        } else {
+            for (int j = 0; j < count; ++j) {
+                if (j == 3 || j == 4) {
+                    sb.append((int) coords[coordIndex + j]).append(' ');
+                } else
+                    sb.append(coords[coordIndex + j]).append(' ');
+            }
+        }
+    }
+
+    /**
+     * Get path command string and collapse the segments shorter than tolerance
+     *
+     * @param convert   The double convert
+     * @param tolerance The tolerance
+     * @return The path command string
+     * @see #convertToSVGElement(SVGBaseCanvas, Document, DoubleFunction, float)
+     */
+    private String getSVGPathD(DoubleFunction<String> convert, float tolerance) {
+        StringBuilder sb = new StringBuilder(coordCount * 8 + opCount * 2);
+        // the current point,the last written point and the sub path start
+        float curX = 0, curY = 0, lastX = 0, lastY = 0, startX = 0, startY = 0;
+        boolean pending = false;
+        int coordIndex = 0;
+        for (int i = 0; i < opCount; ++i) {
+            int op = ops[i] & ~RELATIVE_FLAG;
+            int count = OP_COORD_COUNTS[op];
+            float baseX = 0, baseY = 0;
+            if ((ops[i] & RELATIVE_FLAG) != 0 && i > 0) {
+                baseX = curX;
+                baseY = curY;
+            }
+            float endX = curX, endY = curY;
+            if (op == OP_HORIZONTAL_LINE) {
+                endX = baseX + coords[coordIndex];
+            } else if (op == OP_VERTICAL_LINE) {
+                endY = baseY + coords[coordIndex];
+            } else if (op == OP_CLOSE) {
+                endX = startX;
+                endY = startY;
+            } else if (count > 0) {
+                endX = baseX + coords[coordIndex + count - 2];
+                endY = baseY + coords[coordIndex + count - 1];
+            }
+            boolean collapsible = op == OP_LINE || op == OP_HORIZONTAL_LINE || op == OP_VERTICAL_LINE
+                    || ((op == OP_CURVE || op == OP_QUADRATIC) && !isSmoothNext(i));
+            if (collapsible) {
+                boolean near = true;
+                for (int j = 0; j < count - 1 && near; j += 2)
+                    near = isNear(baseX + coords[coordIndex + j], baseY + coords[coordIndex + j + 1], lastX, lastY, tolerance);
+                if (near && isNear(endX, endY, lastX, lastY, tolerance)) {
+                    pending = true;
+                    curX = endX;
+                    curY = endY;
+                    coordIndex += count;
+                    continue;
+                }
+            }
+            if (pending && (op == OP_LINE || op == OP_HORIZONTAL_LINE || op == OP_VERTICAL_LINE)) {
+                // the line from the last written point replaces the collapsed segments
+                boolean relative = (ops[i] & RELATIVE_FLAG) != 0;
+                SVGUtils.appendDouble(sb.append(relative ? "l " : "L "), relative ? endX - lastX : endX, convert).append(' ');
+                SVGUtils.appendDouble(sb, relative ? endY - lastY : endY, convert).append(' ');
+            } else {
+                if (pending) {
+                    // connect the collapsed segments by one line,so the relative commands after are same
+                    SVGUtils.appendDouble(sb.append("L "), curX, convert).append(' ');
+                    SVGUtils.appendDouble(sb, curY, convert).append(' ');
+                }
+                appendOp(sb, i, coordIndex, convert);
+            }
+            pending = false;
+            curX = lastX = endX;
+            curY = lastY = endY;
+            if (op == OP_MOVE) {
+                startX = endX;
+                startY = endY;
+            }
+            coordIndex += count;
+        }
+        if (pending) {
+            SVGUtils.appendDouble(sb.append("L "), curX, convert).append(' ');
+            SVGUtils.appendDouble(sb, curY, convert).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private boolean isSmoothNext(int index) {
+        if (index + 1 >= opCount) return false;
+        int next = ops[index + 1] & ~RELATIVE_FLAG;
+        return next == OP_SMOOTH_CURVE || next == OP_SMOOTH_QUADRATIC;
+    }
+
+    private static boolean isNear(float x, float y, float x0, float y0, float tolerance) {
+        return Math.abs(x - x0) < tolerance && Math.abs(y - y0) < tolerance;
+    }
+
+    /**
+     * The path command class
+     * Here is the command
+     * <pre>
+     * M = moveto
+     * L = lineto
+     * H = horizontal lineto
+     * V = vertical lineto
+     * C = curveto
+     * S = smooth curveto
+     * Q = quadratic Belzier curve
+     * T = smooth quadratic Belzier curveto
+     * A = elliptical Arc
+     * Z = closepath
+     * </pre>
+     *
+     * @author iffly
+     * @since 0.0.1
+     */
+    public static class SVGPathElement {
+
+        @StringDef({PathElementType.M, PathElementType.L, PathElementType.H, PathElementType.V, PathElementType.C, PathElementType.S, PathElementType.Q, PathElementType.T, PathElementType.A, PathElementType.Z})
+        @Retention(RetentionPolicy.SOURCE)
+        public @interface PathElementType {
+            /**
+             * Path command
+             */
+            String M = "M";
+            String L = "L";
+            String H = "H";
+            String V = "V";
+            String C = "C";
+            String S = "S";
+            String Q = "Q";
+            String T = "T";
+            String A = "A";
+            String Z = "Z";
+        }
+
+        /**
+         * Command type
+         */
+        private @PathElementType
+        String type;
+        /**
+         * Pos data
+         */
+        private float[] data;
+        /**
+         * Indicates whether the relative distance
+         * true mean that is relative
+         */
+        private boolean isRelative;
+
+        /**
+         * The command type
+         *
+         * @return
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Set command type
+         *
+         * @param type
+         */
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        /**
+         * The pos data
+         *
+         * @return
+         */
+        public float[] getData() {
+            return data;
+        }
+
+        /**
+         * Set pos data
+         *
+         * @param data
+         */
+        public void setData(float[] data) {
+            this.data = data;
+        }
+
+        /**
+         * Whether the pos data is relative
+         *
+         * @return true if relative
+         * @since 0.0.7
+         */
+        public boolean isRelative() {
+            return isRelative;
+        }
+
+        public SVGPathElement(String type, float[] data) {
+            this(type, data, false);
+        }
+
+        public SVGPathElement(String type, float[] data, boolean isRelative) {
+            this.type = type;
+            this.data = data;
+            this.isRelative = isRelative;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SVGPathElement that = (SVGPathElement) o;
+            return Objects.equals(type, that.type) &&
+                    Arrays.equals(data, that.data);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(type);
+            result = 31 * result + Arrays.hashCode(data);
+            return result;
+        }
+
+        /**
+         * Get path command string
+         *
+         * @param convert The double convert,convert double to string
+         * @return The path command string
+         */
+        public String valueStr(DoubleFunction<String> convert) {
+            StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append(isRelative ? type.toLowerCase() : type).append(" ");
+            if (type != PathElementType.A) {
+                if (data != null)
+                    for (float f : data)
+                        SVGUtils.appendDouble(stringBuilder, f, convert).append(" ");
+            } else {
+                if (data != null)
+                    for (int i = 0; i < data.length; ++i) {
+                        if (i == 3 || i == 4) {
+                            stringBuilder.append((int) data[i]).append(" ");
+                        } else
+                            stringBuilder.append(data[i]).append(" ");
+                    }
+            }
+            return stringBuilder.toString();
+
+        }
+
+
+    }
+
+    /**
+     * The packed command op codes,the coordinate count of op is {@link #OP_COORD_COUNTS}
+     */
+    private static final byte OP_MOVE = 0;
+    private static final byte OP_LINE = 1;
+    private static final byte OP_HORIZONTAL_LINE = 2;
+    private static final byte OP_VERTICAL_LINE = 3;
+    private static final byte OP_CURVE = 4;
+    private static final byte OP_SMOOTH_CURVE = 5;
+    private static final byte OP_QUADRATIC = 6;
+    private static final byte OP_SMOOTH_QUADRATIC = 7;
+    private static final byte OP_ARC = 8;
+    private static final byte OP_CLOSE = 9;
+    /**
+     * The op code flag,mean that the command is relative
+     */
+    private static final int RELATIVE_FLAG = 0x10;
+
+    /**
+     * The command type of op code,smooth curve is written as "C" with 4 values
+     */
+    private static final String[] OP_TYPES = {
+            SVGPathElement.PathElementType.M, SVGPathElement.PathElementType.L,
+            SVGPathElement.PathElementType.H, SVGPathElement.PathElementType.V,
+            SVGPathElement.PathElementType.C, SVGPathElement.PathElementType.C,
+            SVGPathElement.PathElementType.Q, SVGPathElement.PathElementType.T,
+            SVGPathElement.PathElementType.A, SVGPathElement.PathElementType.Z};
+    private static final int[] OP_COORD_COUNTS = {2, 2, 1, 1, 6, 4, 4, 2, 7, 0};
+
+    /**
+     * Path commands
+     * The op codes and the coordinates are packed in primitive arrays,not an object every command
+     *
+     * @see SVGPathElement
+     */
+    private byte[] ops;
+    private int opCount;
+    private float[] coords;
+    private int coordCount;
+    /**
+     * The cached {@link #contentDigest()},0 means that it is not computed
+     */
+    private long digest;
+
+    public SVGPath() {
+        ops = new byte[16];
+        coords = new float[32];
+    }
+
+    public SVGPath(SVGPath path) {
+        ops = Arrays.copyOf(path.ops, Math.max(path.opCount, 16));
+        opCount = path.opCount;
+        coords = Arrays.copyOf(path.coords, Math.max(path.coordCount, 32));
+        coordCount = path.coordCount;
+        path.copyBaseAttr(this);
+    }
+
+    /**
+     * Add a command,the coordinates are added by {@link #addCoord(float)}
+     */
+    private void addOp(byte op, boolean isRelative) {
+        checkNotFrozen();
+        digest = 0;
+        if (opCount == ops.length)
+            ops = Arrays.copyOf(ops, opCount * 2);
+        ops[opCount++] = (byte) (isRelative ? op | RELATIVE_FLAG : op);
+        int count = OP_COORD_COUNTS[op];
+        if (coordCount + count > coords.length)
+            coords = Arrays.copyOf(coords, Math.max(coords.length * 2, coordCount + count));
+    }
+
+    private void addCoord(float value) {
+        coords[coordCount++] = value;
+    }
+
+    /**
+     * Move point to (x,y)
+     *
+     * @param x
+     * @param y
+     * @since 0.0.1
+     */
+    public void moveTo(float x, float y) {
+        moveTo(x, y, false);
+    }
+
+    /**
+     * Move point to (x,y)/(x0+x,y0+y)(if isRelative is true)
+     *
+     * @param x
+     * @param y
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void moveTo(float x, float y, boolean isRelative) {
+        addOp(OP_MOVE, isRelative);
+        addCoord(x);
+        addCoord(y);
+    }
+
+    /**
+     * draw line to (x,y)
+     *
+     * @param x
+     * @param y
+     * @since 0.0.1
+     */
+    public void lineTo(float x, float y) {
+        lineTo(x, y, false);
+    }
+
+    /**
+     * draw line to (x,y)/(x0+x,y0+y)(if isRelative is true)
+     *
+     * @param x
+     * @param y
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void lineTo(float x, float y, boolean isRelative) {
+        addOp(OP_LINE, isRelative);
+        addCoord(x);
+        addCoord(y);
+    }
+
+    /**
+     * draw hor line to(x,y0)
+     *
+     * @param x
+     * @since 0.0.1
+     */
+    public void horizontalLineTo(float x) {
+        horizontalLineTo(x, false);
+    }
+
+    /**
+     * draw hor line to(x,y0)/(x0+x,y0)(if isRelative is true)
+     *
+     * @param x
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void horizontalLineTo(float x, boolean isRelative) {
+        addOp(OP_HORIZONTAL_LINE, isRelative);
+        addCoord(x);
+    }
+
+    /**
+     * draw ver line to(x0,y)
+     *
+     * @param y
+     * @since 0.0.1
+     */
+    public void verticalLineTo(float y) {
+        verticalLineTo(y, false);
+    }
+
+    /**
+     * draw ver line to(x0,y)/(x0,y0+y)(if isRelative is true)
+     *
+     * @param y
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void verticalLineTo(float y, boolean isRelative) {
+        addOp(OP_VERTICAL_LINE, isRelative);
+        addCoord(y);
+    }
+
+    /**
+     * curveTo (ex,ey)
+     * Cubic Bezier curve
+     *
+     * @param x1
+     * @param y1
+     * @param x2
+     * @param y2
+     * @param ex
+     * @param ey
+     * @since 0.0.1
+     */
+    public void curveTo(float x1, float y1, float x2, float y2, float ex, float ey) {
+        curveTo(x1, y1, x2, y2, ex, ey, false);
+    }
+
+    /**
+     * curveTo (ex,ey)/(x0+ex,y0+ey)(if isRelative is true)
+     * Cubic Bezier curve
+     *
+     * @param x1
+     * @param y1
+     * @param x2
+     * @param y2
+     * @param ex
+     * @param ey
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void curveTo(float x1, float y1, float x2, float y2, float ex, float ey, boolean isRelative) {
+        addOp(OP_CURVE, isRelative);
+        addCoord(x1);
+        addCoord(y1);
+        addCoord(x2);
+        addCoord(y2);
+        addCoord(ex);
+        addCoord(ey);
+    }
+
+    /**
+     * curveTo (ex,ey)
+     * When multiple cubic Bezier curves are connected, the control points of the previous curve will be used to smoothly connect
+     * Some times we use like this
+     * <pre>
+     * SVGPath path = new SVGPath();
+     * path.moveTo(10,10);
+     * path.curveTo(15,13,18,20,10,30);
+     * path.smoothCurveTo(20,30,10,40);
+     * </pre>
+     *
+     * @param x2
+     * @param y2
+     * @param ex
+     * @param ey
+     * @since 0.0.1
+     */
+    public void smoothCurveTo(float x2, float y2, float ex, float ey) {
+        smoothCurveTo(x2, y2, ex, ey, false);
+    }
+
+    /**
+     * curveTo (ex,ey)/(x0+ex,y0+ey)(if isRelative is true)
+     * When multiple cubic Bezier curves are connected, the control points of the previous curve will be used to smoothly connect
+     *
+     * @param x2
+     * @param y2
+     * @param ex
+     * @param ey
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @see #smoothCurveTo(float, float, float, float)
+     * @since 0.0.1
+     */
+    public void smoothCurveTo(float x2, float y2, float ex, float ey, boolean isRelative) {
+        addOp(OP_SMOOTH_CURVE, isRelative);
+        addCoord(x2);
+        addCoord(y2);
+        addCoord(ex);
+        addCoord(ey);
+    }
+
+    /**
+     * curveTo(ex,ey)
+     * Quadratic bezier curve
+     *
+     * @param x1
+     * @param y1
+     * @param ex
+     * @param ey
+     * @since 0.0.1
+     */
+    public void quadraticBelzierCurve(float x1, float y1, float ex, float ey) {
+        quadraticBelzierCurve(x1, y1, ex, ey, false);
+    }
+
+    /**
+     * curveTo(ex,ey)/(x0+ex,y0+ey)(if isRelative is true)
+     * Quadratic bezier curve
+     *
+     * @param x1
+     * @param y1
+     * @param ex
+     * @param ey
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void quadraticBelzierCurve(float x1, float y1, float ex, float ey, boolean isRelative) {
+        addOp(OP_QUADRATIC, isRelative);
+        addCoord(x1);
+        addCoord(y1);
+        addCoord(ex);
+        addCoord(ey);
+    }
+
+    /**
+     * curveTo(x,y)
+     * When connecting multiple quadratic Bezier curves, use the control points of the previous curve to smoothly connect
+     *
+     * @param x
+     * @param y
+     * @since 0.0.1
+     */
+    public void smoothQuadraticBelzierCurve(float x, float y) {
+        smoothQuadraticBelzierCurve(x, y, false);
+    }
+
+    /**
+     * curveTo(x,y)/(x0+x,y0+y)(if isRelative is true)
+     * When connecting multiple quadratic Bezier curves, use the control points of the previous curve to smoothly connect
+     *
+     * @param x
+     * @param y
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void smoothQuadraticBelzierCurve(float x, float y, boolean isRelative) {
+        addOp(OP_SMOOTH_QUADRATIC, isRelative);
+        addCoord(x);
+        addCoord(y);
+    }
+
+    /**
+     * arcTo(x,y)
+     *
+     * @param rx
+     * @param ry
+     * @param rotation  The rotation of axis-x
+     * @param isLarge   1 means that large arc
+     * @param sweepFlag 1 means that arcTo with clockwise
+     * @param x
+     * @param y
+     * @since 0.0.1
+     */
+    public void ellipticalArc(float rx, float ry, float rotation, int isLarge, int sweepFlag, float x, float y) {
+        ellipticalArc(rx, ry, rotation, isLarge, sweepFlag, x, y, false);
+    }
+
+    /**
+     * arcTo(x,y)/(x0+x,y0+y)(if isRelative is true)
+     *
+     * @param rx
+     * @param ry
+     * @param rotation   The rotation of axis-x
+     * @param isLarge    1 means that large arc
+     * @param sweepFlag  1 means that arcTo with clockwise
+     * @param x
+     * @param y
+     * @param isRelative Indicates whether the relative distance,true means that relative
+     * @since 0.0.1
+     */
+    public void ellipticalArc(float rx, float ry, float rotation, int isLarge, int sweepFlag, float x, float y, boolean isRelative) {
+        addOp(OP_ARC, isRelative);
+        addCoord(rx);
+        addCoord(ry);
+        addCoord(rotation);
+        addCoord(isLarge);
+        addCoord(sweepFlag);
+        addCoord(x);
+        addCoord(y);
+    }
+
+    /**
+     * draw oval
+     * Conveniently draw ellipse,it will moveTo(x-rx,y)
+     *
+     * @param x
+     * @param y
+     * @param rx
+     * @param ry
+     * @since 0.0.1
+     */
+    public void oval(float x, float y, float rx, float ry) {
+        moveTo(x - rx, y);
+        ellipticalArc(rx, ry, 0, 1, 0, x + rx, y);
+        ellipticalArc(rx, ry, 0, 1, 0, x - rx, y);
+    }
+
+    /**
+     * draw a rect
+     * Conveniently draw rectangles,it will not move to(x,y)
+     *
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     * @since 0.0.1
+     */
+    public void rect(float x, float y, float width, float height) {
+        moveTo(x, y);
+        horizontalLineTo(width, true);
+        verticalLineTo(height, true);
+        horizontalLineTo(-width, true);
+        verticalLineTo(-height, true);
+    }
+
+    /**
+     * Close path
+     * Connect start and end
+     *
+     * @since 0.0.1
+     */
+    public void closePath() {
+        addOp(OP_CLOSE, false);
+    }
+
+    /**
+     * Transform the points of path by the matrix and write the result into dst,
+     * it is like android.graphics.Path#transform(Matrix, Path)
+     * <p>
+     * The points are mapped exactly,the relative commands stay relative,
+     * "H" and "V" become "L" when the matrix rotates or skews.
+     * The arc is mapped only when its ellipse keeps the shape,that is the matrix scales and translates
+     * and the arc rotation is multiple of 90 degrees,or the matrix scales uniformly,rotates and mirrors,
+     * else it returns false and dst is not changed.
+     * </p>
+     *
+     * @param matrix The matrix
+     * @param dst    The path to write the result,it can be this path
+     * @return true if the path is transformed
+     * @since 0.0.7
+     */
+    public boolean transform(SVGMatrix matrix, SVGPath dst) {
+        dst.checkNotFrozen();
+        float a = matrix.getValue(SVGMatrix.MSCALE_X), b = matrix.getValue(SVGMatrix.MSKEW_X);
+        float c = matrix.getValue(SVGMatrix.MTRANS_X), d = matrix.getValue(SVGMatrix.MSKEW_Y);
+        float e = matrix.getValue(SVGMatrix.MSCALE_Y), f = matrix.getValue(SVGMatrix.MTRANS_Y);
+        boolean axisAligned = b == 0 && d == 0;
+        boolean rotation = a == e && b == -d;
+        boolean mirror = a == -e && b == d;
+        byte[] newOps = new byte[Math.max(opCount, 16)];
+        float[] newCoords = new float[Math.max(coordCount * 2, 32)];
+        int n = 0;
+        // the current point and the sub path start in the source coordinates,for "H" and "V"
+        float curX = 0, curY = 0, startX = 0, startY = 0;
+        int coordIndex = 0;
+        for (int i = 0; i < opCount; ++i) {
+            int op = ops[i] & ~RELATIVE_FLAG;
+            boolean relative = (ops[i] & RELATIVE_FLAG) != 0;
+            // the first relative move is absolute
+            boolean vector = relative && i > 0;
+            byte newOp = ops[i];
+            int count = OP_COORD_COUNTS[op];
+            switch (op) {
+                case OP_HORIZONTAL_LINE:
+                case OP_VERTICAL_LINE: {
+                    float v = coords[coordIndex];
+                    float x = op == OP_HORIZONTAL_LINE ? v : (relative ? 0 : curX);
+                    float y = op == OP_VERTICAL_LINE ? v : (relative ? 0 : curY);
+                    if (relative) {
+                        curX += x;
+                        curY += y;
+                    } else {
+                        curX = x;
+                        curY = y;
+                    }
+                    if (axisAligned) {
+                        newCoords[n++] = op == OP_HORIZONTAL_LINE ? mapX(a, 0, vector ? 0 : c, v, 0) : mapY(0, e, vector ? 0 : f, 0, v);
+                    } else {
+                        newOp = relative ? OP_LINE | RELATIVE_FLAG : OP_LINE;
+                        newCoords[n++] = mapX(a, b, vector ? 0 : c, x, y);
+                        newCoords[n++] = mapY(d, e, vector ? 0 : f, x, y);
+                    }
+                    break;
+                }
+                case OP_ARC: {
+                    float rx = coords[coordIndex], ry = coords[coordIndex + 1], angle = coords[coordIndex + 2];
+                    float sweep = coords[coordIndex + 4];
+                    if (rotation || mirror) {
+                        float scale = (float) Math.hypot(a, d);
+                        float degrees = (float) Math.toDegrees(Math.atan2(d, a));
+                        rx *= scale;
+                        ry *= scale;
+                        angle = rotation ? angle + degrees : degrees - angle;
+                        if (mirror)
+                            sweep = 1 - sweep;
+                    } else if (axisAligned && angle % 90 == 0) {
+                        boolean swap = angle % 180 != 0;
+                        rx *= Math.abs(swap ? e : a);
+                        ry *= Math.abs(swap ? a : e);
+                        if (a * e < 0)
+                            sweep = 1 - sweep;
+                    } else {
+                        return false;
+                    }
+                    float x = coords[coordIndex + 5], y = coords[coordIndex + 6];
+                    newCoords[n++] = rx;
+                    newCoords[n++] = ry;
+                    newCoords[n++] = angle;
+                    newCoords[n++] = coords[coordIndex + 3];
+                    newCoords[n++] = sweep;
+                    newCoords[n++] = mapX(a, b, vector ? 0 : c, x, y);
+                    newCoords[n++] = mapY(d, e, vector ? 0 : f, x, y);
+                    curX = relative ? curX + x : x;
+                    curY = relative ? curY + y : y;
+                    break;
+                }
+                case OP_CLOSE:
+                    curX = startX;
+                    curY = startY;
+                    break;
+                default:
+                    for (int j = 0; j < count; j += 2) {
+                        float x = coords[coordIndex + j], y = coords[coordIndex + j + 1];
+                        newCoords[n++] = mapX(a, b, vector ? 0 : c, x, y);
+                        newCoords[n++] = mapY(d, e, vector ? 0 : f, x, y);
+                    }
+                    float endX = coords[coordIndex + count - 2], endY = coords[coordIndex + count - 1];
+                    curX = vector ? curX + endX : endX;
+                    curY = vector ? curY + endY : endY;
+                    if (op == OP_MOVE) {
+                        startX = curX;
+                        startY = curY;
+                    }
+                    break;
+            }
+            newOps[i] = newOp;
+            coordIndex += count;
+        }
+        dst.ops = newOps;
+        dst.opCount = opCount;
+        dst.coords = newCoords;
+        dst.coordCount = n;
+        dst.digest = 0;
+        return true;
+    }
+
+    /**
+     * Compute the conservative bounds of path
+     * <p>
+     * The curves are bounded by their control points.The arc is in its larger radius from the center,
+     * and the center is in the radius from both end points,the radii are scaled up like the svg renderer
+     * when they are too small for the end points.
+     * </p>
+     *
+     * @param bounds The array to write left,top,right,bottom
+     * @return false if the path has no point
+     * @since 0.0.7
+     */
+    @Override
+    public boolean computeBounds(float[] bounds) {
+        bounds[0] = bounds[1] = Float.POSITIVE_INFINITY;
+        bounds[2] = bounds[3] = Float.NEGATIVE_INFINITY;
+        float curX = 0, curY = 0, startX = 0, startY = 0;
+        // the last control point,the smooth curve reflects it
+        float ctrlX = 0, ctrlY = 0;
+        int lastOp = OP_CLOSE;
+        int coordIndex = 0;
+        for (int i = 0; i < opCount; ++i) {
+            int op = ops[i] & ~RELATIVE_FLAG;
+            // the first relative move is absolute
+            float baseX = 0, baseY = 0;
+            if ((ops[i] & RELATIVE_FLAG) != 0 && i > 0) {
+                baseX = curX;
+                baseY = curY;
+            }
+            float[] c = coords;
+            int ci = coordIndex;
+            switch (op) {
+                case OP_MOVE:
+                case OP_LINE:
+                    curX = baseX + c[ci];
+                    curY = baseY + c[ci + 1];
+                    if (op == OP_MOVE) {
+                        startX = curX;
+                        startY = curY;
+                    }
+                    break;
+                case OP_HORIZONTAL_LINE:
+                    curX = baseX + c[ci];
+                    break;
+                case OP_VERTICAL_LINE:
+                    curY = baseY + c[ci];
+                    break;
+                case OP_CURVE:
+                case OP_SMOOTH_CURVE:
+                case OP_QUADRATIC:
+                case OP_SMOOTH_QUADRATIC: {
+                    boolean cubic = op == OP_CURVE || op == OP_SMOOTH_CURVE;
+                    if (op == OP_SMOOTH_CURVE || op == OP_SMOOTH_QUADRATIC) {
+                        boolean reflect = cubic ? lastOp == OP_CURVE || lastOp == OP_SMOOTH_CURVE
+                                : lastOp == OP_QUADRATIC || lastOp == OP_SMOOTH_QUADRATIC;
+                        ctrlX = reflect ? 2 * curX - ctrlX : curX;
+                        ctrlY = reflect ? 2 * curY - ctrlY : curY;
+                        unionPoint(bounds, ctrlX, ctrlY);
+                    }
+                    int count = OP_COORD_COUNTS[op];
+                    for (int j = 0; j < count - 2; j += 2) {
+                        ctrlX = baseX + c[ci + j];
+                        ctrlY = baseY + c[ci + j + 1];
+                        unionPoint(bounds, ctrlX, ctrlY);
+                    }
+                    curX = baseX + c[ci + count - 2];
+                    curY = baseY + c[ci + count - 1];
+                    break;
+                }
+                case OP_ARC: {
+                    float rx = Math.abs(c[ci]), ry = Math.abs(c[ci + 1]);
+                    float endX = baseX + c[ci + 5], endY = baseY + c[ci + 6];
+                    if (rx != 0 && ry != 0) {
+                        double angle = Math.toRadians(c[ci + 2]);
+                        double cos = Math.cos(angle), sin = Math.sin(angle);
+                        double dx = (curX - endX) / 2.0, dy = (curY - endY) / 2.0;
+                        double x1 = cos * dx + sin * dy, y1 = -sin * dx + cos * dy;
+                        double lambda = x1 * x1 / ((double) rx * rx) + y1 * y1 / ((double) ry * ry);
+                        double r = Math.max(rx, ry) * (lambda > 1 ? Math.sqrt(lambda) : 1);
+                        // the center is in r of both end points,and the arc is in r of the center
+                        unionPoint(bounds, (float) (Math.max(curX, endX) - 2 * r), (float) (Math.max(curY, endY) - 2 * r));
+                        unionPoint(bounds, (float) (Math.min(curX, endX) + 2 * r), (float) (Math.min(curY, endY) + 2 * r));
+                    }
+                    curX = endX;
+                    curY = endY;
+                    break;
+                }
+                case OP_CLOSE:
+                    curX = startX;
+                    curY = startY;
+                    break;
+            }
+            unionPoint(bounds, curX, curY);
+            lastOp = op;
+            coordIndex += OP_COORD_COUNTS[op];
+        }
+        return opCount > 0;
+    }
+
+    private static void unionPoint(float[] bounds, float x, float y) {
+        bounds[0] = Math.min(bounds[0], x);
+        bounds[1] = Math.min(bounds[1], y);
+        bounds[2] = Math.max(bounds[2], x);
+        bounds[3] = Math.max(bounds[3], y);
+    }
+
+    private static float mapX(float a, float b, float c, float x, float y) {
+        return (float) ((double) a * x + (double) b * y) + c;
+    }
+
+    private static float mapY(float d, float e, float f, float x, float y) {
+        return (float) ((double) d * x + (double) e * y) + f;
+    }
+
+    /**
+     * The path command iterator
+     * The {@link SVGPathElement} is created when iterating,change it will not change the path
+     *
+     * @return
+     * @since 0.0.1
+     */
+    public Iterator<SVGPathElement> iterator() {
+        return new Iterator<SVGPathElement>() {
+            private int index;
+            private int coordIndex;
+
+            @Override
+            public boolean hasNext() {
+                return index < opCount;
+            }
+
+            @Override
+            public SVGPathElement next() {
+                if (index >= opCount) throw new NoSuchElementException();
+                int op = ops[index] & ~RELATIVE_FLAG;
+                int count = OP_COORD_COUNTS[op];
+                float[] data = count == 0 ? null : Arrays.copyOfRange(coords, coordIndex, coordIndex + count);
+                SVGPathElement element = new SVGPathElement(OP_TYPES[op], data, (ops[index] & RELATIVE_FLAG) != 0);
+                ++index;
+                coordIndex += count;
+                return element;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    @NonNull
+    public Object clone() {
+        return new SVGPath(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGPath path = (SVGPath) o;
+        if (opCount != path.opCount || coordCount != path.coordCount) return false;
+        for (int i = 0; i < opCount; ++i)
+            if (ops[i] != path.ops[i]) return false;
+        for (int i = 0; i < coordCount; ++i)
+            if (Float.floatToIntBits(coords[i]) != Float.floatToIntBits(path.coords[i])) return false;
+        return true;
+    }
+
+    /**
+     * The 64 bit FNV-1a hash of the commands and the coordinates
+     * <p>
+     * It is cached until the path is changed,so counting the draws of the same path is cheap.
+     * The equal paths have the same digest.
+     * </p>
+     *
+     * @return The digest
+     * @since 0.0.7
+     */
+    public long contentDigest() {
+        if (digest == 0) {
+            long h = DIGEST_INITIAL;
+            for (int i = 0; i < opCount; ++i)
+                h = (h ^ (ops[i] & 0xff)) * DIGEST_PRIME;
+            for (int i = 0; i < coordCount; ++i)
+                h = mixDigest(h, Float.floatToIntBits(coords[i]));
+            // 0 is the mark of not computed
+            digest = h == 0 ? 1 : h;
+        }
+        return digest;
+    }
+
+    static final long DIGEST_INITIAL = 0xcbf29ce484222325L;
+    private static final long DIGEST_PRIME = 0x100000001b3L;
+
+    /**
+     * Mix the 4 bytes of value into the digest
+     */
+    static long mixDigest(long h, int value) {
+        for (int i = 0; i < 4; i++) {
+            h = (h ^ (value & 0xff)) * DIGEST_PRIME;
+            value >>>= 8;
+        }
+        return h;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < opCount; ++i)
+            result = 31 * result + ops[i];
+        for (int i = 0; i < coordCount; ++i)
+            result = 31 * result + Float.floatToIntBits(coords[i]);
+        return result;
+    }
+}
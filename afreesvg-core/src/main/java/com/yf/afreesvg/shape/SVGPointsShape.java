@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.shape;
+
+import androidx.annotation.NonNull;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGUtils;
+import com.yf.afreesvg.util.DoubleFunction;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Polygon or polyline shape of the points
+ * <p>
+ * The points are stored as x,y pairs in one float array,
+ * the android SVGPolygon extends it and reads the points from PointF[].
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public class SVGPointsShape extends SVGBaseShape {
+    /**
+     * points,x,y pairs
+     */
+    private final float[] points;
+    /**
+     * true means polygon,false means polyline
+     */
+    private final boolean closed;
+
+    /**
+     * Create a points shape
+     *
+     * @param points The points,x,y pairs
+     * @param closed true to generate polygon,false to generate polyline
+     */
+    public SVGPointsShape(float[] points, boolean closed) {
+        this.points = points;
+        this.closed = closed;
+    }
+
+    /**
+     * Whether the shape is closed
+     *
+     * @return true if polygon
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Get the count of points
+     *
+     * @return The point count
+     */
+    public int getPointCount() {
+        return points.length / 2;
+    }
+
+    /**
+     * Get x of the point
+     *
+     * @param index The point index
+     * @return The x
+     */
+    public float getPointX(int index) {
+        return points[index * 2];
+    }
+
+    /**
+     * Get y of the point
+     *
+     * @param index The point index
+     * @return The y
+     */
+    public float getPointY(int index) {
+        return points[index * 2 + 1];
+    }
+
+    @Override
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
+        Element element = document.createElement(closed ? "polygon" : "polyline");
+        element.setAttribute("points", getPointsStr(convert));
+        addBaseAttr(element);
+        return element;
+    }
+
+    protected String getPointsStr(DoubleFunction<String> convert) {
+        int count = getPointCount();
+        StringBuilder sb = new StringBuilder(count * 12);
+        for (int i = 0; i < count; i++) {
+            SVGUtils.appendDouble(sb.append(' '), getPointX(i), convert).append(',');
+            SVGUtils.appendDouble(sb, getPointY(i), convert);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean computeBounds(float[] bounds) {
+        int count = getPointCount();
+        if (count == 0)
+            return false;
+        bounds[0] = bounds[2] = getPointX(0);
+        bounds[1] = bounds[3] = getPointY(0);
+        for (int i = 1; i < count; ++i) {
+            float x = getPointX(i), y = getPointY(i);
+            bounds[0] = Math.min(bounds[0], x);
+            bounds[1] = Math.min(bounds[1], y);
+            bounds[2] = Math.max(bounds[2], x);
+            bounds[3] = Math.max(bounds[3], y);
+        }
+        return true;
+    }
+
+    @NonNull
+    @Override
+    public Object clone() {
+        return copyBaseAttr(new SVGPointsShape(points.clone(), closed));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGPointsShape that = (SVGPointsShape) o;
+        int count = getPointCount();
+        if (closed != that.closed || count != that.getPointCount()) return false;
+        for (int i = 0; i < count; i++) {
+            if (Float.compare(getPointX(i), that.getPointX(i)) != 0
+                    || Float.compare(getPointY(i), that.getPointY(i)) != 0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(closed);
+        int count = getPointCount();
+        for (int i = 0; i < count; i++) {
+            result = 31 * result + Float.floatToIntBits(getPointX(i));
+            result = 31 * result + Float.floatToIntBits(getPointY(i));
+        }
+        return result;
+    }
+}
@@ -15,7 +15,7 @@ package com.yf.afreesvg.shape;
 
 import androidx.annotation.NonNull;
 
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 import com.yf.afreesvg.util.DoubleFunction;
 
 import org.w3c.dom.Document;
@@ -95,7 +95,7 @@ public class SVGRect extends SVGBaseShape {
     }
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("rect");
         element.setAttribute("x", convert.apply(x));
         element.setAttribute("y", convert.apply(y));
@@ -105,10 +105,19 @@ public class SVGRect extends SVGBaseShape {
         return element;
     }
 
+    @Override
+    public boolean computeBounds(float[] bounds) {
+        bounds[0] = Math.min(x, x + width);
+        bounds[1] = Math.min(y, y + height);
+        bounds[2] = Math.max(x, x + width);
+        bounds[3] = Math.max(y, y + height);
+        return true;
+    }
+
     @NonNull
     @Override
     public Object clone() {
-        return new SVGRect(x, y, width, height);
+        return copyBaseAttr(new SVGRect(x, y, width, height));
     }
 
     @Override
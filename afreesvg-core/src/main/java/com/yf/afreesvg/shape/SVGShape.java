@@ -16,7 +16,7 @@ package com.yf.afreesvg.shape;
 import androidx.annotation.NonNull;
 
 import com.yf.afreesvg.ConvertToSVGElement;
-import com.yf.afreesvg.SVGCanvas;
+import com.yf.afreesvg.SVGBaseCanvas;
 
 /**
  * The shape interface
@@ -27,10 +27,27 @@ import com.yf.afreesvg.SVGCanvas;
 public interface SVGShape extends ConvertToSVGElement, Cloneable {
     /**
      * clone
-     * need deep clone when push in save stacks,{@link SVGCanvas#save()}
+     * need deep clone when push in save stacks,{@link SVGBaseCanvas#save()}
      *
      * @return
      */
     @NonNull
     public Object clone();
+
+    /**
+     * Compute the bounds of the shape in its coordinates,the canvas uses it to skip the invisible shape
+     * <p>
+     * The bounds must be conservative,that is the whole geometry is in it,it can be larger than the geometry
+     * such as the curve control points,and it does not include the stroke.
+     * The default returns false,it means that the bounds is unknown and the shape is always drawn.
+     * </p>
+     *
+     * @param bounds The array to write left,top,right,bottom,its length must not less than 4
+     * @return true if the bounds is computed
+     * @see SVGBaseCanvas#setCulling(boolean)
+     * @since 0.0.7
+     */
+    default boolean computeBounds(float[] bounds) {
+        return false;
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.shape;
+
+import androidx.annotation.NonNull;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.util.DoubleFunction;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Shape group
+ * It will generate shape combinations with "<g></g>"
+ *
+ * @author iffly
+ * @since 0.0.1
+ */
+public class SVGShapeGroup implements SVGShape {
+    /**
+     * Shape list
+     */
+    private List<SVGShape> list;
+    /**
+     * The frozen group can not add shape
+     */
+    private boolean frozen;
+
+    public SVGShapeGroup() {
+        list = new ArrayList<>();
+    }
+
+    public SVGShapeGroup(SVGShapeGroup shapeGroup) {
+        list = new ArrayList<>();
+        for (SVGShape shape : shapeGroup.list) {
+            list.add((SVGShape) shape.clone());
+        }
+    }
+
+    /**
+     * Add shape
+     *
+     * @param shape {@link SVGShape}
+     * @since 0.0.1
+     */
+    public void addShape(SVGShape shape) {
+        if (frozen)
+            throw new IllegalStateException("The shape group is frozen,clone it to change");
+        list.add(shape);
+    }
+
+    /**
+     * Make the group and its shapes immutable
+     *
+     * @since 0.0.7
+     */
+    public void freeze() {
+        if (frozen)
+            return;
+        frozen = true;
+        for (int i = 0; i < list.size(); ++i) {
+            SVGShape shape = list.get(i);
+            if (shape instanceof SVGBaseShape) {
+                ((SVGBaseShape) shape).freeze();
+            } else if (shape instanceof SVGShapeGroup) {
+                ((SVGShapeGroup) shape).freeze();
+            } else {
+                // the unknown shape can not be frozen,keep a private copy
+                list.set(i, (SVGShape) shape.clone());
+            }
+        }
+    }
+
+    /**
+     * Whether the group is frozen
+     *
+     * @return true if frozen
+     * @since 0.0.7
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+
+    @Override
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
+        Element g = document.createElement("g");
+        for (SVGShape shape : list) {
+            g.appendChild(shape.convertToSVGElement(canvas, document, convert));
+        }
+        return g;
+    }
+
+    /**
+     * The union bounds of the shapes,it is unknown when a shape bounds is unknown
+     */
+    @Override
+    public boolean computeBounds(float[] bounds) {
+        if (list.isEmpty())
+            return false;
+        float left = Float.POSITIVE_INFINITY, top = Float.POSITIVE_INFINITY;
+        float right = Float.NEGATIVE_INFINITY, bottom = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < list.size(); ++i) {
+            if (!list.get(i).computeBounds(bounds))
+                return false;
+            left = Math.min(left, bounds[0]);
+            top = Math.min(top, bounds[1]);
+            right = Math.max(right, bounds[2]);
+            bottom = Math.max(bottom, bounds[3]);
+        }
+        bounds[0] = left;
+        bounds[1] = top;
+        bounds[2] = right;
+        bounds[3] = bottom;
+        return true;
+    }
+
+    @NonNull
+    @Override
+    public Object clone() {
+        return new SVGShapeGroup(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SVGShapeGroup that = (SVGShapeGroup) o;
+        return list.equals(that.list);
+    }
+
+    /**
+     * The digest of the shapes in order,it uses {@link SVGPath#contentDigest()} for the paths
+     * and the hash code for the other shapes
+     * <p>
+     * The equal groups have the same digest.
+     * </p>
+     *
+     * @return The digest
+     * @since 0.0.7
+     */
+    public long contentDigest() {
+        long h = SVGPath.DIGEST_INITIAL;
+        for (int i = 0; i < list.size(); ++i) {
+            SVGShape shape = list.get(i);
+            long value;
+            if (shape instanceof SVGPath) {
+                value = ((SVGPath) shape).contentDigest();
+            } else if (shape instanceof SVGShapeGroup) {
+                value = ((SVGShapeGroup) shape).contentDigest();
+            } else {
+                value = shape == null ? 0 : shape.hashCode();
+            }
+            h = SVGPath.mixDigest(SVGPath.mixDigest(h, (int) value), (int) (value >>> 32));
+        }
+        return h;
+    }
+
+    @Override
+    public int hashCode() {
+        return list.hashCode();
+    }
+}
@@ -13,12 +13,11 @@
 
 package com.yf.afreesvg.shape;
 
-import android.graphics.Paint;
-
 import androidx.annotation.NonNull;
 
-import com.yf.afreesvg.SVGCanvas;
-import com.yf.afreesvg.SVGPaint;
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGBasePaint;
+import com.yf.afreesvg.SVGPaintAttrs;
 import com.yf.afreesvg.SVGUnits;
 import com.yf.afreesvg.font.SVGFont;
 import com.yf.afreesvg.util.DoubleFunction;
@@ -49,7 +48,7 @@ public class SVGTextPath extends SVGBaseShape {
      */
     private float y;
     /**
-     * The draw length,it used to {@link SVGPaint#getLengthAdjust()}
+     * The draw length,it used to {@link SVGPaintAttrs#getLengthAdjust()}
      */
     private int textLength;
     /**
@@ -61,15 +60,15 @@ public class SVGTextPath extends SVGBaseShape {
      */
     private SVGPath path;
     /**
-     * style paint,{@link SVGPaint}
+     * style paint,{@link SVGPaintAttrs}
      */
-    private SVGPaint paint;
+    private SVGPaintAttrs paint;
     /**
      * font size units
      */
     private SVGUnits fontSizeUnit = SVGUnits.PX;
 
-    private SVGTextPath(String text, float x, float y, int textLength, float startOffset, SVGPath path, SVGPaint paint, SVGUnits fontSizeUnit) {
+    private SVGTextPath(String text, float x, float y, int textLength, float startOffset, SVGPath path, SVGPaintAttrs paint, SVGUnits fontSizeUnit) {
         this.text = text;
         this.x = x;
         this.y = y;
@@ -111,7 +110,7 @@ public class SVGTextPath extends SVGBaseShape {
 
     /**
      * Get textLength
-     * The draw length,it used to {@link SVGPaint#getLengthAdjust()}
+     * The draw length,it used to {@link SVGPaintAttrs#getLengthAdjust()}
      *
      * @return
      * @since 0.0.1
@@ -140,13 +139,25 @@ public class SVGTextPath extends SVGBaseShape {
         return path;
     }
 
+    /**
+     * Freeze the text path and its attach path
+     *
+     * @since 0.0.7
+     */
+    @Override
+    public void freeze() {
+        super.freeze();
+        if (path != null)
+            path.freeze();
+    }
+
     /**
      * style paint
      *
-     * @return {@link SVGPaint}
+     * @return {@link SVGPaintAttrs}
      * @since 0.0.1
      */
-    public SVGPaint getPaint() {
+    public SVGPaintAttrs getPaint() {
         return paint;
     }
 
@@ -173,7 +184,7 @@ public class SVGTextPath extends SVGBaseShape {
         private int textLength;
         private float startOffset;
         private SVGPath path;
-        private SVGPaint paint;
+        private SVGPaintAttrs paint;
         private SVGUnits fontSizeUnit = SVGUnits.PX;
 
         public Builder setText(String text) {
@@ -206,7 +217,7 @@ public class SVGTextPath extends SVGBaseShape {
             return this;
         }
 
-        public Builder setPaint(SVGPaint paint) {
+        public Builder setPaint(SVGPaintAttrs paint) {
             this.paint = paint;
             return this;
         }
@@ -223,7 +234,7 @@ public class SVGTextPath extends SVGBaseShape {
 
 
     @Override
-    public Element convertToSVGElement(SVGCanvas canvas, Document document, DoubleFunction<String> convert) {
+    public Element convertToSVGElement(SVGBaseCanvas canvas, Document document, DoubleFunction<String> convert) {
         Element element = document.createElement("text");
         element.setAttribute("x", convert.apply(x));
         element.setAttribute("y", convert.apply(y));
@@ -248,7 +259,7 @@ public class SVGTextPath extends SVGBaseShape {
         return element;
     }
 
-    private void setTextStyle(Element element, SVGPaint paint, DoubleFunction<String> convert) {
+    private void setTextStyle(Element element, SVGPaintAttrs paint, DoubleFunction<String> convert) {
         if (paint.getFont() != null) {
             SVGFont font = paint.getFont();
             element.setAttribute("font-family", font.getFontFamily());
@@ -256,8 +267,8 @@ public class SVGTextPath extends SVGBaseShape {
             element.setAttribute("font-weight", font.getFontWeight());
             element.setAttribute("font-size", font.getFontSize() + (fontSizeUnit != null ? fontSizeUnit.toString() : ""));
         }
-        if (paint.getTextAlign() != Paint.Align.LEFT)
-            element.setAttribute("text-anchor", textAlignToAnchor(paint.getTextAlign()));
+        if (paint.getTextAnchor() != null && !SVGPaintAttrs.TextAnchor.TEXT_ANCHOR_START.equals(paint.getTextAnchor()))
+            element.setAttribute("text-anchor", paint.getTextAnchor());
 
         if (paint.getLetterSpacing() > 0) {
             element.setAttribute("letter-spacing", convert.apply(paint.getLetterSpacing()));
@@ -266,36 +277,25 @@ public class SVGTextPath extends SVGBaseShape {
         if (paint.getWordSpacing() > 0) {
             element.setAttribute("word-spacing", convert.apply(paint.getWordSpacing()));
         }
-        if (!SVGPaint.TextDecoration.TEXT_DECORATION_NONE.equals(paint.getTextDecoration()))
+        if (!SVGPaintAttrs.TextDecoration.TEXT_DECORATION_NONE.equals(paint.getTextDecoration()))
             element.setAttribute("text-decoration", paint.getTextDecoration());
-        if (!SVGPaint.LengthAdjust.LENGTH_ADJUST_SPACING.equals(paint.getLengthAdjust()) && element.hasAttribute("textLength"))
+        if (!SVGPaintAttrs.LengthAdjust.LENGTH_ADJUST_SPACING.equals(paint.getLengthAdjust()) && element.hasAttribute("textLength"))
             element.setAttribute("lengthAdjust", paint.getLengthAdjust());
     }
 
-    private String textAlignToAnchor(Paint.Align align) {
-        switch (align) {
-            case CENTER:
-                return "middle";
-            case RIGHT:
-                return "end";
-            default:
-                return "start";
-        }
-    }
-
     @NonNull
     @Override
     public Object clone() {
-        SVGPaint paint = new SVGPaint();
+        SVGBasePaint paint = new SVGBasePaint();
         SVGFont svgFont = this.paint.getFont();
 
         paint.setFont(svgFont);
         paint.setLengthAdjust(this.paint.getLengthAdjust());
         paint.setWordSpacing(this.paint.getWordSpacing());
-        paint.setTextAlign(this.paint.getTextAlign());
+        paint.setTextAnchor(this.paint.getTextAnchor());
         paint.setLetterSpacing(this.paint.getLetterSpacing());
         paint.setTextDecoration(this.paint.getTextDecoration());
-        return new Builder().setText(this.text).setX(this.x).setY(this.y).setTextLength(this.textLength).setStartOffset(this.startOffset).setPath((SVGPath) this.path.clone()).setPaint(paint).setFontSizeUnit(this.fontSizeUnit).build();
+        return copyBaseAttr(new Builder().setText(this.text).setX(this.x).setY(this.y).setTextLength(this.textLength).setStartOffset(this.startOffset).setPath((SVGPath) this.path.clone()).setPaint(paint).setFontSizeUnit(this.fontSizeUnit).build());
     }
 
     @Override
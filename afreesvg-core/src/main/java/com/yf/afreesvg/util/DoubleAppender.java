@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+package com.yf.afreesvg.util;
+
+/**
+ * A function that appends the string representation of double values to a {@link StringBuilder},
+ * so the number not need to be a String first.
+ * <p>
+ * A {@link DoubleFunction} which also implements it is appended directly,
+ * see {@link com.yf.afreesvg.SVGUtils#appendDouble(StringBuilder, double, DoubleFunction)}
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public interface DoubleAppender {
+
+    /**
+     * Appends the string representation of the value.
+     *
+     * @param sb    the builder.
+     * @param value the value.
+     */
+    void append(StringBuilder sb, double value);
+}
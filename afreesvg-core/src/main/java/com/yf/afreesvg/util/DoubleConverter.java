@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+
+/**
+ * A function that converts double values to a string representation with 
+ * a maximum number of decimal places.
+ * <p>
+ * The output is same as {@code new DecimalFormat("0.##...")} with US symbols,
+ * a tie is decided by the exact binary value like DecimalFormat,
+ * but it rounds with integer arithmetic and keeps no mutable state,so it is
+ * thread-safe and can be shared by canvases which render in different threads.
+ * </p>
+ */
+public class DoubleConverter implements DoubleFunction<String>, DoubleAppender {
+
+    private static final long[] POW10 = {1L, 10L, 100L, 1000L, 10000L, 100000L,
+            1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L};
+
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    /**
+     * The scaled values not less than it lose the last digit,
+     * DecimalFormat rounds the shortest digits of them.
+     */
+    private static final double SCALED_LIMIT = 0x1p52;
+
+    private static final String NAN;
+    private static final String INFINITY;
+
+    static {
+        DecimalFormatSymbols dfs = DecimalFormatSymbols.getInstance(Locale.US);
+        NAN = dfs.getNaN();
+        INFINITY = dfs.getInfinity();
+    }
+
+    private final int dp;
+
+    private final boolean halfUp;
+
+    /**
+     * Creates a new function that converts double values to strings with
+     * the maximum number of decimal places as specified,it rounds half even.
+     * 
+     * @param dp  the max decimal places (in the range 1 to 10). 
+     */    
+    public DoubleConverter(int dp) {
+        this(dp, RoundingMode.ROUND_EVEN);
+    }
+
+    /**
+     * Creates a new function that converts double values to strings with
+     * the maximum number of decimal places and the rounding mode as specified.
+     *
+     * @param dp            the max decimal places (in the range 1 to 10).
+     * @param roundingMode  {@link RoundingMode#ROUND_EVEN} (half even) or
+     *                      {@link RoundingMode#HALF_UP} (half away from zero).
+     * @since 0.0.7
+     */
+    public DoubleConverter(int dp, RoundingMode roundingMode) {
+        Args.requireInRange(dp, "dp", 1, 10);
+        Args.nullNotPermitted(roundingMode, "roundingMode");
+        if (roundingMode == RoundingMode.CONSERVATIVE) {
+            throw new IllegalArgumentException("Unsupported rounding mode " + roundingMode);
+        }
+        this.dp = dp;
+        this.halfUp = roundingMode == RoundingMode.HALF_UP;
+    }
+
+    /**
+     * Returns a string representation of the specified value.
+     * 
+     * @param value  the value.
+     * 
+     * @return A string representation of the specified value. 
+     */
+    @Override
+    public String apply(double value) {
+        StringBuilder sb = new StringBuilder(24);
+        append(sb, value);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the string representation of the specified value.
+     *
+     * @param sb     the builder.
+     * @param value  the value.
+     * @since 0.0.7
+     */
+    @Override
+    public void append(StringBuilder sb, double value) {
+        if (Double.isNaN(value)) {
+            sb.append(NAN);
+            return;
+        }
+        if (Double.doubleToRawLongBits(value) < 0) {
+            sb.append('-');
+            value = -value;
+        }
+        if (value == Double.POSITIVE_INFINITY) {
+            sb.append(INFINITY);
+            return;
+        }
+        long scale = POW10[dp];
+        if (value * scale >= SCALED_LIMIT) {
+            appendLarge(sb, value);
+            return;
+        }
+        long integer = (long) value;
+        // both are exact,the fraction is less than 1 and the scaled is less than 10^10
+        double fraction = value - integer;
+        double scaled = fraction * scale;
+        long digits = (long) scaled;
+        double rest = scaled - digits;
+        if (rest > 0.5 || (rest == 0.5 && roundTieUp(fraction, scale, digits))) {
+            if (++digits == scale) {
+                ++integer;
+                digits = 0;
+            }
+        }
+        sb.append(integer);
+        if (digits != 0) {
+            int length = dp;
+            while (digits % 10 == 0) {
+                digits /= 10;
+                --length;
+            }
+            sb.append('.');
+            for (int i = length - 1; i > 0 && digits < POW10[i]; --i) {
+                sb.append('0');
+            }
+            sb.append(digits);
+        }
+    }
+
+    /**
+     * Large values have few fraction bits,round the shortest digits like DecimalFormat,
+     * when the shortest digits are a tie the exact value decides the direction.
+     */
+    private void appendLarge(StringBuilder sb, double value) {
+        java.math.RoundingMode mode = halfUp ? java.math.RoundingMode.HALF_UP : java.math.RoundingMode.HALF_EVEN;
+        BigDecimal decimal = new BigDecimal(Double.toString(value));
+        if (decimal.scale() == dp + 1 && decimal.unscaledValue().mod(BigInteger.TEN).intValue() == 5) {
+            decimal = new BigDecimal(value);
+        }
+        sb.append(decimal.setScale(dp, mode).stripTrailingZeros().toPlainString());
+    }
+
+    /**
+     * The scaled fraction is rounded to exactly half,check it with the exact value
+     * of the fraction,it is rare so the allocation is acceptable.
+     */
+    private boolean roundTieUp(double fraction, long scale, long digits) {
+        int compare = new BigDecimal(fraction).multiply(BigDecimal.valueOf(scale))
+                .subtract(BigDecimal.valueOf(digits)).compareTo(HALF);
+        if (compare != 0) {
+            return compare > 0;
+        }
+        return halfUp || (digits & 1) != 0;
+    }
+
+}
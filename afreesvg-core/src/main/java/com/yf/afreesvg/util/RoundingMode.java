@@ -35,6 +35,23 @@ public enum RoundingMode {
     public boolean acceptLowerBound(boolean even) {
       return even;
     }
+  },
+  /**
+   * Round half away from zero,it is for the fixed decimal places of {@link DoubleConverter}.
+   * For the shortest representation of Ryu it is same as {@link #CONSERVATIVE}.
+   *
+   * @since 0.0.7
+   */
+  HALF_UP {
+    @Override
+    public boolean acceptUpperBound(boolean even) {
+      return false;
+    }
+
+    @Override
+    public boolean acceptLowerBound(boolean even) {
+      return false;
+    }
   };
 
   public abstract boolean acceptUpperBound(boolean even);
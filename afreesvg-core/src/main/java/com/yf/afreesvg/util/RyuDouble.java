@@ -87,14 +87,51 @@ public final class RyuDouble {
   }
 
   public static String doubleToString(double value, RoundingMode roundingMode) {
+    StringBuilder result = new StringBuilder(24);
+    appendDouble(value, roundingMode, result);
+    return result.toString();
+  }
+
+  /**
+   * Append the shortest representation of value to result,same as {@link #doubleToString(double)}
+   * but not create a String.
+   *
+   * @since 0.0.7
+   */
+  public static void appendDouble(double value, StringBuilder result) {
+    appendDouble(value, RoundingMode.ROUND_EVEN, result);
+  }
+
+  /**
+   * Append the shortest representation of value to result,same as {@link #doubleToString(double, RoundingMode)}
+   * but not create a String.
+   *
+   * @since 0.0.7
+   */
+  public static void appendDouble(double value, RoundingMode roundingMode, StringBuilder result) {
     // Step 1: Decode the floating point number, and unify normalized and subnormal cases.
     // First, handle all the trivial cases.
-    if (Double.isNaN(value)) return "NaN";
-    if (value == Double.POSITIVE_INFINITY) return "Infinity";
-    if (value == Double.NEGATIVE_INFINITY) return "-Infinity";
+    if (Double.isNaN(value)) {
+      result.append("NaN");
+      return;
+    }
+    if (value == Double.POSITIVE_INFINITY) {
+      result.append("Infinity");
+      return;
+    }
+    if (value == Double.NEGATIVE_INFINITY) {
+      result.append("-Infinity");
+      return;
+    }
     long bits = Double.doubleToLongBits(value);
-    if (bits == 0) return "0.0";
-    if (bits == 0x8000000000000000L) return "-0.0";
+    if (bits == 0) {
+      result.append("0.0");
+      return;
+    }
+    if (bits == 0x8000000000000000L) {
+      result.append("-0.0");
+      return;
+    }
 
     // Otherwise extract the mantissa and exponent bits and run the full algorithm.
     int ieeeExponent = (int) ((bits >>> DOUBLE_MANTISSA_BITS) & DOUBLE_EXPONENT_MASK);
@@ -302,83 +339,88 @@ public final class RyuDouble {
     }
 
     // Step 5: Print the decimal representation.
-    // We follow Double.toString semantics here.
-    char[] result = new char[24];
-    int index = 0;
+    appendDecimal(result, sign, output, olength, exp);
+  }
+
+  /**
+   * Print the decimal representation output * 10^(exp - olength + 1),shared with {@link RyuFloat}.
+   * We follow Double.toString semantics here.
+   */
+  static void appendDecimal(StringBuilder result, boolean sign, long output, int olength, int exp) {
+    // Double.toString semantics requires using scientific notation if and only if outside this range.
+    boolean scientificNotation = !((exp >= -3) && (exp < 7));
+    // The digits are printed from the last one,so the space is reserved by setLength first.
     if (sign) {
-      result[index++] = '-';
+      result.append('-');
     }
+    int index = result.length();
 
     // Values in the interval [1E-3, 1E7) are special.
     if (scientificNotation) {
       // Print in the format x.xxxxxE-yy.
+      result.setLength(index + olength + 1);
       for (int i = 0; i < olength - 1; i++) {
         int c = (int) (output % 10); output /= 10;
-        result[index + olength - i] = (char) ('0' + c);
+        result.setCharAt(index + olength - i, (char) ('0' + c));
       }
-      result[index] = (char) ('0' + output % 10);
-      result[index + 1] = '.';
-      index += olength + 1;
+      result.setCharAt(index, (char) ('0' + output % 10));
+      result.setCharAt(index + 1, '.');
       if (olength == 1) {
-        result[index++] = '0';
+        result.append('0');
       }
 
       // Print 'E', the exponent sign, and the exponent, which has at most three digits.
-      result[index++] = 'E';
+      result.append('E');
       if (exp < 0) {
-        result[index++] = '-';
+        result.append('-');
         exp = -exp;
       }
       if (exp >= 100) {
-        result[index++] = (char) ('0' + exp / 100);
+        result.append((char) ('0' + exp / 100));
         exp %= 100;
-        result[index++] = (char) ('0' + exp / 10);
+        result.append((char) ('0' + exp / 10));
       } else if (exp >= 10) {
-        result[index++] = (char) ('0' + exp / 10);
+        result.append((char) ('0' + exp / 10));
       }
-      result[index++] = (char) ('0' + exp % 10);
-      return new String(result, 0, index);
+      result.append((char) ('0' + exp % 10));
     } else {
       // Otherwise follow the Java spec for values in the interval [1E-3, 1E7).
       if (exp < 0) {
         // Decimal dot is before any of the digits.
-        result[index++] = '0';
-        result[index++] = '.';
+        result.append('0').append('.');
         for (int i = -1; i > exp; i--) {
-          result[index++] = '0';
+          result.append('0');
         }
-        int current = index;
+        int current = result.length();
+        result.setLength(current + olength);
         for (int i = 0; i < olength; i++) {
-          result[current + olength - i - 1] = (char) ('0' + output % 10);
+          result.setCharAt(current + olength - i - 1, (char) ('0' + output % 10));
           output /= 10;
-          index++;
         }
       } else if (exp + 1 >= olength) {
         // Decimal dot is after any of the digits.
+        result.setLength(index + olength);
         for (int i = 0; i < olength; i++) {
-          result[index + olength - i - 1] = (char) ('0' + output % 10);
+          result.setCharAt(index + olength - i - 1, (char) ('0' + output % 10));
           output /= 10;
         }
-        index += olength;
         for (int i = olength; i < exp + 1; i++) {
-          result[index++] = '0';
+          result.append('0');
         }
-        result[index++] = '.';
-        result[index++] = '0';
+        result.append('.').append('0');
       } else {
         // Decimal dot is somewhere between the digits.
+        result.setLength(index + olength + 1);
         int current = index + 1;
         for (int i = 0; i < olength; i++) {
           if (olength - i - 1 == exp) {
-            result[current + olength - i - 1] = '.';
+            result.setCharAt(current + olength - i - 1, '.');
             current--;
           }
-          result[current + olength - i - 1] = (char) ('0' + output % 10);
+          result.setCharAt(current + olength - i - 1, (char) ('0' + output % 10));
           output /= 10;
         }
-        index += olength + 1;
       }
-      return new String(result, 0, index);
     }
   }
 
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+package com.yf.afreesvg.util;
+
+/**
+ * A function that converts double values to the shortest string representation.
+ * <p>
+ * The geometry of canvas is float,when the value is exactly a float,it is formatted by {@link RyuFloat}
+ * as {@link Float#toString(float)},so 0.1f is "0.1" not "0.10000000149011612".
+ * Otherwise it is formatted by {@link RyuDouble} as {@link Double#toString(double)}.
+ * It is the default converter of SVGBaseCanvas.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+public class RyuDoubleConverter implements DoubleFunction<String>, DoubleAppender {
+
+    @Override
+    public String apply(double value) {
+        float f = (float) value;
+        return f == value ? RyuFloat.floatToString(f) : RyuDouble.doubleToString(value);
+    }
+
+    @Override
+    public void append(StringBuilder sb, double value) {
+        float f = (float) value;
+        if (f == value) {
+            RyuFloat.appendFloat(f, sb);
+        } else {
+            RyuDouble.appendDouble(value, sb);
+        }
+    }
+}
@@ -0,0 +1,706 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import com.yf.afreesvg.filter.SVGGaussianBlurFilter;
+import com.yf.afreesvg.gradient.SVGBaseLinearGradient;
+import com.yf.afreesvg.shape.SVGBaseShape;
+import com.yf.afreesvg.shape.SVGCircle;
+import com.yf.afreesvg.shape.SVGClipShape;
+import com.yf.afreesvg.shape.SVGLine;
+import com.yf.afreesvg.shape.SVGOval;
+import com.yf.afreesvg.shape.SVGPath;
+import com.yf.afreesvg.shape.SVGPointsShape;
+import com.yf.afreesvg.shape.SVGRect;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+public class SVGBaseCanvasTest {
+
+    @Test
+    public void drawWithBasePaint() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFillColor(0xffff0000);
+        canvas.drawRect(10, 10, 30, 40, paint);
+        paint.setFill(false);
+        paint.setStroke(true);
+        paint.setStrokeWidth(2);
+        paint.setStrokeLineCap(SVGPaintAttrs.LineCap.LINE_CAP_ROUND);
+        canvas.drawPolyline(new float[]{0, 0, 10, 10, 20, 0}, paint);
+        canvas.translate(5, 5);
+        canvas.drawOval(0, 0, 20, 10, paint);
+        String s = canvas.getSVGXmlString();
+        Assert.assertTrue(s.contains("<rect height=\"30.0\" style=\"fill:rgb(255,0,0);\" width=\"20.0\" x=\"10.0\" y=\"10.0\"/>"));
+        Assert.assertTrue(s.contains("<polyline points=\" 0.0,0.0 10.0,10.0 20.0,0.0\" style=\"stroke-width:2.0;stroke:rgb(0,0,0);stroke-linecap:round;fill:none;\"/>"));
+        Assert.assertTrue(s.contains("<ellipse cx=\"10.0\" cy=\"5.0\" rx=\"10.0\" ry=\"5.0\""));
+        Assert.assertTrue(s.contains("transform=\"matrix(1.0,0.0,0.0,1.0,5.0,5.0)\""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void drawPolygonLessPoints() throws Exception {
+        new SVGBaseCanvas(100, 100).drawPolygon(new float[]{0, 0, 1, 1}, new SVGBasePaint());
+    }
+
+    @Test
+    public void drawLines() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        canvas.drawLines(new float[]{9, 0, 0, 10, 10, 1, 1, 20, 20, 2}, 1, 8, paint);
+        Element element = (Element) canvas.getSVGElement().getLastChild();
+        Assert.assertEquals("path", element.getTagName());
+        Assert.assertEquals("M 0.0 0.0 L 10.0 10.0 M 1.0 1.0 L 20.0 20.0", element.getAttribute("d"));
+        Assert.assertEquals("stroke-width:1.0;stroke:rgb(0,0,0);fill:none;", element.getAttribute("style"));
+    }
+
+    @Test
+    public void drawPoints() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setStrokeWidth(3);
+        canvas.translate(5, 5);
+        canvas.drawPoints(new float[]{1, 2, 3, 4, 5}, paint);
+        Element element = (Element) canvas.getSVGElement().getLastChild();
+        Assert.assertEquals("M 1.0 2.0 h 0 M 3.0 4.0 h 0", element.getAttribute("d"));
+        Assert.assertEquals("stroke-width:3.0;stroke:rgb(0,0,0);fill:none;stroke-linecap:square;", element.getAttribute("style"));
+        Assert.assertEquals("matrix(1.0,0.0,0.0,1.0,5.0,5.0)", element.getAttribute("transform"));
+
+        paint.setStrokeLineCap(SVGPaintAttrs.LineCap.LINE_CAP_ROUND);
+        canvas.drawPoints(new float[]{1, 2}, paint);
+        element = (Element) canvas.getSVGElement().getLastChild();
+        Assert.assertEquals("stroke-width:3.0;stroke:rgb(0,0,0);stroke-linecap:round;fill:none;", element.getAttribute("style"));
+    }
+
+    @Test
+    public void drawRectsAndCircles() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFillColor(0xff00ff00);
+        canvas.drawRects(new float[]{0, 0, 10, 20, 5, 5, 6, 7}, paint);
+        canvas.drawCircles(new float[]{1, 2, 3, 4, 5, 6}, paint);
+        Element svg = canvas.getSVGElement();
+        Assert.assertEquals(2, svg.getChildNodes().getLength());
+
+        Element rects = (Element) svg.getFirstChild();
+        Assert.assertEquals("g", rects.getTagName());
+        Assert.assertEquals("fill:rgb(0,255,0);", rects.getAttribute("style"));
+        Assert.assertEquals(2, rects.getChildNodes().getLength());
+        Element rect = (Element) rects.getLastChild();
+        Assert.assertEquals("rect", rect.getTagName());
+        Assert.assertEquals("5.0", rect.getAttribute("x"));
+        Assert.assertEquals("1.0", rect.getAttribute("width"));
+        Assert.assertEquals("2.0", rect.getAttribute("height"));
+        Assert.assertFalse(rect.hasAttribute("style"));
+
+        Element circles = (Element) svg.getLastChild();
+        Assert.assertEquals(2, circles.getChildNodes().getLength());
+        Assert.assertEquals("6.0", ((Element) circles.getLastChild()).getAttribute("r"));
+    }
+
+    @Test
+    public void drawEmptyBatch() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.drawLines(new float[]{1, 2, 3}, new SVGBasePaint());
+        canvas.drawCircles(new float[0], new SVGBasePaint());
+        Assert.assertEquals(0, canvas.getSVGElement().getChildNodes().getLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void drawBatchOutOfRange() throws Exception {
+        new SVGBaseCanvas(100, 100).drawRects(new float[8], 4, 8, new SVGBasePaint());
+    }
+
+    private static Element lastElement(SVGBaseCanvas canvas) {
+        return (Element) canvas.getSVGElement().getLastChild();
+    }
+
+    @Test
+    public void reuseAttrsUntilChanged() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFillColor(0xff0000ff);
+        canvas.translate(1, 2);
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Element first = lastElement(canvas);
+        canvas.drawRect(1, 1, 2, 2, paint);
+        Element second = lastElement(canvas);
+        Assert.assertEquals(first.getAttribute("style"), second.getAttribute("style"));
+        Assert.assertEquals("matrix(1.0,0.0,0.0,1.0,1.0,2.0)", second.getAttribute("transform"));
+
+        paint.setFillColor(0xff00ff00);
+        canvas.translate(1, 0);
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Assert.assertEquals("fill:rgb(0,255,0);", lastElement(canvas).getAttribute("style"));
+        Assert.assertEquals("matrix(1.0,0.0,0.0,1.0,2.0,2.0)", lastElement(canvas).getAttribute("transform"));
+
+        canvas.getMatrix().postScale(2, 2);
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Assert.assertEquals("matrix(2.0,0.0,0.0,2.0,4.0,4.0)", lastElement(canvas).getAttribute("transform"));
+    }
+
+    @Test
+    public void changeDashInPlace() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFill(false);
+        paint.setStroke(true);
+        float[] dash = {1, 2};
+        paint.setDashArray(dash);
+        canvas.drawLine(0, 0, 1, 1, paint);
+        Assert.assertTrue(lastElement(canvas).getAttribute("style").contains("stroke-dasharray:1.0;2.0;"));
+        dash[1] = 3;
+        canvas.drawLine(0, 0, 1, 1, paint);
+        Assert.assertTrue(lastElement(canvas).getAttribute("style").contains("stroke-dasharray:1.0;3.0;"));
+        // the changed array of same hash code is not the same dash
+        String style = lastElement(canvas).getAttribute("style");
+        int hash = Arrays.hashCode(dash);
+        dash[0] = Float.intBitsToFloat(Float.floatToIntBits(dash[0]) + 1);
+        dash[1] = Float.intBitsToFloat(Float.floatToIntBits(dash[1]) - 31);
+        Assert.assertEquals(hash, Arrays.hashCode(dash));
+        canvas.drawLine(0, 0, 1, 1, paint);
+        Assert.assertNotEquals(style, lastElement(canvas).getAttribute("style"));
+    }
+
+    @Test
+    public void changeGradientInPlace() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        SVGBaseLinearGradient gradient = new SVGBaseLinearGradient(0, 0, 1, 0);
+        gradient.addStopColor(0, 0xffff0000L);
+        paint.setGradient(gradient);
+        canvas.drawRect(0, 0, 1, 1, paint);
+        String style = lastElement(canvas).getAttribute("style");
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Assert.assertEquals(style, lastElement(canvas).getAttribute("style"));
+        gradient.addStopColor(1, 0xff0000ffL);
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Assert.assertNotEquals(style, lastElement(canvas).getAttribute("style"));
+        Assert.assertEquals(2, canvas.getSVGElement().getElementsByTagName("linearGradient").getLength());
+    }
+
+    @Test
+    public void clipAndRestore() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        canvas.drawRect(0, 0, 1, 1, paint);
+        canvas.save();
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Assert.assertSame(canvas.getClipRef(), canvas.getClipRef());
+        canvas.save();
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 5, 5), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 1, 1, paint);
+        canvas.restore();
+        canvas.drawRect(0, 0, 1, 1, paint);
+        canvas.restore();
+        canvas.drawRect(0, 0, 1, 1, paint);
+        //getSVGElement restores the canvas,so check the elements after draw
+        NodeList rects = canvas.getSVGElement().getElementsByTagName("rect");
+        Assert.assertFalse(((Element) rects.item(2)).hasAttribute("clip-path"));
+        String clip0 = ((Element) rects.item(3)).getAttribute("clip-path");
+        Assert.assertNotEquals("", clip0);
+        Assert.assertNotEquals(clip0, ((Element) rects.item(4)).getAttribute("clip-path"));
+        Assert.assertEquals(clip0, ((Element) rects.item(5)).getAttribute("clip-path"));
+        Assert.assertFalse(((Element) rects.item(6)).hasAttribute("clip-path"));
+    }
+
+    @Test
+    public void styleClass() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setDefsKeyPrefix("p_");
+        canvas.setUseStyleClass(true);
+        SVGBasePaint paint = new SVGBasePaint();
+        SVGBasePaint other = new SVGBasePaint();
+        other.setFillColor(0xff00ff00);
+        for (int i = 0; i < 10; i++) {
+            canvas.drawRect(i, 0, i + 1, 1, paint);
+        }
+        canvas.drawRect(0, 0, 1, 1, other);
+        String svg = canvas.getSVGXmlString();
+        Assert.assertTrue(svg.contains("<style>.p_s0{fill:rgb(0,0,0);fill-opacity:0.0;}</style>"));
+        Assert.assertTrue(svg.contains("<rect class=\"p_s0\""));
+        //the style used once is kept inline
+        Assert.assertTrue(svg.contains("style=\"fill:rgb(0,255,0);\""));
+        Assert.assertTrue(canvas.getStyleClassSavedSize() > 0);
+
+        canvas.drawRect(0, 0, 1, 1, other);
+        svg = canvas.getSVGXmlString();
+        Assert.assertTrue(svg.contains("<style>.p_s0{fill:rgb(0,0,0);fill-opacity:0.0;}.p_s1{fill:rgb(0,255,0);}</style>"));
+        Assert.assertFalse(svg.contains("style=\""));
+    }
+
+    @Test
+    public void symbolInstancing() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setDefsKeyPrefix("p_");
+        canvas.setSymbolThreshold(2);
+        SVGBasePaint paint = new SVGBasePaint();
+        SVGPath path = new SVGPath();
+        path.moveTo(0, 0);
+        path.lineTo(10, 10);
+        for (int i = 0; i < 3; i++) {
+            canvas.save();
+            canvas.translate(i * 10, 0);
+            canvas.drawPath(path, paint);
+            canvas.restore();
+        }
+        //the changed path is another shape
+        path.lineTo(20, 0);
+        canvas.drawPath(path, paint);
+        Element svg = canvas.getSVGElement();
+        Assert.assertEquals(1, svg.getElementsByTagName("symbol").getLength());
+        Element symbol = (Element) svg.getElementsByTagName("symbol").item(0);
+        Assert.assertEquals("p_symbol-0", symbol.getAttribute("id"));
+        Assert.assertFalse(((Element) symbol.getFirstChild()).hasAttribute("style"));
+        NodeList uses = svg.getElementsByTagName("use");
+        Assert.assertEquals(2, uses.getLength());
+        Element use = (Element) uses.item(1);
+        Assert.assertEquals("#p_symbol-0", use.getAttribute("xlink:href"));
+        Assert.assertEquals("matrix(1.0,0.0,0.0,1.0,20.0,0.0)", use.getAttribute("transform"));
+        Assert.assertTrue(use.hasAttribute("style"));
+        //the first draw and the changed path keep the geometry
+        Assert.assertEquals(3, svg.getElementsByTagName("path").getLength());
+    }
+
+    @Test
+    public void symbolCandidates() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setSymbolThreshold(2);
+        SVGBasePaint paint = new SVGBasePaint();
+        SVGPath path = new SVGPath();
+        path.moveTo(0, 0);
+        path.lineTo(10, 10);
+        SVGPath copy = new SVGPath(path);
+        Assert.assertEquals(path.contentDigest(), copy.contentDigest());
+        canvas.drawPath(path, paint);
+        //the candidate is dropped after many other shapes are drawn
+        for (int i = 0; i < 2000; i++) {
+            SVGPath other = new SVGPath();
+            other.moveTo(i, 0);
+            canvas.drawPath(other, paint);
+        }
+        canvas.drawPath(copy, paint);
+        Element svg = canvas.getSVGElement();
+        Assert.assertEquals(0, svg.getElementsByTagName("symbol").getLength());
+        //the equal path uses the symbol,the changed path does not
+        canvas.drawPath(path, paint);
+        copy.lineTo(20, 0);
+        canvas.drawPath(copy, paint);
+        svg = canvas.getSVGElement();
+        Assert.assertEquals(1, svg.getElementsByTagName("symbol").getLength());
+        Assert.assertEquals(1, svg.getElementsByTagName("use").getLength());
+    }
+
+    @Test
+    public void defsWrittenOnce() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        for (int i = 0; i < 3; i++) {
+            canvas.save();
+            canvas.clip(new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE));
+            canvas.drawRect(0, 0, 1, 1, paint);
+            canvas.restore();
+            SVGBasePaint blurPaint = new SVGBasePaint();
+            blurPaint.setFilter(new SVGGaussianBlurFilter(2, 2));
+            canvas.drawRect(0, 0, 1, 1, blurPaint);
+        }
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 5, 5), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Element svg = canvas.getSVGElement();
+        Assert.assertEquals(2, svg.getElementsByTagName("clipPath").getLength());
+        Assert.assertEquals(1, svg.getElementsByTagName("filter").getLength());
+        NodeList rects = svg.getElementsByTagName("rect");
+        //the first 2 rects are in clip paths
+        Assert.assertEquals(((Element) rects.item(2)).getAttribute("clip-path"),
+                ((Element) rects.item(6)).getAttribute("clip-path"));
+        Assert.assertNotEquals(((Element) rects.item(2)).getAttribute("clip-path"),
+                ((Element) rects.item(8)).getAttribute("clip-path"));
+    }
+
+    @Test
+    public void pruneUnusedDefs() throws Exception {
+        String template = "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\">"
+                + "<defs><linearGradient id=\"a\" xlink:href=\"#b\"/><linearGradient id=\"b\"/>"
+                + "<linearGradient id=\"c\"/></defs>"
+                + "<rect fill=\"url(#a)\" width=\"1\" height=\"1\"/></svg>";
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100, null, false,
+                new ByteArrayInputStream(template.getBytes("UTF-8")));
+        canvas.setPruneUnusedDefs(true);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFilter(new SVGGaussianBlurFilter(2, 2));
+        canvas.saveLayer(0, 0, 10, 10);
+        canvas.drawRect(0, 0, 1, 1, paint);
+        canvas.clearLayer();
+        canvas.restore();
+        Element svg = canvas.getSVGElement();
+        Assert.assertEquals(2, svg.getElementsByTagName("linearGradient").getLength());
+        Assert.assertEquals(0, svg.getElementsByTagName("filter").getLength());
+        Assert.assertFalse(canvas.getSVGXmlString().contains("id=\"c\""));
+
+        //the pruned filter is added again
+        canvas.drawRect(0, 0, 1, 1, paint);
+        svg = canvas.getSVGElement();
+        Assert.assertEquals(1, svg.getElementsByTagName("filter").getLength());
+    }
+
+    private static String drawSeeded(long seed) throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setDefsKeySeed(seed);
+        canvas.setSymbolThreshold(2);
+        return drawSeeded(canvas);
+    }
+
+    private static String drawSeeded(SVGBaseCanvas canvas) throws Exception {
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFilter(new SVGGaussianBlurFilter(2, 2));
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 1, 1, paint);
+        SVGPath path = new SVGPath();
+        path.moveTo(0, 0);
+        path.lineTo(5, 5);
+        canvas.drawPath(path, new SVGBasePaint());
+        canvas.drawPath(path, new SVGBasePaint());
+        return canvas.getSVGXmlString();
+    }
+
+    @Test
+    public void deterministicIds() throws Exception {
+        String svg = drawSeeded(0xcafeL);
+        Assert.assertEquals(svg, drawSeeded(0xcafeL));
+        Assert.assertTrue(svg.contains("id=\"def_cafe_clip-0\""));
+        Assert.assertTrue(svg.contains("id=\"def_cafe_filter-0\""));
+        Assert.assertTrue(svg.contains("id=\"def_cafe_symbol-0\""));
+        Assert.assertNotEquals(svg, drawSeeded(1));
+        // the same drawing after clear has the same ids
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setDefsKeySeed(0xcafeL);
+        canvas.setSymbolThreshold(2);
+        drawSeeded(canvas);
+        long hash = canvas.getContentHash();
+        canvas.clear();
+        Assert.assertEquals(svg, drawSeeded(canvas));
+        Assert.assertEquals(hash, canvas.getContentHash());
+    }
+
+    private static SVGBaseCanvas drawScene(float x) throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setDefsKeySeed(1);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFilter(new SVGGaussianBlurFilter(2, 2));
+        canvas.saveLayer(0, 0, 50, 50);
+        canvas.drawRect(x, 0, 1, 1, paint);
+        canvas.restore();
+        canvas.drawCircle(5, 5, 5, null);
+        return canvas;
+    }
+
+    @Test
+    public void contentHash() throws Exception {
+        SVGBaseCanvas canvas = drawScene(0);
+        Assert.assertEquals(canvas.getContentHash(), drawScene(0).getContentHash());
+        Assert.assertNotEquals(canvas.getContentHash(), drawScene(1).getContentHash());
+        long hash = canvas.getContentHash();
+        canvas.getSVGXmlString();
+        Assert.assertEquals(hash, canvas.getContentHash());
+        canvas.clear();
+        Assert.assertEquals(new SVGBaseCanvas(100, 100).getContentHash(), canvas.getContentHash());
+    }
+
+    private static String drawClipped(SVGBaseCanvas canvas) throws Exception {
+        canvas.setDefsKeySeed(2);
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+        canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+        return canvas.getSVGXmlString();
+    }
+
+    @Test
+    public void reset() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setUseStyleClass(true);
+        canvas.setSymbolThreshold(1);
+        canvas.setFontSizeUnit(SVGUnits.EM);
+        canvas.setMatrix(new SVGMatrix());
+        canvas.translate(3, 3);
+        canvas.save();
+        drawClipped(canvas);
+
+        canvas.reset(200, 150);
+        SVGBaseCanvas fresh = new SVGBaseCanvas(200, 150);
+        Assert.assertEquals(fresh.getContentHash(), canvas.getContentHash());
+        Assert.assertEquals(0, canvas.getSaveCount());
+        Assert.assertTrue(canvas.getMatrix().isIdentity());
+        Assert.assertFalse(canvas.isUseStyleClass());
+        Assert.assertEquals(0, canvas.getSymbolThreshold());
+        Assert.assertEquals(SVGUnits.PX, canvas.getFontSizeUnit());
+        Assert.assertEquals(drawClipped(fresh), drawClipped(canvas));
+    }
+
+    @Test
+    public void clearClip() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+        canvas.clear();
+        canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+        // the clip is kept and its element is added to defs again
+        Assert.assertTrue(canvas.getSVGXmlString().contains("<clipPath"));
+    }
+
+    @Test
+    public void deepSaveRestore() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        SVGMatrix matrix = new SVGMatrix();
+        canvas.setMatrix(matrix);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(i + 1, i % 2 == 0 ? canvas.save() : canvas.save(SVGBaseCanvas.SAVE_FLAG_CLIP));
+            canvas.translate(1, 0);
+        }
+        Assert.assertTrue(matrix.isIdentity());
+        Assert.assertEquals(20, canvas.getMatrix().getValue(SVGMatrix.MTRANS_X), 0);
+        canvas.restoreToCount(10);
+        // the saves without matrix flag keep the translate
+        Assert.assertEquals(10, canvas.getMatrix().getValue(SVGMatrix.MTRANS_X), 0);
+        canvas.restore();
+        Assert.assertEquals(9, canvas.getSaveCount());
+        Assert.assertEquals(10, canvas.getMatrix().getValue(SVGMatrix.MTRANS_X), 0);
+        canvas.restore();
+        Assert.assertEquals(8, canvas.getMatrix().getValue(SVGMatrix.MTRANS_X), 0);
+        canvas.restoreToCount(0);
+        Assert.assertTrue(canvas.getMatrix().isIdentity());
+    }
+
+    @Test
+    public void frozenClip() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setDefsKeySeed(0);
+        SVGPath path = new SVGPath();
+        path.rect(0, 0, 10, 10);
+        SVGClipShape clipShape = new SVGClipShape(path, PosMode.MODE_USERSPACE);
+        canvas.clip(clipShape);
+        // the canvas keeps a frozen copy,the shapes of caller are mutable
+        Assert.assertFalse(clipShape.isFrozen());
+        Assert.assertFalse(path.isFrozen());
+        path.lineTo(20, 20);
+        clipShape.setPosMode(PosMode.MODE_BOX);
+        canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+        Element clipPath = (Element) canvas.getSVGElement().getElementsByTagName("clipPath").item(0);
+        Assert.assertEquals("userSpaceOnUse", clipPath.getAttribute("clipPathUnits"));
+        String d = ((Element) clipPath.getFirstChild()).getAttribute("d");
+        Assert.assertTrue(d.startsWith("M"));
+        Assert.assertFalse(d.contains("20"));
+        // the frozen clip is used without copy
+        SVGClipShape frozen = new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE);
+        frozen.freeze();
+        canvas.clip(frozen);
+        try {
+            frozen.setPosMode(PosMode.MODE_BOX);
+            Assert.fail();
+        } catch (IllegalStateException ignored) {
+        }
+        // the saves share the frozen clip
+        for (int i = 0; i < 5; i++) {
+            canvas.save();
+        }
+        canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+        canvas.restoreToCount(0);
+        canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+        Assert.assertEquals(2, canvas.getSVGElement().getElementsByTagName("clipPath").getLength());
+    }
+
+    @Test
+    public void clipCopyKeepsShape() throws Exception {
+        SVGPath path = new SVGPath();
+        path.rect(0, 0, 10, 10);
+        float[] points = {0, 0, 10, 0, 10, 10};
+        SVGBaseShape[] shapes = {new SVGRect(0, 0, 10, 10), new SVGCircle(5, 5, 5), new SVGOval(5, 5, 5, 3),
+                new SVGLine(0, 0, 10, 10), new SVGPointsShape(points, true), path};
+        for (SVGBaseShape shape : shapes) {
+            SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+            shape.setClipRule(SVGPaintAttrs.FillRule.FILL_RULE_EVENODD);
+            canvas.clip(new SVGClipShape(shape, PosMode.MODE_USERSPACE));
+            // the points changed after clip are not used
+            points[2] = 77;
+            canvas.drawRect(0, 0, 1, 1, new SVGBasePaint());
+            Element clipPath = (Element) canvas.getSVGElement().getElementsByTagName("clipPath").item(0);
+            Element clipElement = (Element) clipPath.getFirstChild();
+            Assert.assertEquals("evenodd", clipElement.getAttribute("clip-rule"));
+            Assert.assertFalse(clipElement.getAttribute("points").contains("77"));
+            points[2] = 10;
+        }
+    }
+
+    @Test
+    public void bakeTransform() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setBakeTransform(true);
+        SVGBasePaint paint = new SVGBasePaint();
+        canvas.translate(10, 20);
+        canvas.scale(2, 3);
+        canvas.drawRect(1, 1, 2, 3, paint);
+        Element rect = lastElement(canvas);
+        Assert.assertFalse(rect.hasAttribute("transform"));
+        Assert.assertEquals(22, Float.parseFloat(rect.getAttribute("x")), 0);
+        Assert.assertEquals(63, Float.parseFloat(rect.getAttribute("y")), 0);
+        Assert.assertEquals(2, Float.parseFloat(rect.getAttribute("width")), 0);
+        Assert.assertEquals(6, Float.parseFloat(rect.getAttribute("height")), 0);
+        // the circle needs uniform scale
+        canvas.drawCircle(0, 0, 1, paint);
+        Assert.assertTrue(lastElement(canvas).hasAttribute("transform"));
+        // the scale changes the stroke width
+        SVGBasePaint strokePaint = new SVGBasePaint();
+        strokePaint.setStroke(true);
+        canvas.drawLine(0, 0, 1, 1, strokePaint);
+        Assert.assertTrue(lastElement(canvas).hasAttribute("transform"));
+
+        canvas.resetTransform();
+        canvas.rotate(90, 0, 0);
+        canvas.drawLine(0, 0, 1, 1, strokePaint);
+        Element line = lastElement(canvas);
+        Assert.assertFalse(line.hasAttribute("transform"));
+        Assert.assertEquals(-1, Float.parseFloat(line.getAttribute("x2")), 0);
+        Assert.assertEquals(1, Float.parseFloat(line.getAttribute("y2")), 0);
+        SVGPath path = new SVGPath();
+        path.rect(0, 0, 2, 1);
+        canvas.drawPath(path, paint);
+        Element pathElement = lastElement(canvas);
+        Assert.assertFalse(pathElement.hasAttribute("transform"));
+        Assert.assertEquals("M 0.0 0.0 l 0.0 2.0 l -1.0 0.0 l 0.0 -2.0 l 1.0 0.0 ", pathElement.getAttribute("d"));
+        // the rotated arc keeps the shape,the skewed arc does not
+        path = new SVGPath();
+        path.oval(0, 0, 2, 1);
+        canvas.drawPath(path, paint);
+        Assert.assertFalse(lastElement(canvas).hasAttribute("transform"));
+        canvas.skew(0.5f, 0, 0, 0);
+        canvas.drawPath(path, paint);
+        Assert.assertTrue(lastElement(canvas).hasAttribute("transform"));
+        // the transform changes the clip
+        canvas.resetTransform();
+        canvas.translate(1, 1);
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 1, 1, paint);
+        Assert.assertTrue(lastElement(canvas).hasAttribute("transform"));
+    }
+
+    @Test
+    public void culling() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setCulling(true);
+        SVGBasePaint paint = new SVGBasePaint();
+        canvas.drawRect(200, 0, 210, 10, paint);
+        canvas.drawCircle(-5, 50, 4, paint);
+        Assert.assertFalse(canvas.getSVGElement().hasChildNodes());
+        // the stroke reaches the canvas
+        SVGBasePaint strokePaint = new SVGBasePaint();
+        strokePaint.setStroke(true);
+        strokePaint.setStrokeWidth(4);
+        canvas.drawLine(-1, 0, -1, 10, strokePaint);
+        Assert.assertEquals(1, canvas.getSVGElement().getChildNodes().getLength());
+        // the shape is mapped by the transform
+        canvas.translate(-200, 0);
+        canvas.drawRect(200, 0, 210, 10, paint);
+        Assert.assertEquals(2, canvas.getSVGElement().getChildNodes().getLength());
+        canvas.resetTransform();
+        // the shape out of the clip is dropped
+        canvas.save();
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 10, 10), PosMode.MODE_USERSPACE));
+        canvas.drawRect(20, 20, 30, 30, paint);
+        canvas.drawRect(5, 5, 30, 30, paint);
+        canvas.restore();
+        // the defs of clip is added too
+        Assert.assertEquals(4, canvas.getSVGElement().getChildNodes().getLength());
+        // the text bounds is unknown
+        canvas.drawText("text", 500, 500, paint);
+        Assert.assertEquals(5, canvas.getSVGElement().getChildNodes().getLength());
+        canvas.setCulling(false);
+        canvas.drawRect(200, 0, 210, 10, paint);
+        Assert.assertEquals(6, canvas.getSVGElement().getChildNodes().getLength());
+    }
+
+    @Test
+    public void drawWithIdNotSkipped() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setCulling(true);
+        canvas.setLevelOfDetail(1);
+        SVGBasePaint paint = new SVGBasePaint();
+        // the element with id can be referenced,it is not culled
+        canvas.drawRect(200, 0, 210, 10, paint, "out");
+        canvas.drawRect(200, 0, 210, 10, paint);
+        Assert.assertEquals(1, canvas.getSVGElement().getChildNodes().getLength());
+        Assert.assertEquals("out", lastElement(canvas).getAttribute("id"));
+        // and it is not merged into the pixel
+        canvas.drawCircle(10.2f, 10.2f, 0.1f, paint);
+        canvas.drawCircle(10.6f, 10.6f, 0.1f, paint, "merged");
+        canvas.drawCircle(10.4f, 10.4f, 0.1f, paint);
+        Assert.assertEquals(3, canvas.getSVGElement().getChildNodes().getLength());
+        Assert.assertEquals("merged", lastElement(canvas).getAttribute("id"));
+    }
+
+    @Test
+    public void levelOfDetail() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setLevelOfDetail(1);
+        SVGBasePaint paint = new SVGBasePaint();
+        SVGBasePaint redPaint = new SVGBasePaint();
+        redPaint.setFillColor(0xffff0000);
+        // the small shapes of same style in a pixel are merged
+        canvas.drawCircle(10.2f, 10.2f, 0.1f, paint);
+        canvas.drawCircle(10.6f, 10.6f, 0.1f, paint);
+        canvas.drawRect(10.1f, 10.1f, 10.2f, 10.2f, redPaint);
+        canvas.drawCircle(11.5f, 10.5f, 0.1f, paint);
+        Assert.assertEquals(3, canvas.getSVGElement().getChildNodes().getLength());
+        // the shape larger than a pixel is drawn
+        canvas.drawCircle(10.5f, 10.5f, 2, paint);
+        Assert.assertEquals(4, canvas.getSVGElement().getChildNodes().getLength());
+        // the pixel is computed after the transform
+        canvas.scale(10, 10);
+        canvas.drawCircle(1.02f, 1.02f, 0.01f, paint);
+        canvas.drawCircle(3, 3, 0.01f, paint);
+        Assert.assertEquals(5, canvas.getSVGElement().getChildNodes().getLength());
+
+        // the short segments are collapsed,the tolerance is mapped by the scale
+        SVGPath path = new SVGPath();
+        path.moveTo(0, 0);
+        path.lineTo(0.01f, 0.01f);
+        path.lineTo(0.02f, 0);
+        path.lineTo(5, 0);
+        path.lineTo(0.01f, 0, true);
+        path.curveTo(5.02f, 0.02f, 5.03f, 0, 5.04f, 0);
+        path.lineTo(0, 5, true);
+        path.closePath();
+        canvas.drawPath(path, paint);
+        Assert.assertEquals("M 0.0 0.0 L 5.0 0.0 l 0.03999996 5.0 Z ", lastElement(canvas).getAttribute("d"));
+        canvas.setLevelOfDetail(0);
+        canvas.drawPath(path, paint);
+        Assert.assertEquals(path.convertToSVGElement(canvas, canvas.getDocument(), canvas.getGeomDoubleConverter()).getAttribute("d"),
+                lastElement(canvas).getAttribute("d"));
+
+        // clear forgets the drawn pixels
+        canvas.setLevelOfDetail(1);
+        canvas.clear();
+        canvas.drawCircle(10.2f, 10.2f, 0.1f, paint);
+        Assert.assertEquals(1, canvas.getSVGElement().getChildNodes().getLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void levelOfDetailNegative() throws Exception {
+        new SVGBaseCanvas(100, 100).setLevelOfDetail(-1);
+    }
+}
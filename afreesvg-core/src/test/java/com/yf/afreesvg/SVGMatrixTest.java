@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SVGMatrixTest {
+
+    private static void assertValues(SVGMatrix matrix, float... expected) {
+        float[] values = new float[9];
+        matrix.getValues(values);
+        Assert.assertArrayEquals(expected, values, 1e-5f);
+    }
+
+    @Test
+    public void identity() {
+        SVGMatrix matrix = new SVGMatrix();
+        Assert.assertTrue(matrix.isIdentity());
+        assertValues(matrix, 1, 0, 0, 0, 1, 0, 0, 0, 1);
+        matrix.postTranslate(1, 2);
+        Assert.assertFalse(matrix.isIdentity());
+        matrix.reset();
+        Assert.assertTrue(matrix.isIdentity());
+    }
+
+    @Test
+    public void postTranslateScale() {
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.postTranslate(10, 20);
+        matrix.postScale(2, 3);
+        assertValues(matrix, 2, 0, 20, 0, 3, 60, 0, 0, 1);
+        matrix.reset();
+        matrix.postScale(2, 2, 10, 10);
+        assertValues(matrix, 2, 0, -10, 0, 2, -10, 0, 0, 1);
+    }
+
+    @Test
+    public void postRotate() {
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.postRotate(90);
+        Assert.assertEquals(0f, matrix.getValue(SVGMatrix.MSCALE_X), 0);
+        Assert.assertEquals(-1f, matrix.getValue(SVGMatrix.MSKEW_X), 0);
+        Assert.assertEquals(1f, matrix.getValue(SVGMatrix.MSKEW_Y), 0);
+        Assert.assertEquals(0f, matrix.getValue(SVGMatrix.MSCALE_Y), 0);
+        matrix.reset();
+        matrix.postRotate(180, 5, 5);
+        assertValues(matrix, -1, 0, 10, 0, -1, 10, 0, 0, 1);
+    }
+
+    @Test
+    public void postSkew() {
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.postSkew(0.5f, 0.25f, 4, 8);
+        assertValues(matrix, 1, 0.5f, -4, 0.25f, 1, -1, 0, 0, 1);
+    }
+
+    @Test
+    public void concat() {
+        SVGMatrix translate = new SVGMatrix();
+        translate.postTranslate(10, 0);
+        SVGMatrix scale = new SVGMatrix();
+        scale.postScale(2, 2);
+
+        SVGMatrix post = new SVGMatrix(translate);
+        post.postConcat(scale);
+        assertValues(post, 2, 0, 20, 0, 2, 0, 0, 0, 1);
+
+        SVGMatrix pre = new SVGMatrix(translate);
+        pre.preConcat(scale);
+        assertValues(pre, 2, 0, 10, 0, 2, 0, 0, 0, 1);
+    }
+
+    @Test
+    public void setValues() {
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.setValues(new float[]{1, 2, 3, 4, 5, 6, 0, 0, 1});
+        assertValues(matrix, 1, 2, 3, 4, 5, 6, 0, 0, 1);
+        SVGMatrix copy = new SVGMatrix(matrix);
+        Assert.assertEquals(matrix, copy);
+        Assert.assertEquals(matrix.hashCode(), copy.hashCode());
+        copy.postTranslate(1, 1);
+        Assert.assertNotEquals(matrix, copy);
+    }
+
+    @Test
+    public void generationId() {
+        SVGMatrix matrix = new SVGMatrix();
+        int id = matrix.getGenerationId();
+        matrix.getValues(new float[9]);
+        Assert.assertEquals(id, matrix.getGenerationId());
+        matrix.postTranslate(1, 1);
+        Assert.assertNotEquals(id, matrix.getGenerationId());
+        id = matrix.getGenerationId();
+        matrix.postRotate(30);
+        Assert.assertNotEquals(id, matrix.getGenerationId());
+        id = matrix.getGenerationId();
+        matrix.reset();
+        Assert.assertNotEquals(id, matrix.getGenerationId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getValuesShortArray() {
+        new SVGMatrix().getValues(new float[6]);
+    }
+
+    @Test
+    public void rectStaysRectAndMapPoints() {
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.postScale(2, 3);
+        matrix.postTranslate(1, 1);
+        Assert.assertTrue(matrix.rectStaysRect());
+        float[] pts = {1, 1, 2, 0};
+        matrix.mapPoints(pts);
+        Assert.assertArrayEquals(new float[]{3, 4, 5, 1}, pts, 0);
+        matrix.postRotate(90);
+        Assert.assertTrue(matrix.rectStaysRect());
+        matrix.postRotate(30);
+        Assert.assertFalse(matrix.rectStaysRect());
+        matrix.reset();
+        matrix.postScale(0, 1);
+        Assert.assertFalse(matrix.rectStaysRect());
+    }
+
+    @Test
+    public void maxScale() {
+        SVGMatrix matrix = new SVGMatrix();
+        Assert.assertEquals(1, matrix.getMaxScale(), 1e-6f);
+        matrix.postScale(2, 3);
+        Assert.assertEquals(3, matrix.getMaxScale(), 1e-6f);
+        matrix.postRotate(30);
+        matrix.postTranslate(100, 100);
+        Assert.assertEquals(3, matrix.getMaxScale(), 1e-5f);
+        matrix.reset();
+        matrix.postScale(0, 0);
+        Assert.assertEquals(0, matrix.getMaxScale(), 0);
+    }
+}
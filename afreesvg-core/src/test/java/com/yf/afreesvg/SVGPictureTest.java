@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import com.yf.afreesvg.font.SVGFont;
+import com.yf.afreesvg.gradient.SVGBaseLinearGradient;
+import com.yf.afreesvg.shape.SVGCircle;
+import com.yf.afreesvg.shape.SVGClipShape;
+import com.yf.afreesvg.shape.SVGPath;
+import com.yf.afreesvg.shape.SVGPointsShape;
+import com.yf.afreesvg.shape.SVGRect;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SVGPictureTest {
+
+    private static SVGBaseCanvas newCanvas() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.setDefsKeySeed(0);
+        return canvas;
+    }
+
+    private static SVGPicture recordScene() {
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFillColor(0xff00ff00);
+        recorder.save();
+        recorder.translate(10, 10);
+        recorder.clip(new SVGClipShape(new SVGRect(0, 0, 50, 50), PosMode.MODE_USERSPACE));
+        recorder.drawRect(0, 0, 20, 20, paint);
+        recorder.restore();
+        paint.setStroke(true);
+        paint.setStrokeWidth(2);
+        recorder.drawLine(0, 0, 100, 100, paint);
+        recorder.drawLines(new float[]{0, 0, 10, 10, 20, 20, 30, 30}, paint);
+        SVGPath path = new SVGPath();
+        path.moveTo(0, 0);
+        path.lineTo(50, 50);
+        recorder.drawPath(path, paint, "p");
+        path.lineTo(99, 99);
+        recorder.saveLayer(0, 0, 50, 50);
+        recorder.rotate(45, 10, 10);
+        recorder.drawCircle(10, 10, 5, paint);
+        recorder.drawText("hi", 5, 5, paint);
+        recorder.restore();
+        return recorder.finishRecording();
+    }
+
+    private static void drawScene(SVGBaseCanvas canvas) {
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFillColor(0xff00ff00);
+        canvas.save();
+        canvas.translate(10, 10);
+        canvas.clip(new SVGClipShape(new SVGRect(0, 0, 50, 50), PosMode.MODE_USERSPACE));
+        canvas.drawRect(0, 0, 20, 20, paint);
+        canvas.restore();
+        paint.setStroke(true);
+        paint.setStrokeWidth(2);
+        canvas.drawLine(0, 0, 100, 100, paint);
+        canvas.drawLines(new float[]{0, 0, 10, 10, 20, 20, 30, 30}, paint);
+        SVGPath path = new SVGPath();
+        path.moveTo(0, 0);
+        path.lineTo(50, 50);
+        canvas.drawPath(path, paint, "p");
+        canvas.saveLayer(0, 0, 50, 50);
+        canvas.rotate(45, 10, 10);
+        canvas.drawCircle(10, 10, 5, paint);
+        canvas.drawText("hi", 5, 5, paint);
+        canvas.restore();
+    }
+
+    @Test
+    public void replaySameAsDraw() throws Exception {
+        SVGPicture picture = recordScene();
+        Assert.assertEquals(13, picture.getOpCount());
+        SVGBaseCanvas direct = newCanvas();
+        drawScene(direct);
+        SVGBaseCanvas replay = newCanvas();
+        picture.draw(replay);
+        Assert.assertEquals(direct.getSVGXmlString(), replay.getSVGXmlString());
+    }
+
+    @Test
+    public void replayWithMatrix() throws Exception {
+        SVGBaseCanvas direct = newCanvas();
+        direct.translate(5, 6);
+        direct.scale(2, 2);
+        drawScene(direct);
+        SVGBaseCanvas replay = newCanvas();
+        replay.translate(5, 6);
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.postScale(2, 2);
+        recordScene().draw(replay, matrix);
+        Assert.assertEquals(direct.getSVGXmlString(), replay.getSVGXmlString());
+        Assert.assertEquals(0, replay.getSaveCount());
+        SVGMatrix translate = new SVGMatrix();
+        translate.postTranslate(5, 6);
+        Assert.assertEquals(translate, replay.getMatrix());
+    }
+
+    @Test
+    public void transformRelativeToMatrix() throws Exception {
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        recorder.translate(50, 50);
+        recorder.resetTransform();
+        recorder.drawRect(0, 0, 1, 1, paint);
+        SVGMatrix set = new SVGMatrix();
+        set.postTranslate(1, 2);
+        recorder.setMatrix(set);
+        recorder.drawRect(0, 0, 1, 1, paint);
+        // the restores without save are not recorded
+        recorder.restore();
+        recorder.restoreToCount(0);
+        SVGPicture picture = recorder.finishRecording();
+        Assert.assertEquals(5, picture.getOpCount());
+
+        SVGBaseCanvas canvas = newCanvas();
+        int count = canvas.save();
+        SVGMatrix matrix = new SVGMatrix();
+        matrix.postTranslate(10, 20);
+        picture.draw(canvas, matrix);
+        Assert.assertEquals(count, canvas.getSaveCount());
+        String s = canvas.getSVGXmlString();
+        Assert.assertTrue(s.contains("transform=\"matrix(1.0,0.0,0.0,1.0,10.0,20.0)\""));
+        Assert.assertTrue(s.contains("transform=\"matrix(1.0,0.0,0.0,1.0,11.0,22.0)\""));
+    }
+
+    @Test
+    public void paintCopiedWhenRecord() throws Exception {
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setFillColor(0xffff0000);
+        recorder.drawRect(0, 0, 10, 10, paint);
+        paint.setFillColor(0xff0000ff);
+        float[] dash = {1, 2};
+        paint.setDashArray(dash);
+        recorder.drawRect(0, 0, 10, 10, paint);
+        // the in place change of dash array is checked
+        dash[0] = 3;
+        recorder.drawRect(0, 0, 10, 10, paint);
+        dash[0] = 4;
+        SVGBaseCanvas canvas = newCanvas();
+        recorder.finishRecording().draw(canvas);
+        String s = canvas.getSVGXmlString();
+        Assert.assertTrue(s.contains("fill:rgb(255,0,0)"));
+        Assert.assertTrue(s.contains("fill:rgb(0,0,255)"));
+        Assert.assertFalse(s.contains("4.0"));
+    }
+
+    @Test
+    public void replayFromThreads() throws Exception {
+        final SVGPicture picture = recordScene();
+        SVGBaseCanvas canvas = newCanvas();
+        picture.draw(canvas);
+        String expected = canvas.getSVGXmlString();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        SVGBaseCanvas canvas = newCanvas();
+                        picture.draw(canvas);
+                        return canvas.getSVGXmlString();
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                Assert.assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void writeAndMap() throws Exception {
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setStroke(true);
+        paint.setDashArray(new float[]{2, 1});
+        paint.setFont(new SVGFont.Builder().setFontFamily("serif").setFontSize(12).build());
+        SVGPath path = new SVGPath();
+        path.moveTo(1, 1);
+        path.lineTo(2, 2, true);
+        path.smoothCurveTo(3, 3, 4, 4);
+        path.ellipticalArc(5, 5, 0, 1, 0, 6, 6);
+        path.closePath();
+        recorder.save();
+        recorder.scale(2, 3, 1, 1);
+        recorder.clip(new SVGClipShape(path, PosMode.MODE_USERSPACE));
+        recorder.drawPath(path, paint, "p");
+        recorder.drawPolygon(new float[]{0, 0, 5, 0, 5, 5}, paint);
+        recorder.restore();
+        recorder.drawShape(new SVGCircle(5, 5, 2), paint);
+        recorder.drawTextOnPath("text", 1, 2, 3, 4, path, paint, null);
+        recorder.drawText("text", 1, 2, paint, "t");
+        recorder.drawRects(new float[]{0, 0, 1, 1, 2, 2, 3, 3}, paint);
+        SVGPicture picture = recorder.finishRecording();
+
+        SVGBaseCanvas expected = newCanvas();
+        picture.draw(expected);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[3]);
+        picture.writeTo(out);
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        buffer.position(3);
+        SVGMappedPicture mapped = new SVGMappedPicture(buffer);
+        Assert.assertEquals(picture.getOpCount(), mapped.getOpCount());
+        Assert.assertEquals(100, mapped.getWidth(), 0);
+        SVGBaseCanvas canvas = newCanvas();
+        mapped.draw(canvas);
+        Assert.assertEquals(expected.getSVGXmlString(), canvas.getSVGXmlString());
+        Assert.assertEquals(3, buffer.position());
+
+        File file = File.createTempFile("picture", ".bin");
+        try {
+            FileOutputStream fileOut = new FileOutputStream(file);
+            try {
+                picture.writeTo(fileOut);
+            } finally {
+                fileOut.close();
+            }
+            canvas = newCanvas();
+            SVGMappedPicture.map(file).draw(canvas);
+            Assert.assertEquals(expected.getSVGXmlString(), canvas.getSVGXmlString());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void shapeCopiedWhenRecord() throws Exception {
+        float[] points = {0, 0, 10, 0, 10, 10};
+        SVGPointsShape shape = new SVGPointsShape(points, true);
+        SVGBasePaint paint = new SVGBasePaint();
+        SVGBaseCanvas direct = newCanvas();
+        direct.drawShape(shape, paint);
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+        recorder.drawShape(shape, paint);
+        SVGPicture picture = recorder.finishRecording();
+        // the change after record is not replayed
+        points[2] = 99;
+        SVGBaseCanvas replay = newCanvas();
+        picture.draw(replay);
+        Assert.assertEquals(direct.getSVGXmlString(), replay.getSVGXmlString());
+    }
+
+    @Test
+    public void nullPaint() throws Exception {
+        SVGBaseCanvas direct = newCanvas();
+        direct.drawRect(0, 0, 10, 10, null);
+        direct.drawLine(0, 0, 10, 10, null, "l");
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+        recorder.drawRect(0, 0, 10, 10, null);
+        recorder.drawLine(0, 0, 10, 10, null, "l");
+        SVGPicture picture = recorder.finishRecording();
+        SVGBaseCanvas replay = newCanvas();
+        picture.draw(replay);
+        Assert.assertEquals(direct.getSVGXmlString(), replay.getSVGXmlString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        picture.writeTo(out);
+        SVGBaseCanvas mapped = newCanvas();
+        new SVGMappedPicture(ByteBuffer.wrap(out.toByteArray())).draw(mapped);
+        Assert.assertEquals(direct.getSVGXmlString(), mapped.getSVGXmlString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void writeGradient() throws Exception {
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(100, 100);
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setGradient(new SVGBaseLinearGradient(0, 0, 1, 1));
+        recorder.drawRect(0, 0, 10, 10, paint);
+        recorder.finishRecording().writeTo(new ByteArrayOutputStream());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mapNotPicture() {
+        new SVGMappedPicture(ByteBuffer.wrap(new byte[64]));
+    }
+}
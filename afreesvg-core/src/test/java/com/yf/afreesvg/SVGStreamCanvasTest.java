@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import com.yf.afreesvg.gradient.SVGBaseLinearGradient;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+public class SVGStreamCanvasTest {
+
+    private void draw(SVGBaseCanvas canvas) {
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setColor(0xffff0000);
+        canvas.drawRect(1, 2, 3, 4, paint);
+        canvas.saveLayer(0, 0, 10, 10);
+        canvas.drawText("a<b&c", 1, 2, paint);
+        canvas.saveLayer(0, 0, 10, 10);
+        canvas.restore();
+        canvas.drawLine(1, 2, 3, 4, paint);
+        canvas.restore();
+        canvas.saveLayer(0, 0, 10, 10);
+    }
+
+    @Test
+    public void sameAsDomWithoutDefs() throws Exception {
+        SVGBaseCanvas domCanvas = new SVGBaseCanvas(100, 100);
+        draw(domCanvas);
+
+        StringWriter writer = new StringWriter();
+        SVGStreamCanvas streamCanvas = new SVGStreamCanvas(100, 100, writer);
+        draw(streamCanvas);
+        streamCanvas.endDocument();
+
+        Assert.assertEquals(domCanvas.getSVGXmlString(), writer.toString());
+    }
+
+    @Test
+    public void emptyDocument() throws Exception {
+        StringWriter writer = new StringWriter();
+        SVGStreamCanvas streamCanvas = new SVGStreamCanvas(10, 10, writer);
+        streamCanvas.endDocument();
+        Assert.assertEquals(new SVGBaseCanvas(10, 10).getSVGXmlString(), writer.toString());
+    }
+
+    @Test
+    public void writeWhenDrawing() throws Exception {
+        StringWriter writer = new StringWriter();
+        SVGStreamCanvas streamCanvas = new SVGStreamCanvas(10, 10, writer);
+        streamCanvas.startDocument();
+        streamCanvas.flush();
+        Assert.assertTrue(writer.toString().contains("<svg"));
+
+        streamCanvas.drawLine(1, 2, 3, 4, new SVGBasePaint());
+        streamCanvas.flush();
+        Assert.assertTrue(writer.toString().contains("<line"));
+    }
+
+    @Test
+    public void defsBeforeReference() throws Exception {
+        StringWriter writer = new StringWriter();
+        SVGStreamCanvas streamCanvas = new SVGStreamCanvas(10, 10, writer);
+        streamCanvas.setDefsKeyPrefix("s_");
+        SVGBasePaint paint = new SVGBasePaint();
+        SVGBaseLinearGradient gradient = new SVGBaseLinearGradient(0, 0, 1, 0);
+        gradient.addStopColor(0, 0xffff0000);
+        paint.setGradient(gradient);
+        streamCanvas.drawRect(1, 2, 3, 4, paint);
+        streamCanvas.drawRect(1, 2, 3, 4, paint);
+        streamCanvas.endDocument();
+
+        String svg = writer.toString();
+        int defs = svg.indexOf("<linearGradient id=\"s_gp0\"");
+        Assert.assertTrue(defs > 0);
+        Assert.assertTrue(defs < svg.indexOf("<rect"));
+        Assert.assertEquals(defs, svg.lastIndexOf("<linearGradient"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getSVGXmlString() throws Exception {
+        new SVGStreamCanvas(10, 10, new StringWriter()).getSVGXmlString();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void drawAfterEnd() throws Exception {
+        SVGStreamCanvas streamCanvas = new SVGStreamCanvas(10, 10, new StringWriter());
+        streamCanvas.endDocument();
+        streamCanvas.drawLine(1, 2, 3, 4, new SVGBasePaint());
+    }
+}
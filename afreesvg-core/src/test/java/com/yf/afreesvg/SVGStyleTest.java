@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SVGStyleTest {
+
+    private static SVGBasePaint strokePaint() {
+        SVGBasePaint paint = new SVGBasePaint();
+        paint.setStroke(true);
+        paint.setFill(false);
+        paint.setColor(0x80ff0000);
+        paint.setStrokeWidth(2);
+        paint.setStrokeLineCap(SVGPaintAttrs.LineCap.LINE_CAP_ROUND);
+        paint.setDashArray(new float[]{1, 2});
+        return paint;
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        SVGStyle style = new SVGStyle.Builder(strokePaint()).build();
+        SVGStyle same = new SVGStyle.Builder(strokePaint()).build();
+        Assert.assertEquals(style, same);
+        Assert.assertEquals(style.hashCode(), same.hashCode());
+        SVGStyle other = new SVGStyle.Builder(strokePaint()).setDashArray(new float[]{1, 3}).build();
+        Assert.assertNotEquals(style, other);
+    }
+
+    @Test
+    public void copyDashArray() {
+        float[] dash = {1, 2};
+        SVGStyle style = new SVGStyle.Builder().setDashArray(dash).build();
+        dash[1] = 3;
+        Assert.assertArrayEquals(new float[]{1, 2}, style.getDashArray(), 0);
+    }
+
+    @Test
+    public void sameStyleAsPaint() throws Exception {
+        SVGBasePaint paint = strokePaint();
+        SVGBaseCanvas canvas = new SVGBaseCanvas(100, 100);
+        canvas.drawLine(0, 0, 1, 1, paint);
+        canvas.drawLine(0, 0, 1, 1, new SVGStyle.Builder(paint).build());
+        canvas.drawLine(0, 0, 1, 1, new SVGStyle.Builder(paint).build());
+        String svg = canvas.getSVGXmlString();
+        String style = "style=\"stroke-width:2.0;stroke:rgb(255,0,0);stroke-opacity:0.5019608;"
+                + "stroke-linecap:round;stroke-dasharray:1.0;2.0;fill:none;\"";
+        int count = 0;
+        for (int i = svg.indexOf(style); i >= 0; i = svg.indexOf(style, i + 1)) {
+            count++;
+        }
+        Assert.assertEquals(3, count);
+    }
+}
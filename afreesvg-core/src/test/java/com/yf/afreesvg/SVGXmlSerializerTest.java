@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+/**
+ * The expected strings are the output of jdk 9+ indenting identity transformer
+ */
+public class SVGXmlSerializerTest {
+    private static final String PROLOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<!DOCTYPE svg PUBLIC \"" + SVGBaseCanvas.DOCTYPE_PUBLIC_ID + "\" \"" + SVGBaseCanvas.DOCTYPE_SYSTEM_ID + "\">\n";
+
+    private Document document;
+    private Element svg;
+
+    @Before
+    public void setUp() throws Exception {
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        svg = document.createElement("svg");
+        svg.setAttribute("xmlns", "http://www.w3.org/2000/svg");
+        svg.setAttribute("xmlns:xlink", "http://www.w3.org/1999/xlink");
+        svg.setAttribute("width", "10");
+        document.appendChild(svg);
+    }
+
+    private Element append(Element parent, String name) {
+        Element element = document.createElement(name);
+        parent.appendChild(element);
+        return element;
+    }
+
+    private void assertDocument(String expected) throws Exception {
+        StringWriter writer = new StringWriter();
+        new SVGXmlSerializer(writer).writeDocument(document, SVGBaseCanvas.DOCTYPE_PUBLIC_ID, SVGBaseCanvas.DOCTYPE_SYSTEM_ID);
+        Assert.assertEquals(expected, writer.toString());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new SVGXmlSerializer(outputStream).writeDocument(document, SVGBaseCanvas.DOCTYPE_PUBLIC_ID, SVGBaseCanvas.DOCTYPE_SYSTEM_ID);
+        Assert.assertEquals(expected, outputStream.toString("UTF-8"));
+    }
+
+    @Test
+    public void emptyRoot() throws Exception {
+        assertDocument(PROLOG
+                + "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"10\"/>\n");
+    }
+
+    @Test
+    public void nestedElements() throws Exception {
+        Element g = append(svg, "g");
+        Element rect = append(g, "rect");
+        rect.setAttribute("x", "1");
+        rect.setAttribute("xmlns", "http://www.w3.org/2000/svg");
+        append(append(g, "g"), "line");
+        append(svg, "g");
+        assertDocument(PROLOG
+                + "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"10\">\n"
+                + "    <g>\n"
+                + "        <rect x=\"1\"/>\n"
+                + "        <g>\n"
+                + "            <line/>\n"
+                + "        </g>\n"
+                + "    </g>\n"
+                + "    <g/>\n"
+                + "</svg>\n");
+    }
+
+    @Test
+    public void escape() throws Exception {
+        Element text = append(svg, "text");
+        text.setAttribute("font-family", "a\"b'c<d>e&f\tg\nh\r\u0001é😀");
+        text.setTextContent("a\"b'c<d>e&f\tg\nh\r\u0001\u007f\u0085é😀]]>");
+        assertDocument(PROLOG
+                + "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"10\">\n"
+                + "    <text font-family=\"a&quot;b'c&lt;d&gt;e&amp;f&#9;g&#10;h&#13;&#1;é&#128512;\">"
+                + "a\"b'c&lt;d&gt;e&amp;f\tg\nh&#13;&#1;&#127;&#133;é&#128512;]]&gt;</text>\n"
+                + "</svg>\n");
+    }
+
+    @Test
+    public void mixedContent() throws Exception {
+        Element text = append(svg, "text");
+        text.appendChild(document.createTextNode("a"));
+        append(text, "tspan").setTextContent("b");
+        text.appendChild(document.createTextNode("\nc"));
+        assertDocument(PROLOG
+                + "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"10\">\n"
+                + "    <text>\n"
+                + "        a\n"
+                + "        <tspan>b</tspan>\n"
+                + "        c\n"
+                + "    </text>\n"
+                + "</svg>\n");
+    }
+
+    @Test
+    public void commentAndCDATA() throws Exception {
+        document.insertBefore(document.createComment("lead"), svg);
+        svg.appendChild(document.createComment("a--b-"));
+        svg.appendChild(document.createProcessingInstruction("pi", "x?>y"));
+        Element style = append(svg, "style");
+        style.appendChild(document.createCDATASection("a<b]]>c\u0001"));
+        append(svg, "g").appendChild(document.createCDATASection("x"));
+        svg.appendChild(document.createCDATASection("y"));
+        assertDocument("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!--lead--><!DOCTYPE svg PUBLIC \"" + SVGBaseCanvas.DOCTYPE_PUBLIC_ID + "\" \"" + SVGBaseCanvas.DOCTYPE_SYSTEM_ID + "\">\n"
+                + "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"10\">\n"
+                + "    <!--a- -b- -->\n"
+                + "    <?pi x? >y?>\n"
+                + "    <style><![CDATA[a<b]]]]><![CDATA[>c]]>&#1;</style>\n"
+                + "    <g><![CDATA[x]]></g>\n"
+                + "    <![CDATA[y]]>\n"
+                + "</svg>\n");
+    }
+
+    @Test
+    public void preserveSpace() throws Exception {
+        Element text = append(svg, "text");
+        text.setAttribute("xml:space", "preserve");
+        text.appendChild(document.createTextNode(" a "));
+        append(text, "tspan").setTextContent(" b ");
+        append(svg, "g");
+        assertDocument(PROLOG
+                + "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"10\">\n"
+                + "    <text xml:space=\"preserve\"> a <tspan> b </tspan></text>\n"
+                + "    <g/>\n"
+                + "</svg>\n");
+    }
+
+    @Test
+    public void writeElementByElement() throws Exception {
+        Element g = append(svg, "g");
+        append(g, "rect").setAttribute("x", "1");
+        append(g, "line");
+        StringWriter expected = new StringWriter();
+        new SVGXmlSerializer(expected).writeDocument(document, SVGBaseCanvas.DOCTYPE_PUBLIC_ID, SVGBaseCanvas.DOCTYPE_SYSTEM_ID);
+
+        StringWriter writer = new StringWriter();
+        SVGXmlSerializer serializer = new SVGXmlSerializer(writer);
+        serializer.startDocument(SVGBaseCanvas.DOCTYPE_PUBLIC_ID, SVGBaseCanvas.DOCTYPE_SYSTEM_ID);
+        serializer.startElement(svg);
+        serializer.startElement(g);
+        Assert.assertEquals(2, serializer.getDepth());
+        serializer.writeElement((Element) g.getFirstChild());
+        serializer.writeElement((Element) g.getLastChild());
+        serializer.endElement();
+        serializer.endElement();
+        serializer.endDocument();
+        Assert.assertEquals(0, serializer.getDepth());
+        Assert.assertEquals(expected.toString(), writer.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endWithoutStart() throws Exception {
+        new SVGXmlSerializer(new StringWriter()).endElement();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.shape;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.util.DoubleFunction;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.util.Iterator;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+public class SVGPathTest {
+    private static final DoubleFunction<String> CONVERT = value -> String.valueOf((float) value);
+    private SVGBaseCanvas canvas;
+    private Document document;
+
+    @Before
+    public void setUp() throws Exception {
+        canvas = new SVGBaseCanvas(100, 100);
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    }
+
+    private SVGPath createPath() {
+        SVGPath path = new SVGPath();
+        path.moveTo(1, 2);
+        path.lineTo(3, 4, true);
+        path.horizontalLineTo(5);
+        path.verticalLineTo(6, true);
+        path.curveTo(1, 2, 3, 4, 5, 6);
+        path.quadraticBelzierCurve(1, 2, 3, 4);
+        path.smoothQuadraticBelzierCurve(1, 2);
+        path.ellipticalArc(1, 2, 3, 1, 0, 4, 5);
+        path.closePath();
+        return path;
+    }
+
+    @Test
+    public void convertToSVGElement() {
+        Element element = createPath().convertToSVGElement(canvas, document, CONVERT);
+        Assert.assertEquals("path", element.getTagName());
+        Assert.assertEquals("M 1.0 2.0 l 3.0 4.0 H 5.0 v 6.0 C 1.0 2.0 3.0 4.0 5.0 6.0 "
+                        + "Q 1.0 2.0 3.0 4.0 T 1.0 2.0 A 1.0 2.0 3.0 1 0 4.0 5.0 Z ",
+                element.getAttribute("d"));
+    }
+
+    @Test
+    public void iterator() {
+        SVGPath path = createPath();
+        StringBuilder sb = new StringBuilder();
+        Iterator<SVGPath.SVGPathElement> iterator = path.iterator();
+        SVGPath.SVGPathElement first = iterator.next();
+        Assert.assertEquals(SVGPath.SVGPathElement.PathElementType.M, first.getType());
+        Assert.assertArrayEquals(new float[]{1, 2}, first.getData(), 0);
+        sb.append(first.valueStr(CONVERT));
+        int count = 1;
+        while (iterator.hasNext()) {
+            sb.append(iterator.next().valueStr(CONVERT));
+            ++count;
+        }
+        Assert.assertEquals(9, count);
+        Assert.assertEquals(path.convertToSVGElement(canvas, document, CONVERT).getAttribute("d"), sb.toString());
+    }
+
+    @Test
+    public void smoothCurveData() {
+        SVGPath path = new SVGPath();
+        path.moveTo(1, 2);
+        path.smoothCurveTo(1, 2, 3, 4, true);
+        Iterator<SVGPath.SVGPathElement> iterator = path.iterator();
+        iterator.next();
+        SVGPath.SVGPathElement curve = iterator.next();
+        Assert.assertTrue(curve.isRelative());
+        Assert.assertArrayEquals(new float[]{1, 2, 3, 4}, curve.getData(), 0);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void largePath() {
+        SVGPath path = new SVGPath();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            path.lineTo(i, -i);
+            sb.append("L ").append((float) i).append(' ').append((float) -i).append(' ');
+        }
+        Assert.assertEquals(sb.toString(), path.convertToSVGElement(canvas, document, CONVERT).getAttribute("d"));
+    }
+
+    @Test
+    public void equalsAndClone() {
+        SVGPath path = createPath();
+        SVGPath clone = (SVGPath) path.clone();
+        Assert.assertEquals(path, clone);
+        Assert.assertEquals(path.hashCode(), clone.hashCode());
+
+        clone.lineTo(1, 1);
+        Assert.assertNotEquals(path, clone);
+        Assert.assertEquals(createPath(), path);
+
+        SVGPath relative = new SVGPath();
+        relative.moveTo(1, 2, true);
+        SVGPath absolute = new SVGPath();
+        absolute.moveTo(1, 2);
+        Assert.assertNotEquals(relative, absolute);
+    }
+}
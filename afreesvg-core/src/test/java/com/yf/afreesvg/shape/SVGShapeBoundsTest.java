@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.shape;
+
+import com.yf.afreesvg.PosMode;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SVGShapeBoundsTest {
+
+    private static void assertBounds(SVGShape shape, float... expected) {
+        float[] bounds = new float[4];
+        Assert.assertTrue(shape.computeBounds(bounds));
+        Assert.assertArrayEquals(expected, bounds, 1e-4f);
+    }
+
+    @Test
+    public void basicShapes() {
+        assertBounds(new SVGRect(10, 20, -5, 5), 5, 20, 10, 25);
+        assertBounds(new SVGCircle(1, 2, 3), -2, -1, 4, 5);
+        assertBounds(new SVGOval(0, 0, 2, 1), -2, -1, 2, 1);
+        assertBounds(new SVGLine(3, 0, 1, 4), 1, 0, 3, 4);
+        assertBounds(new SVGPointsShape(new float[]{0, 5, 4, -1, 2, 2}, true), 0, -1, 4, 5);
+        Assert.assertFalse(new SVGPointsShape(new float[0], false).computeBounds(new float[4]));
+    }
+
+    @Test
+    public void pathBounds() {
+        SVGPath path = new SVGPath();
+        path.moveTo(1, 1, true);
+        path.horizontalLineTo(4, true);
+        path.verticalLineTo(-2);
+        path.closePath();
+        assertBounds(path, 1, -2, 5, 1);
+
+        // the control points bound the curve
+        path = new SVGPath();
+        path.moveTo(0, 0);
+        path.curveTo(0, 10, 10, 10, 10, 0);
+        path.smoothCurveTo(20, -10, 20, 0);
+        assertBounds(path, 0, -10, 20, 10);
+
+        // the half circle arc from 0,0 to 10,0 goes down to y 5
+        path = new SVGPath();
+        path.moveTo(0, 0);
+        path.ellipticalArc(5, 5, 0, 0, 1, 10, 0);
+        float[] bounds = new float[4];
+        Assert.assertTrue(path.computeBounds(bounds));
+        Assert.assertTrue(bounds[0] <= 0 && bounds[2] >= 10 && bounds[1] <= -5 && bounds[3] >= 5);
+        // the too small radii are scaled up
+        path = new SVGPath();
+        path.moveTo(0, 0);
+        path.ellipticalArc(1, 1, 0, 0, 1, 0, 10);
+        Assert.assertTrue(path.computeBounds(bounds));
+        Assert.assertTrue(bounds[0] <= -5 && bounds[2] >= 5);
+
+        Assert.assertFalse(new SVGPath().computeBounds(bounds));
+    }
+
+    @Test
+    public void groupAndClipBounds() {
+        SVGShapeGroup group = new SVGShapeGroup();
+        group.addShape(new SVGRect(0, 0, 1, 1));
+        group.addShape(new SVGCircle(10, 10, 1));
+        assertBounds(group, 0, 0, 11, 11);
+        float[] bounds = new float[4];
+        Assert.assertTrue(new SVGClipShape(group, PosMode.MODE_USERSPACE).computeBounds(bounds));
+        Assert.assertFalse(new SVGClipShape(group, PosMode.MODE_BOX).computeBounds(bounds));
+        group.addShape(new SVGTextPath.Builder().setText("text").build());
+        Assert.assertFalse(group.computeBounds(bounds));
+    }
+}
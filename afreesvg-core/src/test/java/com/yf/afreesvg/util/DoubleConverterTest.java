@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * The expected strings are the output of DecimalFormat with US symbols
+ */
+@RunWith(Parameterized.class)
+public class DoubleConverterTest {
+    private int dp;
+    private double value;
+    private String halfEven;
+    private String halfUp;
+
+    public DoubleConverterTest(int dp, double value, String halfEven, String halfUp) {
+        this.dp = dp;
+        this.value = value;
+        this.halfEven = halfEven;
+        this.halfUp = halfUp;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {1, 0, "0", "0"},
+                {1, -0.0, "-0", "-0"},
+                {2, -0.001, "-0", "-0"},
+                {1, 1, "1", "1"},
+                {2, 1.5, "1.5", "1.5"},
+                {2, 0.125, "0.12", "0.13"},
+                {2, 0.375, "0.38", "0.38"},
+                {2, 2.675, "2.67", "2.67"},
+                {2, 1.005, "1", "1"},
+                {2, 9.995, "9.99", "9.99"},
+                {2, 9.9951, "10", "10"},
+                {3, -12.0625, "-12.062", "-12.063"},
+                {4, 0.00015, "0.0001", "0.0001"},
+                {4, 0.00025, "0.0003", "0.0003"},
+                {5, 0.1, "0.1", "0.1"},
+                {5, 0.1f, "0.1", "0.1"},
+                {10, 0.1f, "0.1000000015", "0.1000000015"},
+                {10, 1.0E-10, "0.0000000001", "0.0000000001"},
+                {1, 123456789.25, "123456789.2", "123456789.3"},
+                {2, 5.2706290791945445E13, "52706290791945.45", "52706290791945.45"},
+                {1, 1.0E20, "100000000000000000000", "100000000000000000000"},
+                {1, Double.NaN, "NaN", "NaN"},
+                {1, Double.NEGATIVE_INFINITY, "-∞", "-∞"}
+        });
+    }
+
+    @Test
+    public void halfEven() {
+        DoubleConverter converter = new DoubleConverter(dp);
+        Assert.assertEquals(halfEven, converter.apply(value));
+        StringBuilder sb = new StringBuilder("x=");
+        converter.append(sb, value);
+        Assert.assertEquals("x=" + halfEven, sb.toString());
+    }
+
+    @Test
+    public void halfUp() {
+        DoubleConverter converter = new DoubleConverter(dp, RoundingMode.HALF_UP);
+        Assert.assertEquals(halfUp, converter.apply(value));
+    }
+
+    @Test
+    public void sameAsDecimalFormat() {
+        DecimalFormat format = new DecimalFormat("0." + "##########".substring(0, dp),
+                DecimalFormatSymbols.getInstance(Locale.US));
+        Assert.assertEquals(format.format(value), new DoubleConverter(dp).apply(value));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class RyuDoubleTest {
+    private double value;
+    private String expected;
+
+    public RyuDoubleTest(double value, String expected) {
+        this.value = value;
+        this.expected = expected;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {0.0, "0.0"},
+                {-0.0, "-0.0"},
+                {1.0, "1.0"},
+                {-1.5, "-1.5"},
+                {100.0, "100.0"},
+                {0.001, "0.001"},
+                {1.0E-4, "1.0E-4"},
+                {1.0E7, "1.0E7"},
+                {1234567.25, "1234567.25"},
+                {0.1f, "0.10000000149011612"},
+                {1.7976931348623157E308, "1.7976931348623157E308"},
+                {4.9E-324, "4.9E-324"},
+                {Double.NaN, "NaN"},
+                {Double.NEGATIVE_INFINITY, "-Infinity"}
+        });
+    }
+
+    @Test
+    public void doubleToString() {
+        Assert.assertEquals(expected, RyuDouble.doubleToString(value));
+    }
+
+    @Test
+    public void appendDouble() {
+        StringBuilder sb = new StringBuilder("x=");
+        RyuDouble.appendDouble(value, sb);
+        Assert.assertEquals("x=" + expected, sb.toString());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class RyuFloatTest {
+    private float value;
+    private String expected;
+
+    public RyuFloatTest(float value, String expected) {
+        this.value = value;
+        this.expected = expected;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {0f, "0.0"},
+                {-0f, "-0.0"},
+                {1f, "1.0"},
+                {0.1f, "0.1"},
+                {-0.3f, "-0.3"},
+                {1.0E-4f, "1.0E-4"},
+                {1234567f, "1234567.0"},
+                {1.0E7f, "1.0E7"},
+                {3.4028235E38f, "3.4028235E38"},
+                {1.4E-45f, "1.4E-45"},
+                {Float.NaN, "NaN"},
+                {Float.POSITIVE_INFINITY, "Infinity"}
+        });
+    }
+
+    @Test
+    public void floatToString() {
+        Assert.assertEquals(expected, RyuFloat.floatToString(value));
+    }
+
+    @Test
+    public void appendFloat() {
+        StringBuilder sb = new StringBuilder("x=");
+        RyuFloat.appendFloat(value, sb);
+        Assert.assertEquals("x=" + expected, sb.toString());
+    }
+
+    @Test
+    public void converter() {
+        RyuDoubleConverter converter = new RyuDoubleConverter();
+        Assert.assertEquals(expected, converter.apply(value));
+        StringBuilder sb = new StringBuilder();
+        converter.append(sb, value);
+        Assert.assertEquals(expected, sb.toString());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.util.DoubleConverter;
+import com.yf.afreesvg.util.RyuDouble;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare DoubleConverter with the DecimalFormat which it used before,
+ * and with RyuDouble which the canvas uses when no decimal places is set,
+ * every invocation formats 1000 coordinates
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DoubleConverterBenchmark {
+    @Param({"2", "6"})
+    public int dp;
+
+    private double[] values;
+    private DecimalFormat decimalFormat;
+    private DoubleConverter converter;
+    private StringBuilder sb;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        values = new double[1000];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (random.nextDouble() - 0.5) * 2000;
+        }
+        decimalFormat = new DecimalFormat("0." + "##########".substring(0, dp),
+                DecimalFormatSymbols.getInstance(Locale.US));
+        converter = new DoubleConverter(dp);
+        sb = new StringBuilder(values.length * 16);
+    }
+
+    @Benchmark
+    public int decimalFormat() {
+        sb.setLength(0);
+        for (double value : values) {
+            sb.append(decimalFormat.format(value)).append(' ');
+        }
+        return sb.length();
+    }
+
+    @Benchmark
+    public int converterApply() {
+        sb.setLength(0);
+        for (double value : values) {
+            sb.append(converter.apply(value)).append(' ');
+        }
+        return sb.length();
+    }
+
+    /**
+     * The way SVGUtils.appendDouble uses the converter,no string for each value
+     */
+    @Benchmark
+    public int converterAppend() {
+        sb.setLength(0);
+        for (double value : values) {
+            converter.append(sb, value);
+            sb.append(' ');
+        }
+        return sb.length();
+    }
+
+    /**
+     * The shortest digits of the canvas default converter,it not depends on dp
+     */
+    @Benchmark
+    public int ryuAppend() {
+        sb.setLength(0);
+        for (double value : values) {
+            RyuDouble.appendDouble(value, sb);
+            sb.append(' ');
+        }
+        return sb.length();
+    }
+
+    @Benchmark
+    public int doubleToString() {
+        sb.setLength(0);
+        for (double value : values) {
+            sb.append(Double.toString(value)).append(' ');
+        }
+        return sb.length();
+    }
+}
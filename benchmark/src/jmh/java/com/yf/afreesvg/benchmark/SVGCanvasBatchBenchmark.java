@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGBasePaint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw a scatter plot,compare one drawCircle every point with the batch drawCircles and drawPoints
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGCanvasBatchBenchmark {
+    @Param({"10000", "1000000"})
+    public int pointCount;
+
+    private float[] points;
+    private float[] circles;
+    private SVGBasePaint paint;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        points = new float[pointCount * 2];
+        circles = new float[pointCount * 3];
+        for (int i = 0; i < pointCount; ++i) {
+            float x = random.nextFloat() * SVGScene.SIZE;
+            float y = random.nextFloat() * SVGScene.SIZE;
+            points[i * 2] = x;
+            points[i * 2 + 1] = y;
+            circles[i * 3] = x;
+            circles[i * 3 + 1] = y;
+            circles[i * 3 + 2] = 2;
+        }
+        paint = new SVGBasePaint();
+        paint.setFillColor(0x803366cc);
+        paint.setColor(0x803366cc);
+        paint.setStrokeWidth(4);
+    }
+
+    @Benchmark
+    public SVGBaseCanvas drawCircle() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(SVGScene.SIZE, SVGScene.SIZE);
+        for (int i = 0; i < circles.length; i += 3) {
+            canvas.drawCircle(circles[i], circles[i + 1], circles[i + 2], paint);
+        }
+        return canvas;
+    }
+
+    @Benchmark
+    public SVGBaseCanvas drawCircles() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(SVGScene.SIZE, SVGScene.SIZE);
+        canvas.drawCircles(circles, paint);
+        return canvas;
+    }
+
+    @Benchmark
+    public SVGBaseCanvas drawPoints() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(SVGScene.SIZE, SVGScene.SIZE);
+        canvas.drawPoints(points, paint);
+        return canvas;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw and write a zoomed scene,the score is documents per second
+ * <p>
+ * The scene is scaled by zoom around the canvas center,so about 1/(zoom*zoom) of the shapes are visible,
+ * culling compares writing all shapes with {@link SVGBaseCanvas#setCulling(boolean)}.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGCanvasCullBenchmark {
+    @Param({SVGScene.RECT, SVGScene.PATH, SVGScene.MIXED})
+    public String scene;
+
+    @Param({"10000"})
+    public int elementCount;
+
+    @Param({"1", "4"})
+    public float zoom;
+
+    @Param({"false", "true"})
+    public boolean culling;
+
+    private SVGScene svgScene;
+
+    @Setup
+    public void setUp() {
+        svgScene = new SVGScene(scene, elementCount);
+    }
+
+    @Benchmark
+    public String drawAndWrite() throws Exception {
+        SVGBaseCanvas canvas = svgScene.newCanvas();
+        canvas.setCulling(culling);
+        canvas.scale(zoom, zoom, SVGScene.SIZE / 2, SVGScene.SIZE / 2);
+        svgScene.draw(canvas);
+        return canvas.getSVGXmlString();
+    }
+}
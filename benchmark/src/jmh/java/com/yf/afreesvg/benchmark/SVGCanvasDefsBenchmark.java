@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGBasePaint;
+import com.yf.afreesvg.filter.SVGFilter;
+import com.yf.afreesvg.filter.SVGGaussianBlurFilter;
+import com.yf.afreesvg.gradient.SVGBaseLinearGradient;
+import com.yf.afreesvg.gradient.SVGGradient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw rects which use gradient or filter,it measures the defs registration and dedupe
+ * <p>
+ * Every rect has its own gradient or filter object like the user code usually does,
+ * only distinctCount of them are different,so the canvas must find the equal def which is added before.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGCanvasDefsBenchmark {
+    @Param({"gradient", "filter"})
+    public String def;
+
+    @Param({"1", "100"})
+    public int distinctCount;
+
+    @Param({"10000"})
+    public int elementCount;
+
+    private SVGBasePaint[] paints;
+
+    @Setup
+    public void setUp() {
+        paints = new SVGBasePaint[elementCount];
+        for (int i = 0; i < elementCount; ++i) {
+            int k = i % distinctCount;
+            SVGBasePaint paint = new SVGBasePaint();
+            if ("gradient".equals(def)) {
+                paint.setGradient(createGradient(k));
+            } else {
+                paint.setFillColor(0xff336699);
+                paint.setFilter(createFilter(k));
+            }
+            paints[i] = paint;
+        }
+    }
+
+    private static SVGGradient createGradient(int k) {
+        SVGBaseLinearGradient gradient = new SVGBaseLinearGradient(0, 0, 1, k / 100f);
+        gradient.addStopColor(0, 0xffff0000L);
+        gradient.addStopColor(0.5f, 0xff00ff00L + k);
+        gradient.addStopColor(1, 0xff0000ffL);
+        return gradient;
+    }
+
+    private static SVGFilter createFilter(int k) {
+        return new SVGGaussianBlurFilter(1 + k / 10f, 1 + k / 10f);
+    }
+
+    @Benchmark
+    public SVGBaseCanvas draw() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(SVGScene.SIZE, SVGScene.SIZE);
+        for (int i = 0; i < elementCount; ++i) {
+            float x = i % 100 * 10;
+            float y = i / 100 % 100 * 10;
+            canvas.drawRect(x, y, x + 8, y + 8, paints[i]);
+        }
+        return canvas;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw a whole scene into a new canvas,the score is scenes per second
+ * <p>
+ * It measures the draw path,shape object,style string,transform and clip attrs and dom element,
+ * run with the gc profiler to see the allocation of each element.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGCanvasDrawBenchmark {
+    @Param({SVGScene.LINE, SVGScene.RECT, SVGScene.PATH, SVGScene.MIXED})
+    public String scene;
+
+    @Param({"1000", "10000"})
+    public int elementCount;
+
+    private SVGScene svgScene;
+    private SVGBaseCanvas saveCanvas;
+
+    @Setup
+    public void setUp() throws Exception {
+        svgScene = new SVGScene(scene, elementCount);
+        saveCanvas = svgScene.newCanvas();
+    }
+
+    @Benchmark
+    public SVGBaseCanvas draw() throws Exception {
+        SVGBaseCanvas canvas = svgScene.newCanvas();
+        svgScene.draw(canvas);
+        return canvas;
+    }
+
+    /**
+     * Save,transform and restore elementCount times,it draws nothing
+     */
+    @Benchmark
+    public int saveRestore() {
+        SVGBaseCanvas canvas = saveCanvas;
+        for (int i = 0; i < elementCount; ++i) {
+            canvas.save();
+            canvas.translate(1, 1);
+            canvas.restore();
+        }
+        return canvas.getSaveCount();
+    }
+}
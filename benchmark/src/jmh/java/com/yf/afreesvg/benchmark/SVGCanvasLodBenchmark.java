@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw and write a zoomed out overview,the score is documents per second
+ * <p>
+ * The scene is scaled by 1/zoomOut,and the document is shown in {@link SVGScene#SIZE} pixels,
+ * lod compares drawing all details with {@link SVGBaseCanvas#setLevelOfDetail(float)} of one pixel.
+ * The output size is reported by {@link Output}.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGCanvasLodBenchmark {
+    @Param({SVGScene.RECT, SVGScene.PATH, SVGScene.MIXED})
+    public String scene;
+
+    @Param({"10000"})
+    public int elementCount;
+
+    @Param({"10", "100"})
+    public float zoomOut;
+
+    @Param({"false", "true"})
+    public boolean lod;
+
+    private SVGScene svgScene;
+
+    /**
+     * The output size counter,it is set not added,so the result is the size of one document
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Output {
+        public long outputBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        svgScene = new SVGScene(scene, elementCount);
+    }
+
+    @Benchmark
+    public String drawAndWrite(Output output) throws Exception {
+        SVGBaseCanvas canvas = svgScene.newCanvas();
+        canvas.setLevelOfDetail(lod ? 1 : 0);
+        canvas.scale(1 / zoomOut, 1 / zoomOut);
+        svgScene.draw(canvas);
+        String s = canvas.getSVGXmlString();
+        output.outputBytes = s.length();
+        return s;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw and write a small svg per request,the score is requests per second
+ * <p>
+ * {@link #create()} creates a canvas every request,{@link #reset()} reuses one canvas by
+ * {@link SVGBaseCanvas#reset(double, double)},the difference is the saving of pooling canvases.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGCanvasResetBenchmark {
+    @Param({"0", "10", "100"})
+    public int elementCount;
+
+    private SVGScene svgScene;
+    private SVGBaseCanvas pooled;
+
+    @Setup
+    public void setUp() throws Exception {
+        svgScene = new SVGScene(SVGScene.MIXED, elementCount);
+        pooled = svgScene.newCanvas();
+    }
+
+    @Benchmark
+    public String create() throws Exception {
+        SVGBaseCanvas canvas = svgScene.newCanvas();
+        svgScene.draw(canvas);
+        return canvas.getSVGXmlString();
+    }
+
+    @Benchmark
+    public String reset() throws Exception {
+        pooled.reset(SVGScene.SIZE, SVGScene.SIZE);
+        pooled.setDefsKeySeed(0);
+        svgScene.draw(pooled);
+        return pooled.getSVGXmlString();
+    }
+}
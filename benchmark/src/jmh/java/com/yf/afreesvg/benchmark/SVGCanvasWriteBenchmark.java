@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialize a large drawn canvas,the score is documents per second
+ * <p>
+ * The output size is reported by {@link Output},bytesPerElement is the UTF-8 size divided by the element count,
+ * so the size change of a release can be seen with the speed.
+ * styleClass compares the inline styles with {@link SVGBaseCanvas#setUseStyleClass(boolean)},
+ * bakeTransform compares the transform attributes of mixed scene with {@link SVGBaseCanvas#setBakeTransform(boolean)}.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGCanvasWriteBenchmark {
+    @Param({SVGScene.LINE, SVGScene.RECT, SVGScene.PATH, SVGScene.MIXED})
+    public String scene;
+
+    @Param({"10000", "100000"})
+    public int elementCount;
+
+    @Param({"false", "true"})
+    public boolean styleClass;
+
+    @Param({"false", "true"})
+    public boolean bakeTransform;
+
+    private SVGBaseCanvas canvas;
+    private ByteArrayOutputStream outputStream;
+    /**
+     * The UTF-8 size of the xml string,it is encoded once in setup,so the encoding is not measured
+     */
+    private int xmlStringBytes;
+
+    /**
+     * The output size counters,they are set not added,so the result is the size of one document
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Output {
+        public long outputBytes;
+        public double bytesPerElement;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        SVGScene svgScene = new SVGScene(scene, elementCount);
+        canvas = svgScene.newCanvas();
+        canvas.setUseStyleClass(styleClass);
+        canvas.setBakeTransform(bakeTransform);
+        svgScene.draw(canvas);
+        outputStream = new ByteArrayOutputStream(elementCount * 128);
+        xmlStringBytes = canvas.getSVGXmlString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public String getSVGXmlString(Output output) throws Exception {
+        String s = canvas.getSVGXmlString();
+        output.outputBytes = xmlStringBytes;
+        output.bytesPerElement = (double) xmlStringBytes / elementCount;
+        return s;
+    }
+
+    @Benchmark
+    public int writeSVGXMLToStream(Output output) throws Exception {
+        outputStream.reset();
+        canvas.writeSVGXMLToStream(outputStream);
+        output.outputBytes = outputStream.size();
+        output.bytesPerElement = (double) outputStream.size() / elementCount;
+        return outputStream.size();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGMappedPicture;
+import com.yf.afreesvg.SVGPicture;
+import com.yf.afreesvg.SVGRecordingCanvas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw the picture mapped from file,the score is scenes per second
+ * <p>
+ * Compare it with {@link SVGPictureBenchmark#replay()} to see the cost of reading the binary ops.
+ * The mixed scene has gradient,which can not be written,so it is not measured.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGMappedPictureBenchmark {
+    @Param({SVGScene.LINE, SVGScene.RECT, SVGScene.PATH})
+    public String scene;
+
+    @Param({"1000", "10000"})
+    public int elementCount;
+
+    private SVGScene svgScene;
+    private File file;
+    private SVGMappedPicture picture;
+
+    @Setup
+    public void setUp() throws IOException {
+        svgScene = new SVGScene(scene, elementCount);
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(SVGScene.SIZE, SVGScene.SIZE);
+        svgScene.record(recorder);
+        SVGPicture recorded = recorder.finishRecording();
+        file = File.createTempFile("picture", ".bin");
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            recorded.writeTo(out);
+        } finally {
+            out.close();
+        }
+        picture = SVGMappedPicture.map(file);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public SVGBaseCanvas replay() throws Exception {
+        SVGBaseCanvas canvas = svgScene.newCanvas();
+        picture.draw(canvas);
+        return canvas;
+    }
+}
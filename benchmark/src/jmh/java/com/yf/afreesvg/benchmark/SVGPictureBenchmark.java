@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGPicture;
+import com.yf.afreesvg.SVGRecordingCanvas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record a whole scene into {@link SVGPicture} and replay it,the score is scenes per second
+ * <p>
+ * Compare record with {@link SVGCanvasDrawBenchmark#draw()} to see the cost of the dom,
+ * and replay with it to see the cost of the op buffer.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SVGPictureBenchmark {
+    @Param({SVGScene.LINE, SVGScene.PATH, SVGScene.MIXED})
+    public String scene;
+
+    @Param({"1000", "10000"})
+    public int elementCount;
+
+    private SVGScene svgScene;
+    private SVGPicture picture;
+
+    @Setup
+    public void setUp() {
+        svgScene = new SVGScene(scene, elementCount);
+        picture = record();
+    }
+
+    @Benchmark
+    public SVGPicture record() {
+        SVGRecordingCanvas recorder = new SVGRecordingCanvas(SVGScene.SIZE, SVGScene.SIZE);
+        svgScene.record(recorder);
+        return recorder.finishRecording();
+    }
+
+    @Benchmark
+    public SVGBaseCanvas replay() throws Exception {
+        SVGBaseCanvas canvas = svgScene.newCanvas();
+        picture.draw(canvas);
+        return canvas;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGBaseCanvas;
+import com.yf.afreesvg.SVGBasePaint;
+import com.yf.afreesvg.SVGRecordingCanvas;
+import com.yf.afreesvg.gradient.SVGBaseLinearGradient;
+import com.yf.afreesvg.shape.SVGPath;
+
+import java.util.Random;
+
+/**
+ * The drawing workload shared by the canvas benchmarks
+ * <p>
+ * The coordinates,paths and paints are created once,so the benchmarks only measure the canvas.
+ * The type is one of {@link #LINE},{@link #RECT},{@link #PATH},{@link #MIXED}.
+ * </p>
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+final class SVGScene {
+    static final String LINE = "line";
+    static final String RECT = "rect";
+    static final String PATH = "path";
+    /**
+     * lines,filled rects,paths and gradient rects,with a transform every 50 elements
+     */
+    static final String MIXED = "mixed";
+
+    static final float SIZE = 1000;
+
+    private final String type;
+    private final int elementCount;
+    private final float[] coords;
+    private final SVGPath[] paths;
+    private final SVGBasePaint strokePaint;
+    private final SVGBasePaint fillPaint;
+    private final SVGBasePaint gradientPaint;
+
+    SVGScene(String type, int elementCount) {
+        this.type = type;
+        this.elementCount = elementCount;
+        Random random = new Random(1);
+        coords = new float[elementCount * 4];
+        for (int i = 0; i < coords.length; ++i) {
+            coords[i] = random.nextFloat() * SIZE;
+        }
+        paths = new SVGPath[PATH.equals(type) || MIXED.equals(type) ? elementCount : 0];
+        for (int i = 0; i < paths.length; ++i) {
+            SVGPath path = new SVGPath();
+            float x = coords[i * 4], y = coords[i * 4 + 1];
+            path.moveTo(x, y);
+            for (int j = 0; j < 8; ++j) {
+                path.lineTo(x + random.nextFloat() * 50, y + random.nextFloat() * 50);
+            }
+            path.closePath();
+            paths[i] = path;
+        }
+
+        strokePaint = new SVGBasePaint();
+        strokePaint.setFill(false);
+        strokePaint.setStroke(true);
+        strokePaint.setStrokeWidth(1.5f);
+        strokePaint.setColor(0xff3366cc);
+
+        fillPaint = new SVGBasePaint();
+        fillPaint.setFillColor(0x80cc3333);
+
+        SVGBaseLinearGradient gradient = new SVGBaseLinearGradient(0, 0, 1, 1);
+        gradient.addStopColor(0, 0xffff0000L);
+        gradient.addStopColor(1, 0xff0000ffL);
+        gradientPaint = new SVGBasePaint();
+        gradientPaint.setGradient(gradient);
+    }
+
+    int getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Create the canvas with a fixed defs seed,so the output size is same in every run
+     */
+    SVGBaseCanvas newCanvas() throws Exception {
+        SVGBaseCanvas canvas = new SVGBaseCanvas(SIZE, SIZE);
+        canvas.setDefsKeySeed(0);
+        return canvas;
+    }
+
+    void draw(SVGBaseCanvas canvas) {
+        for (int i = 0; i < elementCount; ++i) {
+            int c = i * 4;
+            switch (type) {
+                case LINE:
+                    canvas.drawLine(coords[c], coords[c + 1], coords[c + 2], coords[c + 3], strokePaint);
+                    break;
+                case RECT:
+                    drawRect(canvas, c, fillPaint);
+                    break;
+                case PATH:
+                    canvas.drawPath(paths[i], strokePaint);
+                    break;
+                default:
+                    if (i % 50 == 0) {
+                        canvas.restoreToCount(0);
+                        canvas.save();
+                        canvas.translate(coords[c] / 10, coords[c + 1] / 10);
+                    }
+                    switch (i & 3) {
+                        case 0:
+                            canvas.drawLine(coords[c], coords[c + 1], coords[c + 2], coords[c + 3], strokePaint);
+                            break;
+                        case 1:
+                            drawRect(canvas, c, fillPaint);
+                            break;
+                        case 2:
+                            canvas.drawPath(paths[i], strokePaint);
+                            break;
+                        default:
+                            drawRect(canvas, c, gradientPaint);
+                            break;
+                    }
+            }
+        }
+        if (MIXED.equals(type))
+            canvas.restoreToCount(0);
+    }
+
+    /**
+     * Record the same ops as {@link #draw(SVGBaseCanvas)}
+     */
+    void record(SVGRecordingCanvas recorder) {
+        for (int i = 0; i < elementCount; ++i) {
+            int c = i * 4;
+            switch (type) {
+                case LINE:
+                    recorder.drawLine(coords[c], coords[c + 1], coords[c + 2], coords[c + 3], strokePaint);
+                    break;
+                case RECT:
+                    recordRect(recorder, c, fillPaint);
+                    break;
+                case PATH:
+                    recorder.drawPath(paths[i], strokePaint);
+                    break;
+                default:
+                    if (i % 50 == 0) {
+                        recorder.restoreToCount(0);
+                        recorder.save();
+                        recorder.translate(coords[c] / 10, coords[c + 1] / 10);
+                    }
+                    switch (i & 3) {
+                        case 0:
+                            recorder.drawLine(coords[c], coords[c + 1], coords[c + 2], coords[c + 3], strokePaint);
+                            break;
+                        case 1:
+                            recordRect(recorder, c, fillPaint);
+                            break;
+                        case 2:
+                            recorder.drawPath(paths[i], strokePaint);
+                            break;
+                        default:
+                            recordRect(recorder, c, gradientPaint);
+                            break;
+                    }
+            }
+        }
+        if (MIXED.equals(type))
+            recorder.restoreToCount(0);
+    }
+
+    private void recordRect(SVGRecordingCanvas recorder, int c, SVGBasePaint paint) {
+        float x = coords[c], y = coords[c + 1];
+        recorder.drawRect(x, y, x + coords[c + 2] / 10, y + coords[c + 3] / 10, paint);
+    }
+
+    private void drawRect(SVGBaseCanvas canvas, int c, SVGBasePaint paint) {
+        float x = coords[c], y = coords[c + 1];
+        canvas.drawRect(x, y, x + coords[c + 2] / 10, y + coords[c + 3] / 10, paint);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022.  by iffly Limited.  All rights reserved.
+ * This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ */
+
+package com.yf.afreesvg.benchmark;
+
+import com.yf.afreesvg.SVGXmlSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+/**
+ * Compare the svg xml serializer with the identity transformer which SVGCanvas used before
+ *
+ * @author iffly
+ * @since 0.0.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SVGXmlSerializeBenchmark {
+    private static final String DOCTYPE_PUBLIC_ID = "-//W3C//DTD SVG 1.0//EN";
+    private static final String DOCTYPE_SYSTEM_ID = "http://www.w3.org/TR/2001/REC-SVG-20010904/DTD/svg10.dtd";
+
+    @Param({"100", "10000"})
+    public int elementCount;
+
+    private Document document;
+
+    /**
+     * Build a document like the SVGCanvas output,a gradient def and the rect,path,text elements
+     */
+    @Setup
+    public void setUp() throws Exception {
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        document.setXmlStandalone(true);
+        Element svg = document.createElement("svg");
+        svg.setAttribute("xmlns", "http://www.w3.org/2000/svg");
+        svg.setAttribute("xmlns:xlink", "http://www.w3.org/1999/xlink");
+        svg.setAttribute("width", "500");
+        svg.setAttribute("height", "500");
+        document.appendChild(svg);
+
+        Element defs = document.createElement("defs");
+        Element gradient = document.createElement("linearGradient");
+        gradient.setAttribute("id", "gp0");
+        Element stop = document.createElement("stop");
+        stop.setAttribute("offset", "0");
+        stop.setAttribute("style", "stop-color: rgb(255,0,0);stop-opacity: 1.0");
+        gradient.appendChild(stop);
+        defs.appendChild(gradient);
+        svg.appendChild(defs);
+
+        Element g = document.createElement("g");
+        svg.appendChild(g);
+        for (int i = 0; i < elementCount; ++i) {
+            Element element;
+            switch (i % 3) {
+                case 0:
+                    element = document.createElement("rect");
+                    element.setAttribute("x", Double.toString(i * 0.5));
+                    element.setAttribute("y", "10.25");
+                    element.setAttribute("width", "100");
+                    element.setAttribute("height", "50.5");
+                    element.setAttribute("style", "fill: url(#gp0);fill-opacity: 1.0;stroke: none");
+                    break;
+                case 1:
+                    element = document.createElement("path");
+                    element.setAttribute("d", "M" + i + " 200 L300 " + i + " Q150 250 200 400 Z");
+                    element.setAttribute("style", "fill: none;stroke-width: 2.0;stroke: rgb(255,0,0);stroke-opacity: 1.0");
+                    element.setAttribute("transform", "matrix(1,0,0,1,10,10)");
+                    break;
+                default:
+                    element = document.createElement("text");
+                    element.setAttribute("x", "10");
+                    element.setAttribute("y", Integer.toString(i));
+                    element.setAttribute("style", "fill: rgb(0,0,0);font-size: 12.0px");
+                    element.setTextContent("text <" + i + "> & more");
+                    break;
+            }
+            g.appendChild(element);
+        }
+    }
+
+    /**
+     * The way of SVGCanvas before,a new transformer every call
+     */
+    @Benchmark
+    public byte[] transformer() throws Exception {
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
+        transformer.setOutputProperty(OutputKeys.METHOD, "xml");
+        transformer.setOutputProperty(OutputKeys.DOCTYPE_PUBLIC, DOCTYPE_PUBLIC_ID);
+        transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, DOCTYPE_SYSTEM_ID);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        transformer.transform(new DOMSource(document), new StreamResult(outputStream));
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serializer() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new SVGXmlSerializer(outputStream).writeDocument(document, DOCTYPE_PUBLIC_ID, DOCTYPE_SYSTEM_ID);
+        return outputStream.toByteArray();
+    }
+}